@@ -0,0 +1,285 @@
+package simulator;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.PCB;
+import simulator.core.Scheduler;
+import simulator.core.SchedulerCheckpoint;
+import simulator.core.SchedulerPhase;
+import simulator.core.SchedulerProfiler;
+import simulator.core.SchedulerStatus;
+import simulator.io.ConfigManager;
+import simulator.io.SimulationConfig;
+import simulator.io.ArrivalSource;
+import simulator.io.WorkloadGenerator;
+import simulator.io.WorkloadLoader;
+import simulator.structures.CustomList;
+import simulator.structures.LatencyHistogram;
+import simulator.utils.EventLog;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Punto de entrada sin interfaz gráfica: ejecuta la simulación lo más rápido
+ * posible e imprime las métricas finales.
+ * Uso: HeadlessSimulator <config.csv> <carga.csv> [maxCiclos] [--event-driven] [--compact] [--trace | --generate]
+ *          [--checkpoint archivo [--checkpoint-every N]] [--profile latencias.csv]
+ *      HeadlessSimulator --restore archivo [traza | perfil] [maxCiclos] [--trace | --generate] [--event-driven]
+ *          [--compact] [--checkpoint archivo [--checkpoint-every N]] [--profile latencias.csv]
+ * Con --event-driven los ciclos sin eventos se avanzan en bloque.
+ * Con --trace el segundo archivo es una traza de llegadas, de texto o binaria
+ * que se reproduce a medida que avanza la simulación.
+ * Con --generate el segundo archivo es un perfil de carga sintética (ver
+ * WorkloadProfile) que se genera en vivo con su semilla.
+ * Con --compact los procesos terminados no se conservan: sólo cuentan en las
+ * métricas y su fila de la tabla de procesos se reutiliza. Con --restore
+ * vale para los que terminen desde ahí; los que el checkpoint ya conservaba
+ * se quedan.
+ * Con --checkpoint se guarda el estado completo al terminar y, con
+ * --checkpoint-every, además cada N ciclos. --restore retoma la simulación
+ * desde un checkpoint; si tenía una traza de llegadas activa, se indica otra
+ * vez con --trace o --generate y se sigue desde el registro donde quedó.
+ * Con --profile se mide la latencia de cada fase del ciclo y del mutex, y el
+ * resumen por fase (percentiles en nanosegundos) se guarda en el archivo.
+ * Mientras corre, el planificador se puede seguir por JMX (simulator:type=Scheduler).
+ */
+public class HeadlessSimulator {
+
+    public static void main(String[] args) {
+        CustomList<String> positional = new CustomList<>();
+        boolean eventDriven = false;
+        boolean compact = false;
+        boolean trace = false;
+        boolean generate = false;
+        String checkpointFile = null;
+        long checkpointEvery = 0;
+        String restoreFile = null;
+        String profileFile = null;
+        String logFile = null;
+        EventLog.Level logLevel = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            boolean hasValue = i + 1 < args.length;
+            if ("--event-driven".equals(arg)) {
+                eventDriven = true;
+            } else if ("--compact".equals(arg)) {
+                compact = true;
+            } else if ("--trace".equals(arg)) {
+                trace = true;
+            } else if ("--generate".equals(arg)) {
+                generate = true;
+            } else if ("--checkpoint".equals(arg) && hasValue) {
+                checkpointFile = args[++i];
+            } else if ("--checkpoint-every".equals(arg) && hasValue) {
+                checkpointEvery = Long.parseLong(args[++i]);
+            } else if ("--restore".equals(arg) && hasValue) {
+                restoreFile = args[++i];
+            } else if ("--profile".equals(arg) && hasValue) {
+                profileFile = args[++i];
+            } else if ("--log".equals(arg) && hasValue) {
+                logFile = args[++i];
+            } else if ("--log-level".equals(arg) && hasValue) {
+                logLevel = EventLog.Level.valueOf(args[++i].toUpperCase());
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (restoreFile == null && positional.size() < 2) {
+            System.err.println("Uso: HeadlessSimulator <config.csv> <carga.csv> [maxCiclos] [--event-driven] [--compact] [--trace | --generate]"
+                    + " [--checkpoint archivo [--checkpoint-every N]] [--profile latencias.csv] [--log eventos.csv] [--log-level NIVEL]");
+            System.err.println("     HeadlessSimulator --restore archivo [traza | perfil] [maxCiclos] [--trace | --generate] [--event-driven]"
+                    + " [--compact] [--checkpoint archivo [--checkpoint-every N]] [--profile latencias.csv] [--log eventos.csv] [--log-level NIVEL]");
+            System.exit(1);
+        }
+
+        try {
+            Scheduler scheduler;
+            long maxCycles;
+            if (restoreFile != null) {
+                SchedulerCheckpoint checkpoint = SchedulerCheckpoint.read(restoreFile);
+                scheduler = Scheduler.restore(checkpoint);
+                if (logLevel == null) {
+                    logLevel = checkpoint.getConfig().getLogLevel();
+                }
+                if (logFile == null) {
+                    logFile = checkpoint.getConfig().getLogFile();
+                }
+                if (eventDriven) {
+                    scheduler.setEventDriven(true);
+                }
+                if (compact) {
+                    scheduler.setRetainTerminated(false);
+                }
+                int next = 0;
+                if (trace || generate) {
+                    if (positional.isEmpty()) {
+                        throw new IllegalArgumentException("falta la traza o el perfil de carga a retomar");
+                    }
+                    String source = positional.get(next++);
+                    if (scheduler.isArrivalSourcePendingResume()) {
+                        scheduler.resumeArrivalSource(openArrivalSource(source, generate));
+                    } else {
+                        System.err.println("WARN: el checkpoint no tenía una traza de llegadas activa; se ignora " + source);
+                    }
+                } else if (scheduler.isArrivalSourcePendingResume()) {
+                    System.err.println("WARN: el checkpoint tenía una traza de llegadas activa; "
+                            + "indíquela con --trace o --generate para retomarla.");
+                }
+                maxCycles = positional.size() > next ? Long.parseLong(positional.get(next)) : 0;
+                System.out.println("Checkpoint restaurado: ciclo " + checkpoint.getGlobalCycle() + ", "
+                        + checkpoint.getProcessCount() + " procesos");
+            } else {
+                SimulationConfig config = new ConfigManager().loadSimulationConfig(positional.get(0));
+                maxCycles = positional.size() > 2 ? Long.parseLong(positional.get(2)) : 0;
+                if (compact) {
+                    config.setRetainTerminated(false);
+                }
+                if (logLevel == null) {
+                    logLevel = config.getLogLevel();
+                }
+                if (logFile == null) {
+                    logFile = config.getLogFile();
+                }
+
+                scheduler = new Scheduler(config);
+                scheduler.setEventDriven(eventDriven);
+                if (trace || generate) {
+                    scheduler.setArrivalSource(openArrivalSource(positional.get(1), generate));
+                } else {
+                    CustomList<PCB> workload = new WorkloadLoader().loadWorkload(positional.get(1), scheduler);
+                    for (int i = 0; i < workload.size(); i++) {
+                        scheduler.addProcess(workload.get(i));
+                    }
+                }
+            }
+
+            EventLog.configure(logLevel, logFile);
+            if (profileFile != null) {
+                scheduler.setProfiling(true);
+            }
+            scheduler.registerMBean();
+            long start = System.nanoTime();
+            long cycles = checkpointFile != null
+                    ? runWithCheckpoints(scheduler, maxCycles, checkpointFile, checkpointEvery)
+                    : scheduler.runHeadless(maxCycles);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Lo registrado durante la corrida sale antes que el resumen
+            EventLog.close();
+            printResults(scheduler, cycles, elapsedMs);
+            if (profileFile != null) {
+                scheduler.setProfiling(false);
+                printProfile(scheduler.getProfileSnapshot(), profileFile);
+            }
+        } catch (Exception e) {
+            System.err.println("Error en la simulación sin GUI: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static ArrivalSource openArrivalSource(String filePath, boolean generate) throws Exception {
+        if (generate) {
+            return new WorkloadGenerator(new ConfigManager().loadWorkloadProfile(filePath));
+        }
+        return ArrivalSource.open(filePath);
+    }
+
+    /**
+     * Corre la simulación en tramos de every ciclos (uno solo si es 0) y
+     * guarda un checkpoint al final de cada tramo. La simulación sólo se
+     * detiene mientras se copia el estado; la escritura va en otro hilo y,
+     * si la anterior aún no terminó, se la espera antes de lanzar la nueva.
+     * @return ciclos ejecutados
+     */
+    private static long runWithCheckpoints(Scheduler scheduler, long maxCycles, String filePath, long every)
+            throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<?> pendingWrite = null;
+        long total = 0;
+        long maxPauseNanos = 0;
+        int count = 0;
+        try {
+            boolean finished = false;
+            while (!finished) {
+                long step = every > 0 ? every : 0;
+                if (maxCycles > 0) {
+                    step = step > 0 ? Math.min(step, maxCycles - total) : maxCycles - total;
+                }
+                long ran = scheduler.runHeadless(step);
+                total += ran;
+                finished = step == 0 || ran < step || !scheduler.hasPendingWork()
+                        || (maxCycles > 0 && total >= maxCycles);
+
+                long pauseStart = System.nanoTime();
+                SchedulerCheckpoint checkpoint = scheduler.checkpoint();
+                maxPauseNanos = Math.max(maxPauseNanos, System.nanoTime() - pauseStart);
+                if (pendingWrite != null) {
+                    pendingWrite.get();
+                }
+                pendingWrite = writer.submit(() -> {
+                    checkpoint.write(filePath);
+                    return null;
+                });
+                count++;
+            }
+            pendingWrite.get();
+        } finally {
+            writer.shutdown();
+        }
+        System.out.println(String.format("Checkpoints guardados: %d en %s (copia más lenta: %.2f ms)",
+                count, filePath, maxPauseNanos / 1e6));
+        return total;
+    }
+
+    /**
+     * Guarda el resumen de latencias e imprime las fases que se midieron.
+     */
+    private static void printProfile(SchedulerProfiler profile, String filePath) throws Exception {
+        profile.writeCsv(filePath);
+        System.out.println(String.format("%-22s %12s %10s %10s %10s %10s", "Fase (us)", "Muestras",
+                "p50", "p99", "p99.9", "Máx"));
+        for (SchedulerPhase phase : SchedulerPhase.values()) {
+            LatencyHistogram histogram = profile.getHistogram(phase);
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            System.out.println(String.format("%-22s %12d %10.2f %10.2f %10.2f %10.2f", phase.getLabel(),
+                    histogram.getCount(), histogram.getValueAtPercentile(50) / 1e3,
+                    histogram.getValueAtPercentile(99) / 1e3, histogram.getValueAtPercentile(99.9) / 1e3,
+                    histogram.getMax() / 1e3));
+        }
+        System.out.println("Latencias guardadas en " + filePath);
+    }
+
+    /**
+     * Resumen de la corrida. El throughput es por ciclo simulado (como en
+     * ParameterSweep) y no por segundo de reloj, que sin pausas entre ciclos
+     * no dice nada de la política. Las métricas salen ordenadas por nombre
+     * para poder comparar salidas con diff.
+     */
+    private static void printResults(Scheduler scheduler, long cycles, long elapsedMs) {
+        SchedulerStatus status = scheduler.getStatusSnapshot();
+        Map<String, Double> metrics = new TreeMap<>(scheduler.getPerformanceMetricsSnapshot());
+        metrics.remove("Throughput");
+        System.out.println("=========================================");
+        System.out.println("Algoritmo: " + scheduler.getAlgorithmSnapshot());
+        System.out.println("Ciclos simulados: " + cycles + " (" + elapsedMs + " ms)");
+        System.out.println("Procesos terminados: " + status.getCompletedProcesses());
+        System.out.println(String.format("Throughput_Per_Cycle: %.6f", status.getGlobalCycle() > 0
+                ? (double) status.getCompletedProcesses() / status.getGlobalCycle() : 0));
+        for (Map.Entry<String, Double> entry : metrics.entrySet()) {
+            System.out.println(String.format("%s: %.4f", entry.getKey(), entry.getValue()));
+        }
+        System.out.println("=========================================");
+    }
+}
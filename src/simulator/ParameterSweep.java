@@ -0,0 +1,278 @@
+package simulator;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.PCB;
+import simulator.core.Scheduler;
+import simulator.core.SchedulingAlgorithm;
+import simulator.io.ArrivalSource;
+import simulator.io.ConfigManager;
+import simulator.io.SimulationConfig;
+import simulator.io.WorkloadGenerator;
+import simulator.io.WorkloadLoader;
+import simulator.io.WorkloadProfile;
+import simulator.structures.CustomList;
+import simulator.utils.EventLog;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Ejecuta la misma carga con cada combinación de una grilla de parámetros
+ * (algoritmo, memoria, quantum y núcleos). Cada combinación es un Scheduler
+ * independiente sin GUI, y las combinaciones corren en paralelo en un
+ * ForkJoinPool con un hilo por núcleo del equipo.
+ * Uso: ParameterSweep <config.csv> <carga> [--trace | --generate]
+ *      [--algorithms FCFS,RR,...] [--memory 256,1024] [--quantum 2,4,8]
+ *      [--cpus 1,2,4] [--max-cycles N] [--event-driven] [--out resultados.csv]
+ * Los valores que no se barren salen de config.csv; sin --algorithms se
+ * prueban todos los algoritmos.
+ */
+public class ParameterSweep {
+
+    private static final String LIST_DELIMITER = ",";
+    private static final String DELIMITER = ";";
+
+    /**
+     * Resultado de una combinación de la grilla.
+     */
+    private static final class SweepResult {
+        private final SimulationConfig config;
+        private final long cycles;
+        private final int completed;
+        private final Map<String, Double> metrics;
+        private final long elapsedMs;
+
+        SweepResult(SimulationConfig config, long cycles, int completed, Map<String, Double> metrics, long elapsedMs) {
+            this.config = config;
+            this.cycles = cycles;
+            this.completed = completed;
+            this.metrics = metrics;
+            this.elapsedMs = elapsedMs;
+        }
+
+        /**
+         * Procesos terminados por ciclo simulado (no depende del reloj real).
+         */
+        double throughput() {
+            return cycles > 0 ? (double) completed / cycles : 0;
+        }
+
+        double metric(String key) {
+            Double value = metrics.get(key);
+            return value != null ? value : 0;
+        }
+    }
+
+    public static void main(String[] args) {
+        CustomList<String> positional = new CustomList<>();
+        String algorithms = null;
+        String memory = null;
+        String quantum = null;
+        String cpus = null;
+        String outFile = null;
+        long maxCycles = 0;
+        boolean trace = false;
+        boolean generate = false;
+        boolean eventDriven = false;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            boolean hasValue = i + 1 < args.length;
+            if ("--trace".equals(arg)) {
+                trace = true;
+            } else if ("--generate".equals(arg)) {
+                generate = true;
+            } else if ("--event-driven".equals(arg)) {
+                eventDriven = true;
+            } else if ("--algorithms".equals(arg) && hasValue) {
+                algorithms = args[++i];
+            } else if ("--memory".equals(arg) && hasValue) {
+                memory = args[++i];
+            } else if ("--quantum".equals(arg) && hasValue) {
+                quantum = args[++i];
+            } else if ("--cpus".equals(arg) && hasValue) {
+                cpus = args[++i];
+            } else if ("--max-cycles".equals(arg) && hasValue) {
+                maxCycles = Long.parseLong(args[++i]);
+            } else if ("--out".equals(arg) && hasValue) {
+                outFile = args[++i];
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() < 2) {
+            System.err.println("Uso: ParameterSweep <config.csv> <carga> [--trace | --generate] "
+                    + "[--algorithms FCFS,RR,...] [--memory 256,1024] [--quantum 2,4,8] [--cpus 1,2,4] "
+                    + "[--max-cycles N] [--event-driven] [--out resultados.csv]");
+            System.exit(1);
+        }
+
+        try {
+            ConfigManager configManager = new ConfigManager();
+            SimulationConfig base = configManager.loadSimulationConfig(positional.get(0));
+            String workload = positional.get(1);
+            WorkloadProfile profile = generate ? configManager.loadWorkloadProfile(workload) : null;
+
+            CustomList<SimulationConfig> grid = buildGrid(base,
+                    algorithms != null ? parseAlgorithms(algorithms) : SchedulingAlgorithm.values(),
+                    memory != null ? parseInts(memory) : new int[]{base.getTotalMemory()},
+                    quantum != null ? parseInts(quantum) : new int[]{base.getTimeQuantum()},
+                    cpus != null ? parseInts(cpus) : new int[]{base.getCpuCount()});
+
+            // Las transiciones de cada corrida no interesan en un barrido;
+            // sólo se registran advertencias y errores.
+            EventLog.setLevel(EventLog.Level.WARN);
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            long start = System.nanoTime();
+            CustomList<SweepResult> results;
+            try {
+                CustomList<ForkJoinTask<SweepResult>> tasks = new CustomList<>();
+                for (int i = 0; i < grid.size(); i++) {
+                    SimulationConfig config = grid.get(i);
+                    final long cycleLimit = maxCycles;
+                    final boolean isTrace = trace;
+                    final boolean isEventDriven = eventDriven;
+                    tasks.add(pool.submit(() -> runOne(config, workload, isTrace, profile, cycleLimit, isEventDriven)));
+                }
+                results = new CustomList<>(grid.size());
+                for (int i = 0; i < tasks.size(); i++) {
+                    results.add(tasks.get(i).join());
+                }
+            } finally {
+                pool.shutdown();
+                EventLog.flush();
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            printTable(results);
+            System.out.println(grid.size() + " combinaciones en " + elapsedMs + " ms con " + parallelism + " hilos");
+            if (outFile != null) {
+                writeCsv(outFile, results);
+                System.out.println("Resultados guardados en " + outFile);
+            }
+        } catch (Exception e) {
+            System.err.println("Error en el barrido de parámetros: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Una corrida completa con su propio Scheduler, su tabla de procesos y su
+     * copia de la carga.
+     */
+    private static SweepResult runOne(SimulationConfig config, String workload, boolean trace,
+            WorkloadProfile profile, long maxCycles, boolean eventDriven) throws Exception {
+        Scheduler scheduler = new Scheduler(config);
+        scheduler.setEventDriven(eventDriven);
+        if (profile != null) {
+            scheduler.setArrivalSource(new WorkloadGenerator(profile));
+        } else if (trace) {
+            scheduler.setArrivalSource(ArrivalSource.open(workload));
+        } else {
+            CustomList<PCB> processes = new WorkloadLoader().loadWorkload(workload, scheduler);
+            for (int i = 0; i < processes.size(); i++) {
+                scheduler.addProcess(processes.get(i));
+            }
+        }
+        long start = System.nanoTime();
+        long cycles = scheduler.runHeadless(maxCycles);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        scheduler.shutdown();
+        return new SweepResult(config, cycles, scheduler.getCompletedProcessCount(),
+                scheduler.getPerformanceMetricsSnapshot(), elapsedMs);
+    }
+
+    private static CustomList<SimulationConfig> buildGrid(SimulationConfig base, SchedulingAlgorithm[] algorithms,
+            int[] memories, int[] quanta, int[] cpuCounts) {
+        CustomList<SimulationConfig> grid = new CustomList<>();
+        for (SchedulingAlgorithm algorithm : algorithms) {
+            for (int memory : memories) {
+                for (int quantum : quanta) {
+                    for (int cpuCount : cpuCounts) {
+                        SimulationConfig config = new SimulationConfig(memory, algorithm, base.getInitialCycleDuration());
+                        config.setCpuCount(cpuCount);
+                        config.setPerCoreQueues(base.isPerCoreQueues());
+                        config.setLoadBalanceInterval(base.getLoadBalanceInterval());
+                        config.setIoDeviceCount(base.getIoDeviceCount());
+                        config.setMlfqQuanta(base.getMlfqQuanta());
+                        config.setMlfqBoostInterval(base.getMlfqBoostInterval());
+                        config.setHistoryRetention(base.getHistoryRetention());
+                        config.setRetainTerminated(false);
+                        config.setTimeQuantum(quantum);
+                        grid.add(config);
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static void printTable(CustomList<SweepResult> results) {
+        System.out.println(String.format(Locale.ROOT, "%-9s %8s %4s %4s %10s %9s %10s %8s %10s %10s %10s",
+                "Algoritmo", "Memoria", "Q", "CPUs", "Ciclos", "Proc/ciclo", "Uso CPU", "Espera",
+                "Respuesta", "Retorno", "ms"));
+        for (int i = 0; i < results.size(); i++) {
+            SweepResult r = results.get(i);
+            System.out.println(String.format(Locale.ROOT, "%-9s %8d %4d %4d %10d %9.5f %9.2f%% %8.2f %10.2f %10.2f %10d",
+                    r.config.getStartAlgorithm(), r.config.getTotalMemory(), r.config.getTimeQuantum(),
+                    r.config.getCpuCount(), r.cycles, r.throughput(), r.metric("CPU_Utilization") * 100,
+                    r.metric("Avg_Wait_Time"), r.metric("Avg_Response_Time"), r.metric("Avg_Turnaround_Time"),
+                    r.elapsedMs));
+        }
+    }
+
+    private static void writeCsv(String filePath, CustomList<SweepResult> results) throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+            writer.write(String.join(DELIMITER, "algorithm", "totalMemory", "timeQuantum", "cpuCount", "cycles",
+                    "completed", "throughputPerCycle", "cpuUtilization", "avgWaitTime", "avgResponseTime",
+                    "avgTurnaroundTime", "elapsedMs"));
+            writer.newLine();
+            for (int i = 0; i < results.size(); i++) {
+                SweepResult r = results.get(i);
+                writer.write(String.join(DELIMITER,
+                        r.config.getStartAlgorithm().name(),
+                        String.valueOf(r.config.getTotalMemory()),
+                        String.valueOf(r.config.getTimeQuantum()),
+                        String.valueOf(r.config.getCpuCount()),
+                        String.valueOf(r.cycles),
+                        String.valueOf(r.completed),
+                        String.valueOf(r.throughput()),
+                        String.valueOf(r.metric("CPU_Utilization")),
+                        String.valueOf(r.metric("Avg_Wait_Time")),
+                        String.valueOf(r.metric("Avg_Response_Time")),
+                        String.valueOf(r.metric("Avg_Turnaround_Time")),
+                        String.valueOf(r.elapsedMs)));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static SchedulingAlgorithm[] parseAlgorithms(String value) {
+        String[] parts = value.split(LIST_DELIMITER);
+        SchedulingAlgorithm[] algorithms = new SchedulingAlgorithm[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            algorithms[i] = SchedulingAlgorithm.valueOf(parts[i].trim());
+        }
+        return algorithms;
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(LIST_DELIMITER);
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+}
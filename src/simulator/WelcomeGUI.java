@@ -15,6 +15,7 @@ import simulator.io.SimulationConfig;
 import simulator.io.ConfigManager;
 import simulator.ui.SimulationGUI;
 import simulator.core.Scheduler;
+import simulator.core.SchedulerCheckpoint;
 import javax.swing.*;
 import java.awt.*;
 import java.util.Map;
@@ -32,9 +33,11 @@ public class WelcomeGUI extends JFrame {
     private JComboBox<SchedulingAlgorithm> algorithmComboBox;
     private JSpinner cycleDurationSpinner;
     private JComboBox<String> timeUnitComboBox;
+    private JSpinner cpuCountSpinner;
     
     private JButton saveButton;
     private JButton loadButton;
+    private JButton restoreButton;
     private JButton startButton;
 
     private ConfigManager configManager;
@@ -44,7 +47,7 @@ public class WelcomeGUI extends JFrame {
         
         setTitle("Configuración de la Simulación");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(450, 250);
+        setSize(450, 280);
         setLocationRelativeTo(null); 
         setResizable(false);
         
@@ -58,7 +61,7 @@ public class WelcomeGUI extends JFrame {
         JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
         mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        JPanel configPanel = new JPanel(new GridLayout(3, 2, 10, 10));
+        JPanel configPanel = new JPanel(new GridLayout(4, 2, 10, 10));
         
         // Memoria
         configPanel.add(new JLabel("Memoria Total de Simulación (MB):"));
@@ -81,6 +84,11 @@ public class WelcomeGUI extends JFrame {
         durationPanel.add(timeUnitComboBox);
         configPanel.add(durationPanel);
 
+        // Núcleos
+        configPanel.add(new JLabel("Número de CPUs:"));
+        cpuCountSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 64, 1));
+        configPanel.add(cpuCountSpinner);
+
         mainPanel.add(configPanel, BorderLayout.CENTER);
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
@@ -93,6 +101,10 @@ public class WelcomeGUI extends JFrame {
         loadButton = new JButton("Cargar Config.");
         buttonPanel.add(loadButton);
         
+        // Restaurar
+        restoreButton = new JButton("Restaurar Checkpoint");
+        buttonPanel.add(restoreButton);
+        
         // Iniciar
         startButton = new JButton("Iniciar Simulación");
         buttonPanel.add(startButton);
@@ -107,6 +119,7 @@ public class WelcomeGUI extends JFrame {
         algorithmComboBox.setSelectedItem(SchedulingAlgorithm.FCFS);
         timeUnitComboBox.setSelectedItem("ms");        
         cycleDurationSpinner.setValue(1000); 
+        cpuCountSpinner.setValue(1);
     }
 
     private void initEventHandlers() {
@@ -116,6 +129,8 @@ public class WelcomeGUI extends JFrame {
         
         loadButton.addActionListener(e -> loadConfiguration());
         
+        restoreButton.addActionListener(e -> restoreCheckpoint());
+        
         javax.swing.event.ChangeListener spinnerListener = (e) -> {
         };
         cycleDurationSpinner.addChangeListener(spinnerListener); 
@@ -142,6 +157,7 @@ public class WelcomeGUI extends JFrame {
         }
 
         SimulationConfig config = new SimulationConfig(memory, algorithm, duration);
+        config.setCpuCount((Integer) cpuCountSpinner.getValue());
 
         Scheduler scheduler = new Scheduler(config);
         SimulationGUI simulationGUI = new SimulationGUI(scheduler, config);
@@ -150,6 +166,32 @@ public class WelcomeGUI extends JFrame {
         this.dispose();
     }
     
+    /**
+     * Abre la simulación en el estado guardado por un checkpoint. Si había
+     * una traza de llegadas a medio consumir, hay que volver a cargarla.
+     */
+    private void restoreCheckpoint() {
+        JFileChooser fileChooser = new JFileChooser("src/archivos/");
+        fileChooser.setDialogTitle("Restaurar Checkpoint");
+        if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            try {
+                SchedulerCheckpoint checkpoint = SchedulerCheckpoint.read(fileChooser.getSelectedFile().getPath());
+                Scheduler scheduler = Scheduler.restore(checkpoint);
+                if (checkpoint.hasArrivalSource()) {
+                    JOptionPane.showMessageDialog(this,
+                        "El checkpoint tenía una traza de llegadas en curso. Cárguela con "
+                        + "\"Cargar Traza\" para continuarla donde quedó.", "Aviso", JOptionPane.WARNING_MESSAGE);
+                }
+                SimulationGUI simulationGUI = new SimulationGUI(scheduler, checkpoint.getConfig());
+                simulationGUI.setVisible(true);
+                this.dispose();
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this, 
+                    "Error al restaurar: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+    
     private void saveConfiguration() {
         JFileChooser fileChooser = new JFileChooser("src/archivos/");
         fileChooser.setDialogTitle("Guardar Configuración");
@@ -168,6 +210,7 @@ public class WelcomeGUI extends JFrame {
                 }
 
                 SimulationConfig config = new SimulationConfig(memory, algorithm, duration);
+                config.setCpuCount((Integer) cpuCountSpinner.getValue());
                 configManager.saveConfig(filePath, config);
 
                 JOptionPane.showMessageDialog(this, "Configuración guardada exitosamente.");
@@ -192,6 +235,8 @@ public class WelcomeGUI extends JFrame {
                 
                 totalMemorySpinner.setValue(memory);
                 algorithmComboBox.setSelectedItem(algorithm);
+                cpuCountSpinner.setValue(configMap.containsKey("cpuCount")
+                        ? Integer.parseInt(configMap.get("cpuCount")) : 1);
                 
                 SpinnerNumberModel model = (SpinnerNumberModel) cycleDurationSpinner.getModel();
 
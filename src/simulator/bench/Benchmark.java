@@ -0,0 +1,31 @@
+package simulator.bench;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Interface.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Caso medido por BenchmarkHarness. Sólo se cronometra run(); setup() prepara
+ * el estado antes de cada invocación y no cuenta en el tiempo.
+ */
+public interface Benchmark {
+
+    /**
+     * Prepara el estado para la siguiente invocación de run().
+     */
+    default void setup() {
+    }
+
+    /**
+     * Ejecuta las operaciones medidas.
+     * @return número de operaciones realizadas (para calcular ns/op) y, de paso,
+     * un valor que el harness consume para que el JIT no elimine el trabajo
+     */
+    long run();
+}
@@ -0,0 +1,108 @@
+package simulator.bench;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.CustomList;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ejecuta benchmarks con iteraciones de calentamiento y de medición, al
+ * estilo de JMH pero sin dependencias: cada iteración repite setup()+run()
+ * hasta cubrir el tiempo mínimo y sólo suma el tiempo de run().
+ */
+public class BenchmarkHarness {
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final CustomList<BenchmarkResult> results;
+    private volatile long sink;
+
+    /**
+     * @param warmupIterations iteraciones descartadas mientras compila el JIT
+     * @param measurementIterations iteraciones que se reportan
+     * @param iterationMillis duración mínima de cada iteración
+     */
+    public BenchmarkHarness(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = Math.max(0, warmupIterations);
+        this.measurementIterations = Math.max(1, measurementIterations);
+        this.iterationNanos = Math.max(1, iterationMillis) * 1_000_000L;
+        this.results = new CustomList<>();
+    }
+
+    /**
+     * Mide un benchmark y guarda su resultado.
+     * @param name nombre del benchmark (p. ej. "ProcessHeap.insert")
+     * @param params parámetros en pares clave, valor
+     * @param benchmark caso a medir
+     * @return el resultado
+     */
+    public BenchmarkResult measure(String name, Benchmark benchmark, String... params) {
+        Map<String, String> paramMap = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < params.length; i += 2) {
+            paramMap.put(params[i], params[i + 1]);
+        }
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(benchmark);
+        }
+        double[] samples = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            samples[i] = iteration(benchmark);
+        }
+        BenchmarkResult result = new BenchmarkResult(name, paramMap, warmupIterations, samples);
+        results.add(result);
+        return result;
+    }
+
+    /**
+     * @return ns por operación de la iteración
+     */
+    private double iteration(Benchmark benchmark) {
+        long measured = 0;
+        long operations = 0;
+        long deadline = System.nanoTime() + iterationNanos;
+        do {
+            benchmark.setup();
+            long start = System.nanoTime();
+            long ops = benchmark.run();
+            measured += System.nanoTime() - start;
+            operations += Math.max(1, ops);
+            sink += ops;
+        } while (System.nanoTime() < deadline);
+        return (double) measured / operations;
+    }
+
+    public CustomList<BenchmarkResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Escribe todos los resultados como un arreglo JSON.
+     */
+    public void writeJson(Writer writer) throws IOException {
+        writer.write("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            writer.write(results.get(i).toJson());
+            writer.write(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        writer.write("]\n");
+    }
+
+    /**
+     * Línea de resumen legible de un resultado.
+     */
+    public static String format(BenchmarkResult result) {
+        return String.format(Locale.ROOT, "%-24s %-44s %12.2f +/- %8.2f ns/op",
+                result.getName(), result.getParams().toString(), result.getScore(), result.getScoreError());
+    }
+}
@@ -0,0 +1,117 @@
+package simulator.bench;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultado de un benchmark: el tiempo medio por operación de cada iteración
+ * de medición. Se serializa con la misma forma que el JSON de JMH para poder
+ * comparar ejecuciones con las mismas herramientas.
+ */
+public final class BenchmarkResult {
+    private final String name;
+    private final Map<String, String> params;
+    private final int warmupIterations;
+    private final double[] samples;
+
+    BenchmarkResult(String name, Map<String, String> params, int warmupIterations, double[] samples) {
+        this.name = name;
+        this.params = params;
+        this.warmupIterations = warmupIterations;
+        this.samples = samples.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Media de las iteraciones, en ns/op.
+     */
+    public double getScore() {
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return samples.length > 0 ? sum / samples.length : 0;
+    }
+
+    /**
+     * Desviación estándar de las iteraciones, en ns/op.
+     */
+    public double getScoreError() {
+        if (samples.length < 2) {
+            return 0;
+        }
+        double mean = getScore();
+        double squares = 0;
+        for (double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        return Math.sqrt(squares / (samples.length - 1));
+    }
+
+    public double[] getSamples() {
+        return samples.clone();
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("  {\n");
+        sb.append("    \"benchmark\": ").append(quote(name)).append(",\n");
+        sb.append("    \"mode\": \"avgt\",\n");
+        sb.append("    \"warmupIterations\": ").append(warmupIterations).append(",\n");
+        sb.append("    \"measurementIterations\": ").append(samples.length).append(",\n");
+        sb.append("    \"params\": {");
+        boolean first = true;
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            sb.append(first ? "" : ", ").append(quote(entry.getKey())).append(": ").append(quote(entry.getValue()));
+            first = false;
+        }
+        sb.append("},\n");
+        sb.append("    \"primaryMetric\": {\n");
+        sb.append("      \"score\": ").append(number(getScore())).append(",\n");
+        sb.append("      \"scoreError\": ").append(number(getScoreError())).append(",\n");
+        sb.append("      \"scoreUnit\": \"ns/op\",\n");
+        sb.append("      \"rawData\": [[");
+        for (int i = 0; i < samples.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(number(samples[i]));
+        }
+        sb.append("]]\n");
+        sb.append("    }\n");
+        sb.append("  }");
+        return sb.toString();
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
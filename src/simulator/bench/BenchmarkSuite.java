@@ -0,0 +1,264 @@
+package simulator.bench;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.PCB;
+import simulator.core.ProcessTable;
+import simulator.core.ProcessType;
+import simulator.core.Scheduler;
+import simulator.core.SchedulingAlgorithm;
+import simulator.io.SimulationConfig;
+import simulator.structures.CustomList;
+import simulator.structures.ReadyQueue;
+import simulator.utils.EventLog;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.util.Random;
+
+/**
+ * Benchmarks de las estructuras y del ciclo del planificador:
+ * ReadyQueue.insert/extract/remove con la cola que usa cada algoritmo,
+ * CustomList.add/remove/removeAt y ciclos por segundo de Scheduler con 10,
+ * 1 000 y 100 000 procesos residentes. Los resultados se imprimen y se
+ * guardan como JSON para comparar ejecuciones.
+ * Uso: BenchmarkSuite [--out resultados.json] [--quick]
+ */
+public class BenchmarkSuite {
+    private static final int STRUCTURE_SIZE = 1_024;
+    private static final int[] RESIDENT_PROCESSES = {10, 1_000, 100_000};
+    private static final int CYCLES_PER_RUN = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        String outFile = "bench-results.json";
+        boolean quick = false;
+        for (int i = 0; i < args.length; i++) {
+            if ("--out".equals(args[i]) && i + 1 < args.length) {
+                outFile = args[++i];
+            } else if ("--quick".equals(args[i])) {
+                quick = true;
+            }
+        }
+
+        BenchmarkHarness harness = quick
+                ? new BenchmarkHarness(1, 3, 50)
+                : new BenchmarkHarness(5, 5, 200);
+
+        // El log de eventos no se registra durante la medición.
+        EventLog.setLevel(EventLog.Level.OFF);
+        for (SchedulingAlgorithm algorithm : SchedulingAlgorithm.values()) {
+            readyQueueBenchmarks(harness, algorithm);
+        }
+        listBenchmarks(harness);
+        for (int processes : RESIDENT_PROCESSES) {
+            schedulerBenchmark(harness, processes);
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outFile))) {
+            harness.writeJson(writer);
+        }
+        System.out.println("Resultados guardados en " + outFile);
+    }
+
+    private static void readyQueueBenchmarks(BenchmarkHarness harness, SchedulingAlgorithm algorithm) {
+        ProcessTable table = new ProcessTable(STRUCTURE_SIZE);
+        int[] processes = createProcesses(table, STRUCTURE_SIZE);
+        int[] removeOrder = shuffledIndexes(STRUCTURE_SIZE);
+        String alg = algorithm.name();
+        String size = String.valueOf(STRUCTURE_SIZE);
+        String queueType = ReadyQueue.create(algorithm, table).getClass().getSimpleName();
+
+        System.out.println(BenchmarkHarness.format(harness.measure("ReadyQueue.insert", new Benchmark() {
+            private ReadyQueue queue;
+
+            @Override
+            public void setup() {
+                queue = ReadyQueue.create(algorithm, table);
+            }
+
+            @Override
+            public long run() {
+                for (int process : processes) {
+                    queue.insert(process);
+                }
+                return processes.length;
+            }
+        }, "algorithm", alg, "queue", queueType, "size", size)));
+
+        System.out.println(BenchmarkHarness.format(harness.measure("ReadyQueue.extract", new Benchmark() {
+            private final ReadyQueue queue = ReadyQueue.create(algorithm, table);
+
+            @Override
+            public void setup() {
+                queue.clear();
+                for (int process : processes) {
+                    queue.insert(process);
+                }
+            }
+
+            @Override
+            public long run() {
+                long ops = 0;
+                while (queue.extract() >= 0) {
+                    ops++;
+                }
+                return ops;
+            }
+        }, "algorithm", alg, "queue", queueType, "size", size)));
+
+        System.out.println(BenchmarkHarness.format(harness.measure("ReadyQueue.remove", new Benchmark() {
+            private final ReadyQueue queue = ReadyQueue.create(algorithm, table);
+
+            @Override
+            public void setup() {
+                queue.clear();
+                for (int process : processes) {
+                    queue.insert(process);
+                }
+            }
+
+            @Override
+            public long run() {
+                long ops = 0;
+                for (int index : removeOrder) {
+                    if (queue.remove(processes[index])) {
+                        ops++;
+                    }
+                }
+                return ops;
+            }
+        }, "algorithm", alg, "queue", queueType, "size", size)));
+    }
+
+    private static void listBenchmarks(BenchmarkHarness harness) {
+        Integer[] values = new Integer[STRUCTURE_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        String size = String.valueOf(STRUCTURE_SIZE);
+
+        System.out.println(BenchmarkHarness.format(harness.measure("CustomList.add", new Benchmark() {
+            private CustomList<Integer> list;
+
+            @Override
+            public void setup() {
+                list = new CustomList<>();
+            }
+
+            @Override
+            public long run() {
+                for (Integer value : values) {
+                    list.add(value);
+                }
+                return values.length;
+            }
+        }, "size", size)));
+
+        // Como las colas del planificador: se quita siempre el primero
+        System.out.println(BenchmarkHarness.format(harness.measure("CustomList.removeAt", new Benchmark() {
+            private final CustomList<Integer> list = new CustomList<>(STRUCTURE_SIZE);
+
+            @Override
+            public void setup() {
+                list.clear();
+                for (Integer value : values) {
+                    list.add(value);
+                }
+            }
+
+            @Override
+            public long run() {
+                long ops = 0;
+                while (!list.isEmpty()) {
+                    list.removeAt(0);
+                    ops++;
+                }
+                return ops;
+            }
+        }, "size", size)));
+
+        System.out.println(BenchmarkHarness.format(harness.measure("CustomList.remove", new Benchmark() {
+            private final CustomList<Integer> list = new CustomList<>(STRUCTURE_SIZE);
+            private final int[] order = shuffledIndexes(STRUCTURE_SIZE);
+
+            @Override
+            public void setup() {
+                list.clear();
+                for (Integer value : values) {
+                    list.add(value);
+                }
+            }
+
+            @Override
+            public long run() {
+                long ops = 0;
+                for (int index : order) {
+                    if (list.remove(values[index])) {
+                        ops++;
+                    }
+                }
+                return ops;
+            }
+        }, "size", size)));
+    }
+
+    /**
+     * Ciclos del planificador con todos los procesos ya admitidos en memoria.
+     * Los procesos son CPU_BOUND y no terminan, así que la población se
+     * mantiene constante. Incluye la instantánea que runHeadless publica al
+     * final de cada tramo, repartida entre CYCLES_PER_RUN ciclos.
+     */
+    private static void schedulerBenchmark(BenchmarkHarness harness, int processes) {
+        SimulationConfig config = new SimulationConfig(processes, SchedulingAlgorithm.RR, 1);
+        Scheduler scheduler = new Scheduler(config);
+        for (int i = 0; i < processes; i++) {
+            scheduler.addProcess(new PCB("P" + i, ProcessType.CPU_BOUND, Integer.MAX_VALUE,
+                    0, 0, 1, 1, scheduler));
+        }
+        // El planificador de largo plazo admite un proceso por ciclo
+        scheduler.runHeadless(processes + 1);
+
+        System.out.println(BenchmarkHarness.format(harness.measure("Scheduler.executeCycle",
+                () -> scheduler.runHeadless(CYCLES_PER_RUN),
+                "algorithm", SchedulingAlgorithm.RR.name(), "residentProcesses", String.valueOf(processes))));
+    }
+
+    /**
+     * Procesos de prueba en la tabla indicada.
+     * @return sus slots
+     */
+    private static int[] createProcesses(ProcessTable table, int count) {
+        Random random = new Random(42);
+        int[] processes = new int[count];
+        for (int i = 0; i < count; i++) {
+            int slot = table.allocate("P" + i, ProcessType.CPU_BOUND, 1 + random.nextInt(1_000),
+                    0, 0, random.nextInt(10), 1);
+            table.setRemainingInstructions(slot, 1 + random.nextInt(table.getTotalInstructions(slot)));
+            table.setWaitingTime(slot, random.nextInt(1_000));
+            table.setLastReadyQueueTime(slot, random.nextInt(1_000));
+            processes[i] = slot;
+        }
+        return processes;
+    }
+
+    private static int[] shuffledIndexes(int count) {
+        Random random = new Random(7);
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = tmp;
+        }
+        return indexes;
+    }
+}
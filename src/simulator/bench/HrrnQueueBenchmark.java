@@ -0,0 +1,114 @@
+package simulator.bench;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessTable;
+import simulator.core.ProcessType;
+import simulator.structures.HrrnQueue;
+import java.util.Random;
+
+/**
+ * Mide el tiempo de HrrnQueue frente a un recorrido completo de la cola en
+ * cada ciclo. Que ambas eligen el mismo proceso lo comprueba HrrnQueueTest.
+ * Uso: HrrnQueueBenchmark [procesos] [ciclos] [tiemposDeServicioDistintos]
+ */
+public class HrrnQueueBenchmark {
+
+    public static void main(String[] args) {
+        int processes = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int cycles = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int distinct = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+
+        long start = System.nanoTime();
+        long indexed = run(processes, cycles, distinct, false);
+        long indexedMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        long scan = run(processes, cycles, distinct, true);
+        long scanMs = (System.nanoTime() - start) / 1_000_000;
+
+        if (indexed != scan) {
+            throw new IllegalStateException("Las dos estrategias eligieron procesos distintos");
+        }
+        System.out.println("Procesos: " + processes + ", ciclos: " + cycles + ", tiempos distintos: " + distinct);
+        System.out.println("HrrnQueue:          " + indexedMs + " ms");
+        System.out.println("Recorrido completo: " + scanMs + " ms");
+    }
+
+    /**
+     * Extrae y reinserta un proceso por ciclo con la estrategia indicada.
+     * @return suma de los ids elegidos, para comparar ambas ejecuciones
+     */
+    private static long run(int processes, int cycles, int distinct, boolean fullScan) {
+        ProcessTable table = new ProcessTable(processes);
+        int[] workload = createWorkload(table, processes, distinct);
+        HrrnQueue queue = new HrrnQueue(table);
+        if (!fullScan) {
+            for (int process : workload) {
+                queue.insert(process);
+            }
+        }
+        long checksum = 0;
+        for (long cycle = 1; cycle <= cycles; cycle++) {
+            int chosen;
+            if (fullScan) {
+                chosen = workload[bestByScan(table, workload, workload.length, cycle)];
+            } else {
+                queue.setCurrentCycle(cycle);
+                chosen = queue.extract();
+            }
+            checksum += table.getId(chosen) - table.getId(workload[0]);
+            requeue(table, chosen, cycle);
+            if (!fullScan) {
+                queue.insert(chosen);
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * @return slots de los procesos creados en la tabla
+     */
+    private static int[] createWorkload(ProcessTable table, int processes, int distinct) {
+        Random random = new Random(42);
+        int[] workload = new int[processes];
+        for (int i = 0; i < processes; i++) {
+            int serviceTime = 1 + random.nextInt(distinct) * 1000 / distinct;
+            workload[i] = table.allocate("P" + i, ProcessType.CPU_BOUND, serviceTime, 0, 0, 1, 1);
+            table.setWaitingTime(workload[i], random.nextInt(100));
+            table.setLastReadyQueueTime(workload[i], 0);
+        }
+        return workload;
+    }
+
+    /**
+     * Simula que el proceso se ejecutó y vuelve a la cola en este ciclo.
+     */
+    private static void requeue(ProcessTable table, int process, long cycle) {
+        table.setWaitingTime(process, table.getWaitingTime(process) + cycle - table.getLastReadyQueueTime(process));
+        table.setLastReadyQueueTime(process, cycle);
+    }
+
+    private static int bestByScan(ProcessTable table, int[] processes, int size, long cycle) {
+        int best = -1;
+        double bestRatio = 0;
+        for (int i = 0; i < size; i++) {
+            int p = processes[i];
+            double s = Math.max(1, table.getTotalInstructions(p));
+            double ratio = (table.getWaitingTime(p) + Math.max(0, cycle - table.getLastReadyQueueTime(p)) + s) / s;
+            if (best < 0 || ratio > bestRatio
+                    || (ratio == bestRatio && table.getId(p) < table.getId(processes[best]))) {
+                best = i;
+                bestRatio = ratio;
+            }
+        }
+        return best;
+    }
+}
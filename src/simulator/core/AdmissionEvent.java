@@ -0,0 +1,31 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * El planificador de largo plazo admite un proceso de NEW a READY.
+ */
+@Name("simulator.Admission")
+@Label("Admisión (largo plazo)")
+@Description("Un proceso pasa de NEW a READY y ocupa memoria")
+final class AdmissionEvent extends SchedulerEvent {
+    @Label("ID del proceso")
+    int processId;
+
+    @Label("Memoria del proceso (MB)")
+    int memorySize;
+
+    @Label("Memoria usada (MB)")
+    int usedMemory;
+}
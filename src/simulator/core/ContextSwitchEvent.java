@@ -0,0 +1,37 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * El planificador de corto plazo asigna a una CPU un proceso distinto del
+ * que tenía.
+ */
+@Name("simulator.ContextSwitch")
+@Label("Cambio de contexto")
+@Description("Una CPU pasa a ejecutar otro proceso")
+final class ContextSwitchEvent extends SchedulerEvent {
+    @Label("CPU")
+    int cpu;
+
+    @Label("ID del proceso saliente")
+    @Description("-1 si la CPU estaba libre")
+    int previousProcessId;
+
+    @Label("ID del proceso entrante")
+    int nextProcessId;
+
+    @Label("Expropiado")
+    @Description("El proceso saliente volvió a READY por quantum o prioridad")
+    boolean preempted;
+}
@@ -0,0 +1,64 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+import simulator.structures.ReadyQueue;
+
+/**
+ * CPU simulada: proceso en ejecución (slot de la ProcessTable, -1 si está
+ * libre), contador de quantum, ciclos ocupados y, en el modo de colas por
+ * CPU, su cola de listos local.
+ */
+public class CpuCore {
+    private final int index;
+    private final ProcessTable table;
+    private int currentProcess = -1;
+    private int currentQuantum;
+    private volatile boolean idle;
+    private long busyCycles;
+    private SimulationEvent pendingEvent;
+    private ReadyQueue localQueue;
+
+    public CpuCore(int index, ProcessTable table) {
+        this.index = index;
+        this.table = table;
+        this.idle = true;
+    }
+
+    public int getIndex() { return index; }
+    public int getCurrentProcess() { return currentProcess; }
+    public void setCurrentProcess(int slot) { this.currentProcess = slot; }
+    public int getCurrentQuantum() { return currentQuantum; }
+    public void setCurrentQuantum(int quantum) { this.currentQuantum = quantum; }
+    public boolean isIdle() { return idle; }
+    public void setIdle(boolean idle) { this.idle = idle; }
+    public long getBusyCycles() { return busyCycles; }
+    void setBusyCycles(long busyCycles) { this.busyCycles = busyCycles; }
+    public SimulationEvent getPendingEvent() { return pendingEvent; }
+    void setPendingEvent(SimulationEvent event) { this.pendingEvent = event; }
+    public ReadyQueue getLocalQueue() { return localQueue; }
+    public void setLocalQueue(ReadyQueue localQueue) { this.localQueue = localQueue; }
+
+    /**
+     * Indica si la CPU tiene un proceso en estado RUNNING.
+     */
+    public boolean isRunning() {
+        return currentProcess >= 0 && table.getState(currentProcess) == ProcessState.RUNNING;
+    }
+
+    /**
+     * Registra ciclos de ejecución del proceso actual.
+     */
+    public void addBusyCycles(long cycles) {
+        busyCycles += cycles;
+        currentQuantum += (int) cycles;
+    }
+}
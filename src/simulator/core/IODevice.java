@@ -0,0 +1,97 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.ProcessQueue;
+
+/**
+ * Dispositivo de E/S simulado. Atiende una operación a la vez en orden FIFO;
+ * cada operación dura cyclesToCompleteException ciclos del reloj simulado.
+ * Los procesos son slots de la ProcessTable (-1 si no hay ninguno en servicio).
+ */
+public class IODevice {
+    private final int index;
+    private final ProcessTable table;
+    private final ProcessQueue waitingQueue;
+    private int inService = -1;
+    private long completedOperations;
+    private long busyCycles;
+
+    public IODevice(int index, ProcessTable table) {
+        this.index = index;
+        this.table = table;
+        this.waitingQueue = new ProcessQueue();
+    }
+
+    public int getIndex() { return index; }
+    public int getInService() { return inService; }
+    public int getQueueLength() { return waitingQueue.size() + (inService >= 0 ? 1 : 0); }
+    public long getCompletedOperations() { return completedOperations; }
+    public long getBusyCycles() { return busyCycles; }
+
+    public boolean isBusy() {
+        return inService >= 0;
+    }
+
+    /**
+     * Encola una operación de E/S.
+     * @return true si el dispositivo estaba libre y la operación empieza ya
+     */
+    boolean submit(int slot) {
+        if (inService < 0) {
+            inService = slot;
+            return true;
+        }
+        waitingQueue.enqueue(slot);
+        return false;
+    }
+
+    /**
+     * Termina la operación en curso y pasa a la siguiente de la cola.
+     * @return el slot del proceso que terminó su E/S
+     */
+    int complete() {
+        int finished = inService;
+        inService = waitingQueue.dequeue();
+        completedOperations++;
+        return finished;
+    }
+
+    /**
+     * Procesos que esperan el dispositivo, en orden de llegada.
+     */
+    int[] waitingToArray() {
+        return waitingQueue.toArray();
+    }
+
+    /**
+     * Repone el estado guardado en un checkpoint.
+     */
+    void restore(int inService, int[] waiting, long completedOperations, long busyCycles) {
+        this.inService = inService;
+        waitingQueue.clear();
+        for (int slot : waiting) {
+            waitingQueue.enqueue(slot);
+        }
+        this.completedOperations = completedOperations;
+        this.busyCycles = busyCycles;
+    }
+
+    /**
+     * Avanza el progreso (MAR) de la operación en curso.
+     * @param cycles ciclos transcurridos
+     */
+    void advance(long cycles) {
+        if (inService >= 0) {
+            table.setMAR(inService, table.getMAR(inService) + (int) cycles);
+            busyCycles += cycles;
+        }
+    }
+}
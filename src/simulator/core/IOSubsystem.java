@@ -0,0 +1,79 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Subsistema de E/S: conjunto de dispositivos simulados. Cada proceso usa
+ * siempre el mismo dispositivo (id % número de dispositivos). Los fines de
+ * operación se programan como eventos IO_COMPLETION del planificador, sin
+ * ningún hilo por operación pendiente.
+ */
+public class IOSubsystem {
+    private final IODevice[] devices;
+    private final ProcessTable table;
+    private long progress;
+
+    public IOSubsystem(int deviceCount, ProcessTable table) {
+        this.table = table;
+        this.devices = new IODevice[Math.max(1, deviceCount)];
+        for (int i = 0; i < devices.length; i++) {
+            devices[i] = new IODevice(i, table);
+        }
+    }
+
+    public int getDeviceCount() {
+        return devices.length;
+    }
+
+    public IODevice getDevice(int index) {
+        return devices[index];
+    }
+
+    /**
+     * Dispositivo asignado a un proceso.
+     * @param slot slot del proceso en la ProcessTable
+     */
+    public IODevice deviceFor(int slot) {
+        return devices[Math.floorMod(table.getId(slot), devices.length)];
+    }
+
+    /**
+     * Avanza todas las operaciones en curso.
+     * @param cycles ciclos transcurridos
+     */
+    void advance(long cycles) {
+        for (IODevice device : devices) {
+            if (device.isBusy()) {
+                device.advance(cycles);
+                progress++;
+            }
+        }
+    }
+
+    /**
+     * Cambia cada vez que avanza alguna operación, es decir, el MAR de algún
+     * proceso en E/S.
+     */
+    long getProgress() {
+        return progress;
+    }
+
+    /**
+     * Operaciones en curso o en espera en todos los dispositivos.
+     */
+    public int pendingOperations() {
+        int count = 0;
+        for (IODevice device : devices) {
+            count += device.getQueueLength();
+        }
+        return count;
+    }
+}
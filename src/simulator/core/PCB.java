@@ -10,174 +10,118 @@ package simulator.core;
  * @author Chalopa
  */
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Bloque de Control de Proceso (PCB)
+ * Bloque de Control de Proceso (PCB). Los campos viven en una fila de la
+ * ProcessTable y las colas del planificador sólo guardan el slot; este objeto
+ * es una vista de la fila para quien crea procesos. Lee la tabla sin
+ * sincronización, así que la GUI no lo usa: muestra las copias de la
+ * instantánea (ProcessRows). Si la fila se libera, la vista deja de servir:
+ * cualquier acceso lanza IllegalStateException en lugar de leer al proceso que
+ * reutilice el slot.
  */
 public class PCB implements Comparable<PCB> {
-    private static final AtomicInteger ID_GENERATOR = new AtomicInteger(1);
+    // Tabla para procesos creados sin planificador (ids únicos entre ellos)
+    private static final ProcessTable STANDALONE_TABLE = new ProcessTable(16, null, new ReentrantLock());
     
-    private final int id;
-    private final String name;
-    private ProcessState state;
-    private final ProcessType type;
-    private final int totalInstructions;
-    private int programCounter;
-    private int mar;
-    private final int cyclesToException;
-    private final int cyclesToCompleteException;
-    private int remainingInstructions;
-    private long waitingTime;
-    private long turnaroundTime;
-    private long responseTime;
-    private final long creationTime;
-    private final int priority;
-    private final int memorySize;
-    private final Scheduler scheduler;
-    private long lastReadyQueueTime;
+    private final ProcessTable table;
+    private final int slot;
+    private final int generation;
     
     public PCB(String name, ProcessType type, int totalInstructions, 
                int cyclesToException, int cyclesToCompleteException,
                int priority, int memorySize, Scheduler scheduler) {
-        this.id = ID_GENERATOR.getAndIncrement();
-        this.name = name;
-        this.type = type;
-        this.totalInstructions = totalInstructions;
-        this.remainingInstructions = totalInstructions;
-        this.cyclesToException = cyclesToException;
-        this.cyclesToCompleteException = cyclesToCompleteException;
-        this.priority = priority;
-        this.memorySize = memorySize;
-        this.state = ProcessState.NEW;
-        this.programCounter = 0;
-        this.mar = 0;
-        this.creationTime = System.currentTimeMillis();
-        this.scheduler = scheduler;
-        this.lastReadyQueueTime = 0;
+        this(name, type, totalInstructions, cyclesToException, cyclesToCompleteException,
+             priority, memorySize,
+             scheduler != null ? scheduler.getProcessTable() : STANDALONE_TABLE);
     }
     
-    // Getters y Setters
-    public int getId() { return id; }
-    public String getName() { return name; }
-    public ProcessState getState() { return state; }
-    public void setState(ProcessState state) { this.state = state; }
-    public ProcessType getType() { return type; }
-    public int getTotalInstructions() { return totalInstructions; }
-    public int getProgramCounter() { return programCounter; }
-    public void setProgramCounter(int programCounter) { this.programCounter = programCounter; }
-    public int getMAR() { return mar; }
-    public void setMAR(int mar) { this.mar = mar; }
-    public int getCyclesToException() { return cyclesToException; }
-    public int getCyclesToCompleteException() { return cyclesToCompleteException; }
-    public int getRemainingInstructions() { return remainingInstructions; }
-    public void setRemainingInstructions(int remainingInstructions) { 
-        this.remainingInstructions = remainingInstructions; 
+    public PCB(String name, ProcessType type, int totalInstructions, 
+               int cyclesToException, int cyclesToCompleteException,
+               int priority, int memorySize, ProcessTable table) {
+        this(table, table.allocate(name, type, totalInstructions,
+                                   cyclesToException, cyclesToCompleteException, priority, memorySize));
     }
-    public long getWaitingTime() { return waitingTime; }
-    public void setWaitingTime(long waitingTime) { this.waitingTime = waitingTime; }
-    public long getTurnaroundTime() { return turnaroundTime; }
-    public void setTurnaroundTime(long turnaroundTime) { this.turnaroundTime = turnaroundTime; }
-    public long getResponseTime() { return responseTime; }
-    public void setResponseTime(long responseTime) { this.responseTime = responseTime; }
-    public long getCreationTime() { return creationTime; }
-    public int getPriority() { return priority; }
-    public int getMemorySize() { return memorySize; }
-    public long getLastReadyQueueTime() { return lastReadyQueueTime; }
-    public void setLastReadyQueueTime(long time) { this.lastReadyQueueTime = time; }
-    public int getServiceTime() { return totalInstructions;}
     
     /**
-     * Lógica de ejecución 
-     * @return 
+     * Vista de una fila en uso, con su generación actual.
      */
-    public boolean executeInstruction() {
-        if (remainingInstructions <= 0) {
-            state = ProcessState.TERMINATED;
-            return true;
-        }
-        
-        programCounter++;
-        mar = programCounter;
-        remainingInstructions--;
-        
-        if (this.type == ProcessType.IO_BOUND &&
-            cyclesToException > 0 && 
-            programCounter > 0 && 
-            programCounter % cyclesToException == 0 &&
-            state == ProcessState.RUNNING) {
-            
-            System.out.println("Generando excepción para: " + name + " (" + type + ") en PC: " + programCounter);
-            generateException();
-            return false; // El proceso se bloquea
-        }
-        
-        if (remainingInstructions == 0) {
-            state = ProcessState.TERMINATED;
-            return true;
-        }
-        
-        return false;
+    PCB(ProcessTable table, int slot) {
+        this.table = table;
+        this.slot = slot;
+        this.generation = table.getGeneration(slot);
     }
     
+    ProcessTable getTable() { return table; }
+    
     /**
-     * Generar excepción 
+     * Slot de la fila, comprobando que sigue siendo la de este proceso.
      */
-    private void generateException() {
-        state = ProcessState.BLOCKED;
-        
-        if (scheduler != null) {
-            this.setState(ProcessState.BLOCKED);
+    int getSlot() {
+        if (!isValid()) {
+            throw new IllegalStateException("El proceso ya no existe: su fila de la tabla se liberó (slot "
+                    + slot + ")");
         }
-        
-        javax.swing.SwingWorker<Void, Void> worker = new javax.swing.SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                try {
-                    System.out.println("Iniciando operación de excepción para: " + name);
-                    
-                    for (int i = 0; i < cyclesToCompleteException; i++) {
-                        Thread.sleep(scheduler.getCycleDuration());
-
-                        setMAR(getMAR() + 1); 
-
-                        System.out.println("Progreso excepción " + name + ": " + (i+1) + "/" + cyclesToCompleteException);
-                    }
-                    
-                    System.out.println("Operación de excepción completada para: " + name);
-                    
-                } catch (InterruptedException e) {
-                    System.out.println("Operación de excepción interrumpida para: " + name);
-                    Thread.currentThread().interrupt();
-                } catch (Exception e) {
-                    System.err.println("Error en operación de excepción para " + name + ": " + e.getMessage());
-                }
-                return null;
-            }
-            
-            @Override
-            protected void done() {
-                if (scheduler != null) {
-                    scheduler.unblockProcess(PCB.this);
-                }
-            }
-        };
-        
-        worker.execute();
+        return slot;
+    }
+    
+    /**
+     * Indica si la fila sigue siendo la de este proceso (no se liberó).
+     */
+    public boolean isValid() {
+        return table.getGeneration(slot) == generation && table.isLive(slot);
     }
     
-    public void incrementWaitingTime() {
-        this.waitingTime++;
+    // Getters y Setters
+    public int getId() { return table.getId(getSlot()); }
+    public String getName() { return table.getName(getSlot()); }
+    public ProcessState getState() { return table.getState(getSlot()); }
+    public void setState(ProcessState state) { table.setState(getSlot(), state); }
+    public ProcessType getType() { return table.getType(getSlot()); }
+    public int getTotalInstructions() { return table.getTotalInstructions(getSlot()); }
+    public int getProgramCounter() { return table.getProgramCounter(getSlot()); }
+    public void setProgramCounter(int programCounter) { table.setProgramCounter(getSlot(), programCounter); }
+    public int getMAR() { return table.getMAR(getSlot()); }
+    public void setMAR(int mar) { table.setMAR(getSlot(), mar); }
+    public int getCyclesToException() { return table.getCyclesToException(getSlot()); }
+    public int getCyclesToCompleteException() { return table.getCyclesToCompleteException(getSlot()); }
+    public int getRemainingInstructions() { return table.getRemainingInstructions(getSlot()); }
+    public void setRemainingInstructions(int remainingInstructions) { 
+        table.setRemainingInstructions(getSlot(), remainingInstructions); 
     }
+    public long getWaitingTime() { return table.getWaitingTime(getSlot()); }
+    public void setWaitingTime(long waitingTime) { table.setWaitingTime(getSlot(), waitingTime); }
+    public long getTurnaroundTime() { return table.getTurnaroundTime(getSlot()); }
+    public void setTurnaroundTime(long turnaroundTime) { table.setTurnaroundTime(getSlot(), turnaroundTime); }
+    public long getResponseTime() { return table.getResponseTime(getSlot()); }
+    public void setResponseTime(long responseTime) { table.setResponseTime(getSlot(), responseTime); }
+    public long getCreationTime() { return table.getCreationTime(getSlot()); }
+    public int getPriority() { return table.getPriority(getSlot()); }
+    public int getMemorySize() { return table.getMemorySize(getSlot()); }
+    public long getLastReadyQueueTime() { return table.getLastReadyQueueTime(getSlot()); }
+    public void setLastReadyQueueTime(long time) { table.setLastReadyQueueTime(getSlot(), time); }
+    public int getServiceTime() { return table.getTotalInstructions(getSlot()); }
+    // Ciclo en que entró a la cola NEW; el tiempo de respuesta (-1 si aún no
+    // se ejecutó) y el de retorno se miden desde aquí
+    public long getArrivalCycle() { return table.getArrivalCycle(getSlot()); }
+    public void setArrivalCycle(long arrivalCycle) { table.setArrivalCycle(getSlot(), arrivalCycle); }
+    // Nivel en la cola multinivel (0 = mayor prioridad)
+    public int getMlfqLevel() { return table.getMlfqLevel(getSlot()); }
+    public void setMlfqLevel(int mlfqLevel) { table.setMlfqLevel(getSlot(), mlfqLevel); }
     
     @Override
     public int compareTo(PCB other) {
-        return Long.compare(this.creationTime, other.creationTime);
+        return Long.compare(getCreationTime(), other.getCreationTime());
     }
     
     @Override
     public String toString() {
+        if (!isValid()) {
+            return "PCB{liberado, slot=" + slot + "}";
+        }
         return String.format("PCB{id=%d, name='%s', state=%s, PC=%d, MAR=%d, remaining=%d}", 
-                           id, name, state, programCounter, mar, remainingInstructions);
+                           getId(), getName(), getState(), getProgramCounter(), getMAR(),
+                           getRemainingInstructions());
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.LatencyHistogram;
+import java.beans.ConstructorProperties;
+
+/**
+ * Resumen de la latencia de una fase en nanosegundos, tal como se expone por
+ * JMX (cada instancia se convierte en un CompositeData).
+ */
+public final class PhaseLatency {
+    private final String phase;
+    private final long count;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+    private final double mean;
+
+    @ConstructorProperties({"phase", "count", "p50", "p99", "p999", "max", "mean"})
+    public PhaseLatency(String phase, long count, long p50, long p99, long p999, long max, double mean) {
+        this.phase = phase;
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    static PhaseLatency of(SchedulerPhase phase, LatencyHistogram histogram) {
+        return new PhaseLatency(phase.name(), histogram.getCount(), histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                histogram.getMax(), histogram.getMean());
+    }
+
+    public String getPhase() { return phase; }
+    public long getCount() { return count; }
+    public long getP50() { return p50; }
+    public long getP99() { return p99; }
+    public long getP999() { return p999; }
+    public long getMax() { return max; }
+    public double getMean() { return mean; }
+}
@@ -0,0 +1,81 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Copia inmutable de los campos que muestra la GUI (id, nombre, estado, PC,
+ * MAR, instrucciones restantes, tipo, prioridad y memoria) de los procesos de
+ * una cola, en el orden de la cola. La crea el Scheduler con el mutex tomado,
+ * así que cada fila es de un mismo ciclo y leerla no toca la ProcessTable.
+ */
+public final class ProcessRows {
+    private static final ProcessState[] STATES = ProcessState.values();
+    private static final ProcessType[] TYPES = ProcessType.values();
+
+    static final ProcessRows EMPTY = new ProcessRows(null, new int[0]);
+
+    private final int[] ids;
+    private final String[] names;
+    private final byte[] states;
+    private final int[] programCounters;
+    private final int[] mars;
+    private final int[] remainingInstructions;
+    private final byte[] types;
+    private final int[] priorities;
+    private final int[] memorySizes;
+
+    /**
+     * Debe llamarse con el mutex del planificador dueño de la tabla tomado.
+     * @param slots procesos a copiar, en orden
+     */
+    ProcessRows(ProcessTable table, int[] slots) {
+        int count = slots.length;
+        this.ids = new int[count];
+        this.names = new String[count];
+        this.states = new byte[count];
+        this.programCounters = new int[count];
+        this.mars = new int[count];
+        this.remainingInstructions = new int[count];
+        this.types = new byte[count];
+        this.priorities = new int[count];
+        this.memorySizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            int slot = slots[i];
+            ids[i] = table.getId(slot);
+            names[i] = table.getName(slot);
+            states[i] = (byte) table.getState(slot).ordinal();
+            programCounters[i] = table.getProgramCounter(slot);
+            mars[i] = table.getMAR(slot);
+            remainingInstructions[i] = table.getRemainingInstructions(slot);
+            types[i] = (byte) table.getType(slot).ordinal();
+            priorities[i] = table.getPriority(slot);
+            memorySizes[i] = table.getMemorySize(slot);
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public int getId(int index) { return ids[index]; }
+    public String getName(int index) { return names[index]; }
+    public ProcessState getState(int index) { return STATES[states[index]]; }
+    public int getProgramCounter(int index) { return programCounters[index]; }
+    public int getMAR(int index) { return mars[index]; }
+    public int getRemainingInstructions(int index) { return remainingInstructions[index]; }
+    public ProcessType getType(int index) { return TYPES[types[index]]; }
+    public int getPriority(int index) { return priorities[index]; }
+    public int getMemorySize(int index) { return memorySizes[index]; }
+}
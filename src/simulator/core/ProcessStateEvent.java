@@ -0,0 +1,35 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Cambio de estado de un proceso (NEW a READY, READY a RUNNING, RUNNING a
+ * BLOCKED, BLOCKED a SUSPENDED, ...). Lo emite ProcessTable.setState.
+ */
+@Name("simulator.ProcessState")
+@Label("Cambio de estado de proceso")
+@Description("Transición de un proceso entre dos estados de ProcessState")
+final class ProcessStateEvent extends SchedulerEvent {
+    @Label("ID del proceso")
+    int processId;
+
+    @Label("Proceso")
+    String processName;
+
+    @Label("Estado anterior")
+    String fromState;
+
+    @Label("Estado nuevo")
+    String toState;
+}
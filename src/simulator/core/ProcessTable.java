@@ -0,0 +1,499 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.BitList;
+import simulator.structures.IntList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Tabla de procesos en forma de arreglos paralelos: cada campo del PCB es un
+ * arreglo primitivo y cada proceso es una fila (slot). Los slots liberados se
+ * reutilizan mediante una lista libre, así que la memoria depende de los
+ * procesos vivos y no de los creados. Las colas del planificador guardan
+ * slots; un PCB es sólo una vista (tabla, slot y generación) para quien crea
+ * procesos, y la GUI muestra copias de las filas (ProcessRows). Liberar una
+ * fila aumenta su generación, así que una vista vieja falla en lugar de leer
+ * la fila del proceso que la reutilice.
+ *
+ * Los campos se leen y escriben sin sincronización, como antes en el PCB. Sólo
+ * reservar, liberar y crecer toman el lock del planificador dueño, para que el
+ * crecimiento no pierda escrituras del hilo de simulación.
+ *
+ * Los ids de proceso los asigna cada tabla, así que dos planificadores que
+ * corren en paralelo no comparten contador y numeran igual la misma carga.
+ */
+public class ProcessTable {
+    private static final ProcessState[] STATES = ProcessState.values();
+    private static final ProcessType[] TYPES = ProcessType.values();
+
+    private final Scheduler scheduler;
+    private final Lock lock;
+    private IntList freeSlots;
+    private BitList live;
+    private int capacity;
+    private int used;
+    private int liveCount;
+    private int nextId = 1;
+    private int nextQueueTag = 1;
+
+    private int[] id;
+    private String[] name;
+    private byte[] state;
+    private byte[] type;
+    private int[] totalInstructions;
+    private int[] programCounter;
+    private int[] mar;
+    private int[] cyclesToException;
+    private int[] cyclesToCompleteException;
+    private int[] remainingInstructions;
+    private int[] priority;
+    private int[] memorySize;
+    private int[] heapIndex;
+    private int[] queuePrev;
+    private int[] queueNext;
+    private byte[] queueTag;
+    private int[] mlfqLevel;
+    private long[] waitingTime;
+    private long[] turnaroundTime;
+    private long[] responseTime;
+    private long[] creationTime;
+    private long[] lastReadyQueueTime;
+    private long[] arrivalCycle;
+    private int[] generation;
+
+    /**
+     * @param initialCapacity filas reservadas al inicio
+     * @param scheduler planificador dueño (puede ser null)
+     * @param lock lock que protege reservar y liberar filas (puede ser null)
+     */
+    public ProcessTable(int initialCapacity, Scheduler scheduler, Lock lock) {
+        this.scheduler = scheduler;
+        this.lock = lock;
+        this.freeSlots = new IntList();
+        this.live = new BitList();
+        this.capacity = Math.max(1, initialCapacity);
+        this.id = new int[capacity];
+        this.name = new String[capacity];
+        this.state = new byte[capacity];
+        this.type = new byte[capacity];
+        this.totalInstructions = new int[capacity];
+        this.programCounter = new int[capacity];
+        this.mar = new int[capacity];
+        this.cyclesToException = new int[capacity];
+        this.cyclesToCompleteException = new int[capacity];
+        this.remainingInstructions = new int[capacity];
+        this.priority = new int[capacity];
+        this.memorySize = new int[capacity];
+        this.heapIndex = new int[capacity];
+        this.queuePrev = new int[capacity];
+        this.queueNext = new int[capacity];
+        this.queueTag = new byte[capacity];
+        this.mlfqLevel = new int[capacity];
+        this.waitingTime = new long[capacity];
+        this.turnaroundTime = new long[capacity];
+        this.responseTime = new long[capacity];
+        this.creationTime = new long[capacity];
+        this.lastReadyQueueTime = new long[capacity];
+        this.arrivalCycle = new long[capacity];
+        this.generation = new int[capacity];
+    }
+
+    /**
+     * Tabla independiente, sin planificador ni lock.
+     */
+    public ProcessTable(int initialCapacity) {
+        this(initialCapacity, null, null);
+    }
+
+    /**
+     * Reserva una fila para un proceso nuevo en estado NEW y le asigna el
+     * siguiente id de la tabla.
+     * @return slot asignado
+     */
+    public int allocate(String processName, ProcessType processType, int instructions,
+            int exceptionCycles, int completionCycles, int processPriority, int memory) {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            int slot;
+            if (!freeSlots.isEmpty()) {
+                slot = freeSlots.removeLast();
+                live.set(slot, true);
+            } else {
+                if (used == capacity) {
+                    grow();
+                }
+                slot = used++;
+                live.add(true);
+            }
+            liveCount++;
+            id[slot] = nextId++;
+            name[slot] = processName;
+            state[slot] = (byte) ProcessState.NEW.ordinal();
+            type[slot] = (byte) processType.ordinal();
+            totalInstructions[slot] = instructions;
+            programCounter[slot] = 0;
+            mar[slot] = 0;
+            cyclesToException[slot] = exceptionCycles;
+            cyclesToCompleteException[slot] = completionCycles;
+            remainingInstructions[slot] = instructions;
+            priority[slot] = processPriority;
+            memorySize[slot] = memory;
+            heapIndex[slot] = -1;
+            queuePrev[slot] = -1;
+            queueNext[slot] = -1;
+            queueTag[slot] = 0;
+            mlfqLevel[slot] = 0;
+            waitingTime[slot] = 0;
+            turnaroundTime[slot] = 0;
+            responseTime[slot] = -1;
+            creationTime[slot] = System.currentTimeMillis();
+            lastReadyQueueTime[slot] = 0;
+            arrivalCycle[slot] = 0;
+            return slot;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Libera la fila para que la reutilice otro proceso. Las vistas PCB que
+     * aún apunten a ella dejan de ser válidas.
+     * @param slot fila a liberar
+     */
+    public void release(int slot) {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            if (slot < 0 || slot >= used || !live.get(slot)) {
+                throw new IllegalStateException("El slot " + slot + " no está en uso");
+            }
+            live.set(slot, false);
+            name[slot] = null;
+            generation[slot]++;
+            freeSlots.add(slot);
+            liveCount--;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    public boolean isLive(int slot) {
+        return slot >= 0 && slot < used && live.get(slot);
+    }
+
+    /**
+     * Procesos con fila reservada.
+     */
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * Filas disponibles sin volver a crecer.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Identificador para una cola enlazada nueva sobre esta tabla.
+     */
+    public int newQueueTag() {
+        if (nextQueueTag > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Demasiadas colas enlazadas sobre la tabla de procesos");
+        }
+        return nextQueueTag++;
+    }
+
+    private void grow() {
+        int newCapacity = capacity * 2;
+        id = Arrays.copyOf(id, newCapacity);
+        name = Arrays.copyOf(name, newCapacity);
+        state = Arrays.copyOf(state, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        totalInstructions = Arrays.copyOf(totalInstructions, newCapacity);
+        programCounter = Arrays.copyOf(programCounter, newCapacity);
+        mar = Arrays.copyOf(mar, newCapacity);
+        cyclesToException = Arrays.copyOf(cyclesToException, newCapacity);
+        cyclesToCompleteException = Arrays.copyOf(cyclesToCompleteException, newCapacity);
+        remainingInstructions = Arrays.copyOf(remainingInstructions, newCapacity);
+        priority = Arrays.copyOf(priority, newCapacity);
+        memorySize = Arrays.copyOf(memorySize, newCapacity);
+        heapIndex = Arrays.copyOf(heapIndex, newCapacity);
+        queuePrev = Arrays.copyOf(queuePrev, newCapacity);
+        queueNext = Arrays.copyOf(queueNext, newCapacity);
+        queueTag = Arrays.copyOf(queueTag, newCapacity);
+        mlfqLevel = Arrays.copyOf(mlfqLevel, newCapacity);
+        waitingTime = Arrays.copyOf(waitingTime, newCapacity);
+        turnaroundTime = Arrays.copyOf(turnaroundTime, newCapacity);
+        responseTime = Arrays.copyOf(responseTime, newCapacity);
+        creationTime = Arrays.copyOf(creationTime, newCapacity);
+        lastReadyQueueTime = Arrays.copyOf(lastReadyQueueTime, newCapacity);
+        arrivalCycle = Arrays.copyOf(arrivalCycle, newCapacity);
+        generation = Arrays.copyOf(generation, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Copia de las filas en uso, sin planificador ni lock. Son copias de
+     * arreglos completos, así que tomarla con el mutex es barato y después se
+     * puede serializar en otro hilo.
+     */
+    ProcessTable copy() {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            ProcessTable copy = new ProcessTable(1);
+            copy.copyFrom(this);
+            return copy;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Carga en esta tabla vacía las filas de otra, con los mismos slots e ids.
+     * @param source tabla de origen (normalmente la de un checkpoint)
+     */
+    void copyFrom(ProcessTable source) {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            if (used > 0) {
+                throw new IllegalStateException("La tabla de procesos ya tiene filas en uso");
+            }
+            capacity = Math.max(capacity, source.used);
+            id = Arrays.copyOf(source.id, capacity);
+            name = Arrays.copyOf(source.name, capacity);
+            state = Arrays.copyOf(source.state, capacity);
+            type = Arrays.copyOf(source.type, capacity);
+            totalInstructions = Arrays.copyOf(source.totalInstructions, capacity);
+            programCounter = Arrays.copyOf(source.programCounter, capacity);
+            mar = Arrays.copyOf(source.mar, capacity);
+            cyclesToException = Arrays.copyOf(source.cyclesToException, capacity);
+            cyclesToCompleteException = Arrays.copyOf(source.cyclesToCompleteException, capacity);
+            remainingInstructions = Arrays.copyOf(source.remainingInstructions, capacity);
+            priority = Arrays.copyOf(source.priority, capacity);
+            memorySize = Arrays.copyOf(source.memorySize, capacity);
+            heapIndex = Arrays.copyOf(source.heapIndex, capacity);
+            // Las colas enlazadas son del planificador que las creó: se vuelven a armar al reinsertar
+            queuePrev = new int[capacity];
+            queueNext = new int[capacity];
+            queueTag = new byte[capacity];
+            Arrays.fill(queuePrev, -1);
+            Arrays.fill(queueNext, -1);
+            mlfqLevel = Arrays.copyOf(source.mlfqLevel, capacity);
+            waitingTime = Arrays.copyOf(source.waitingTime, capacity);
+            turnaroundTime = Arrays.copyOf(source.turnaroundTime, capacity);
+            responseTime = Arrays.copyOf(source.responseTime, capacity);
+            creationTime = Arrays.copyOf(source.creationTime, capacity);
+            lastReadyQueueTime = Arrays.copyOf(source.lastReadyQueueTime, capacity);
+            arrivalCycle = Arrays.copyOf(source.arrivalCycle, capacity);
+            generation = Arrays.copyOf(source.generation, capacity);
+            freeSlots = new IntList(Math.max(1, source.freeSlots.size()));
+            freeSlots.addAll(source.freeSlots);
+            live = new BitList(source.live);
+            used = source.used;
+            liveCount = source.liveCount;
+            nextId = source.nextId;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Escribe las filas vivas, la lista libre y el siguiente id. Las filas
+     * libres sólo ocupan un byte. La posición en los montículos y los enlaces
+     * de las colas no se guardan: se recalculan al volver a insertar los
+     * procesos. Tampoco la generación,
+     * porque las vistas PCB no pasan de un planificador a otro.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeInt(used);
+        out.writeInt(liveCount);
+        out.writeInt(nextId);
+        out.writeInt(freeSlots.size());
+        for (int i = 0; i < freeSlots.size(); i++) {
+            out.writeInt(freeSlots.get(i));
+        }
+        for (int slot = 0; slot < used; slot++) {
+            boolean isLive = live.get(slot);
+            out.writeBoolean(isLive);
+            if (!isLive) {
+                continue;
+            }
+            out.writeInt(id[slot]);
+            out.writeUTF(name[slot]);
+            out.writeByte(state[slot]);
+            out.writeByte(type[slot]);
+            out.writeInt(totalInstructions[slot]);
+            out.writeInt(programCounter[slot]);
+            out.writeInt(mar[slot]);
+            out.writeInt(cyclesToException[slot]);
+            out.writeInt(cyclesToCompleteException[slot]);
+            out.writeInt(remainingInstructions[slot]);
+            out.writeInt(priority[slot]);
+            out.writeInt(memorySize[slot]);
+            out.writeInt(mlfqLevel[slot]);
+            out.writeLong(waitingTime[slot]);
+            out.writeLong(turnaroundTime[slot]);
+            out.writeLong(responseTime[slot]);
+            out.writeLong(creationTime[slot]);
+            out.writeLong(lastReadyQueueTime[slot]);
+            out.writeLong(arrivalCycle[slot]);
+        }
+    }
+
+    /**
+     * Lee una tabla escrita con write, sin planificador ni lock.
+     */
+    static ProcessTable read(DataInput in) throws IOException {
+        int rows = in.readInt();
+        int expectedLive = in.readInt();
+        int firstId = in.readInt();
+        int freeCount = in.readInt();
+        if (rows < 0 || expectedLive < 0 || freeCount < 0 || expectedLive + freeCount != rows) {
+            throw new IOException("Tabla de procesos inválida: " + rows + " filas, " + expectedLive
+                    + " vivas y " + freeCount + " libres");
+        }
+        ProcessTable table = new ProcessTable(rows);
+        for (int i = 0; i < freeCount; i++) {
+            table.freeSlots.add(in.readInt());
+        }
+        for (int slot = 0; slot < rows; slot++) {
+            boolean isLive = in.readBoolean();
+            table.live.add(isLive);
+            table.heapIndex[slot] = -1;
+            table.queuePrev[slot] = -1;
+            table.queueNext[slot] = -1;
+            if (!isLive) {
+                continue;
+            }
+            table.liveCount++;
+            table.id[slot] = in.readInt();
+            table.name[slot] = in.readUTF();
+            table.state[slot] = checkOrdinal(in.readByte(), STATES.length, "estado");
+            table.type[slot] = checkOrdinal(in.readByte(), TYPES.length, "tipo");
+            table.totalInstructions[slot] = in.readInt();
+            table.programCounter[slot] = in.readInt();
+            table.mar[slot] = in.readInt();
+            table.cyclesToException[slot] = in.readInt();
+            table.cyclesToCompleteException[slot] = in.readInt();
+            table.remainingInstructions[slot] = in.readInt();
+            table.priority[slot] = in.readInt();
+            table.memorySize[slot] = in.readInt();
+            table.mlfqLevel[slot] = in.readInt();
+            table.waitingTime[slot] = in.readLong();
+            table.turnaroundTime[slot] = in.readLong();
+            table.responseTime[slot] = in.readLong();
+            table.creationTime[slot] = in.readLong();
+            table.lastReadyQueueTime[slot] = in.readLong();
+            table.arrivalCycle[slot] = in.readLong();
+        }
+        table.used = rows;
+        table.nextId = firstId;
+        if (table.liveCount != expectedLive) {
+            throw new IOException("La tabla de procesos declara " + expectedLive + " filas vivas y tiene "
+                    + table.liveCount);
+        }
+        for (int i = 0; i < freeCount; i++) {
+            int slot = table.freeSlots.get(i);
+            if (slot < 0 || slot >= rows || table.isLive(slot)) {
+                throw new IOException("Slot libre inválido: " + slot);
+            }
+        }
+        return table;
+    }
+
+    private static byte checkOrdinal(byte value, int count, String field) throws IOException {
+        if (value < 0 || value >= count) {
+            throw new IOException("Valor de " + field + " inválido en la tabla de procesos: " + value);
+        }
+        return value;
+    }
+
+    // Acceso por slot
+    public int getId(int slot) { return id[slot]; }
+    public String getName(int slot) { return name[slot]; }
+    public ProcessState getState(int slot) { return STATES[state[slot]]; }
+    public void setState(int slot, ProcessState value) {
+        ProcessState previous = STATES[state[slot]];
+        state[slot] = (byte) value.ordinal();
+        if (previous != value && scheduler != null) {
+            ProcessStateEvent event = new ProcessStateEvent();
+            if (event.isEnabled()) {
+                scheduler.describe(event);
+                event.processId = id[slot];
+                event.processName = name[slot];
+                event.fromState = previous.name();
+                event.toState = value.name();
+                event.commit();
+            }
+        }
+    }
+    public ProcessType getType(int slot) { return TYPES[type[slot]]; }
+    public int getTotalInstructions(int slot) { return totalInstructions[slot]; }
+    public int getProgramCounter(int slot) { return programCounter[slot]; }
+    public void setProgramCounter(int slot, int value) { programCounter[slot] = value; }
+    public int getMAR(int slot) { return mar[slot]; }
+    public void setMAR(int slot, int value) { mar[slot] = value; }
+    public int getCyclesToException(int slot) { return cyclesToException[slot]; }
+    public int getCyclesToCompleteException(int slot) { return cyclesToCompleteException[slot]; }
+    public int getRemainingInstructions(int slot) { return remainingInstructions[slot]; }
+    public void setRemainingInstructions(int slot, int value) { remainingInstructions[slot] = value; }
+    public int getPriority(int slot) { return priority[slot]; }
+    public int getMemorySize(int slot) { return memorySize[slot]; }
+    public int getHeapIndex(int slot) { return heapIndex[slot]; }
+    public void setHeapIndex(int slot, int value) { heapIndex[slot] = value; }
+    public int getQueuePrev(int slot) { return queuePrev[slot]; }
+    public void setQueuePrev(int slot, int value) { queuePrev[slot] = value; }
+    public int getQueueNext(int slot) { return queueNext[slot]; }
+    public void setQueueNext(int slot, int value) { queueNext[slot] = value; }
+    // Cola enlazada (LinkedProcessQueue) en la que está el proceso, 0 si ninguna
+    public int getQueueTag(int slot) { return queueTag[slot]; }
+    public void setQueueTag(int slot, int value) { queueTag[slot] = (byte) value; }
+    public int getMlfqLevel(int slot) { return mlfqLevel[slot]; }
+    public void setMlfqLevel(int slot, int value) { mlfqLevel[slot] = value; }
+    public long getWaitingTime(int slot) { return waitingTime[slot]; }
+    public void setWaitingTime(int slot, long value) { waitingTime[slot] = value; }
+    public long getTurnaroundTime(int slot) { return turnaroundTime[slot]; }
+    public void setTurnaroundTime(int slot, long value) { turnaroundTime[slot] = value; }
+    public long getResponseTime(int slot) { return responseTime[slot]; }
+    public void setResponseTime(int slot, long value) { responseTime[slot] = value; }
+    public long getCreationTime(int slot) { return creationTime[slot]; }
+    public long getLastReadyQueueTime(int slot) { return lastReadyQueueTime[slot]; }
+    public void setLastReadyQueueTime(int slot, long value) { lastReadyQueueTime[slot] = value; }
+    public long getArrivalCycle(int slot) { return arrivalCycle[slot]; }
+    public void setArrivalCycle(int slot, long value) { arrivalCycle[slot] = value; }
+    // Veces que se liberó la fila; una vista PCB sólo vale para una generación
+    public int getGeneration(int slot) { return generation[slot]; }
+}
@@ -0,0 +1,82 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mutex del Scheduler. Con un SchedulerProfiler asignado mide, para la
+ * adquisición más externa de cualquier hilo con lock(), cuánto se esperó el
+ * lock y cuánto se retuvo; sin él sólo cuesta una lectura volátil. El
+ * profiler sólo se cambia con el lock tomado, así que el que lo tiene
+ * registra sin competir con nadie.
+ */
+final class ProfiledLock implements Lock {
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile SchedulerProfiler profiler;
+    private long acquiredAt;
+
+    /**
+     * Debe llamarse con el lock tomado.
+     */
+    void setProfiler(SchedulerProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void lock() {
+        if (profiler == null) {
+            lock.lock();
+            return;
+        }
+        long requested = System.nanoTime();
+        lock.lock();
+        SchedulerProfiler current = profiler;
+        if (current != null && lock.getHoldCount() == 1) {
+            acquiredAt = System.nanoTime();
+            current.record(SchedulerPhase.LOCK_WAIT, acquiredAt - requested);
+        }
+    }
+
+    @Override
+    public void unlock() {
+        if (acquiredAt != 0 && lock.getHoldCount() == 1) {
+            SchedulerProfiler current = profiler;
+            if (current != null) {
+                current.record(SchedulerPhase.LOCK_HOLD, System.nanoTime() - acquiredAt);
+            }
+            acquiredAt = 0;
+        }
+        lock.unlock();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        lock.lockInterruptibly();
+    }
+
+    @Override
+    public boolean tryLock() {
+        return lock.tryLock();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return lock.tryLock(time, unit);
+    }
+
+    @Override
+    public Condition newCondition() {
+        return lock.newCondition();
+    }
+}
@@ -12,107 +12,165 @@ package simulator.core;
 
 // Contenido completo de Scheduler.java (Corregido y Final)
 
+import simulator.utils.EventLog;
 import simulator.utils.ExceptionHandlerThread;
+import simulator.io.ArrivalSource;
 import simulator.io.SimulationConfig;
-import simulator.structures.ProcessHeap;
+import simulator.structures.LinkedProcessQueue;
+import simulator.structures.MlfqQueue;
+import simulator.structures.ProcessQueue;
+import simulator.structures.ReadyQueue;
 import simulator.structures.CustomList;
-import java.util.concurrent.locks.ReentrantLock;
+import simulator.structures.TimeSeries;
+import simulator.structures.TimerWheel;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * Planificador principal 
  */
 public class Scheduler implements Runnable { // 
     
-    // Colas de procesos 
-    private ProcessHeap readyQueue;
-    private final CustomList<PCB> blockedQueue;
-    private final CustomList<PCB> blockedSuspendedQueue; 
-    private final CustomList<PCB> readySuspendedQueue;
-    private final CustomList<PCB> terminatedProcesses;
-    private final CustomList<PCB> newQueue;
+    // Colas de procesos (slots de processTable)
+    private ReadyQueue readyQueue;
+    private final LinkedProcessQueue blockedQueue;
+    private final LinkedProcessQueue blockedSuspendedQueue; 
+    private final ProcessQueue readySuspendedQueue;
+    private final ProcessQueue terminatedProcesses;
+    private final ProcessQueue newQueue;
     private int maxMultiprogrammingLevel = 5; 
+    private final ProcessTable processTable;
+    private boolean retainTerminated;
+    // Se guardan sólo para los checkpoints; el log lo configura quien arranca la simulación
+    private final EventLog.Level logLevel;
+    private final String logFile;
     
     // estado de la sim
-    private PCB currentProcess;
+    private final CpuCore[] cpus;
+    private final boolean perCoreQueues;
+    private final int loadBalanceInterval;
+    private long migrations;
     private SchedulingAlgorithm currentAlgorithm;
     private int timeQuantum;
-    private int currentQuantum;
+    private final int[] mlfqQuanta;
+    private final int mlfqBoostInterval;
     private long globalCycle;
     private volatile boolean isOperatingSystemRunning; 
-    private final ReentrantLock mutex;
-    private volatile boolean isCpuIdle; 
+    private final ProfiledLock mutex;
     private volatile int cycleDuration = 1000;
     private final int totalMemory;
     private int usedMemory;
-    private PCB justSuspended = null;
+    private int justSuspended = -1;
+    private volatile boolean headless = false;
+    
+    // Motor de eventos discretos
+    private final TimerWheel timers;
+    private final CustomList<SimulationEvent> dueEvents;
+    private final IOSubsystem ioSubsystem;
+    private boolean eventDriven = false;
+    private int pendingArrivals = 0;
+    private ArrivalSource arrivalSource;
+    private long arrivalBase;
+    private long arrivalsConsumed;
+    private long arrivalsToResume = -1;
     
     private Thread simulationThread;
     private ExceptionHandlerThread exceptionHandlerThread;
 
-    private volatile Object[] readyQueueCache = new Object[0];
-    private volatile CustomList<PCB> blockedQueueCache = new CustomList<>();
-    private volatile CustomList<PCB> blockedSuspendedQueueCache = new CustomList<>();
-    private volatile CustomList<PCB> readySuspendedQueueCache = new CustomList<>();
-    private volatile CustomList<PCB> terminatedQueueCache = new CustomList<>();
-    private volatile CustomList<PCB> newQueueCache = new CustomList<>();
+    // Instantánea publicada para la GUI y contadores para saber qué cambió
+    private volatile SchedulerSnapshot snapshot;
+    private long readyVersion;
+    private long publishedReadyVersion = -1;
+    private int publishedNewMod = -1;
+    private int publishedBlockedMod = -1;
+    private int publishedBlockedSuspendedMod = -1;
+    private int publishedReadySuspendedMod = -1;
+    private int publishedTerminatedMod = -1;
+    private long publishedIoProgress = -1;
+
+    // Mediciones de latencia (null si están desactivadas)
+    private static final long PROFILE_PUBLISH_NANOS = 250_000_000L;
+    private volatile SchedulerProfiler profiler;
+    private volatile SchedulerProfiler profileSnapshot;
+    private long profilePublishedAt;
+
+    // Registro JMX (ver SchedulerMXBean)
+    private static final AtomicInteger MBEAN_IDS = new AtomicInteger();
+    private ObjectName mbeanName;
     
     // Métricas 
     private int completedProcesses;
     private long totalCpuBusyTime;
     private long totalWaitTime;
+    private long readyEntrySum;
     private long totalResponseTime;
+    private int respondedProcesses;
+    private long totalTurnaroundTime;
     private final long startTime;
-    private CustomList<Integer> cpuUsageHistory = new CustomList<>(); 
-    private CustomList<Integer> globalCycleHistory = new CustomList<>();
-    
-    
-    private volatile CustomList<Integer> cpuUsageHistoryCache = new CustomList<>();
-    private volatile CustomList<Integer> globalCycleHistoryCache = new CustomList<>();
-    private CustomList<Integer> terminatedHistory = new CustomList<>();
-    private volatile CustomList<Integer> terminatedHistoryCache;
+    private final int historyRetention;
+    private final TimeSeries cpuUsageHistory;
+    private final TimeSeries terminatedHistory;
 
     public Scheduler(SimulationConfig config) {
-        this.newQueue = new CustomList<>();
+        this.mutex = new ProfiledLock();
+        this.processTable = new ProcessTable(64, this, mutex);
+        this.newQueue = new ProcessQueue();
+        this.timers = new TimerWheel();
+        this.dueEvents = new CustomList<>();
+        this.ioSubsystem = new IOSubsystem(config.getIoDeviceCount(), processTable);
         this.usedMemory = 0;
-        this.readyQueue = new ProcessHeap(100, config.getStartAlgorithm()); 
-        this.blockedQueue = new CustomList<>();
-        this.blockedSuspendedQueue = new CustomList<>();
-        this.readySuspendedQueue = new CustomList<>();
-        this.terminatedProcesses = new CustomList<>();
+        this.mlfqQuanta = config.getMlfqQuanta();
+        this.mlfqBoostInterval = config.getMlfqBoostInterval();
+        this.historyRetention = config.getHistoryRetention();
+        this.cpuUsageHistory = new TimeSeries(config.getHistoryRetention());
+        this.terminatedHistory = new TimeSeries(config.getHistoryRetention());
+        this.readyQueue = newReadyQueue(config.getStartAlgorithm()); 
+        this.blockedQueue = new LinkedProcessQueue(processTable);
+        this.blockedSuspendedQueue = new LinkedProcessQueue(processTable);
+        this.readySuspendedQueue = new ProcessQueue();
+        this.terminatedProcesses = new ProcessQueue();
         this.currentAlgorithm = config.getStartAlgorithm(); 
-        this.timeQuantum = 4;
-        this.mutex = new ReentrantLock();
+        this.timeQuantum = config.getTimeQuantum();
+        this.retainTerminated = config.isRetainTerminated();
+        this.logLevel = config.getLogLevel();
+        this.logFile = config.getLogFile();
         this.isOperatingSystemRunning = false;
-        this.isCpuIdle = true;
+        this.cpus = new CpuCore[Math.max(1, config.getCpuCount())];
+        this.perCoreQueues = config.isPerCoreQueues() && cpus.length > 1;
+        this.loadBalanceInterval = config.getLoadBalanceInterval();
+        for (int i = 0; i < cpus.length; i++) {
+            cpus[i] = new CpuCore(i, processTable);
+            if (perCoreQueues) {
+                cpus[i].setLocalQueue(newReadyQueue(config.getStartAlgorithm()));
+            }
+        }
         this.startTime = System.currentTimeMillis();
 
         this.totalMemory = config.getTotalMemory(); 
 
         this.cycleDuration = config.getInitialCycleDuration(); 
 
-        this.cpuUsageHistoryCache = new CustomList<>();
-        this.globalCycleHistoryCache = new CustomList<>();
-        this.terminatedHistoryCache = new CustomList<>();
-        this.blockedSuspendedQueueCache = new CustomList<>();
-        this.readySuspendedQueueCache = new CustomList<>();
+        publishSnapshot();
     }
     
     /**
      * Inicia el hilo de simulación y el hilo de excepciones.
      */
     public void start() {
+        registerMBean();
         mutex.lock();
         try {
             this.isOperatingSystemRunning = true;
             
             cpuUsageHistory.clear();
-            globalCycleHistory.clear();
-            cpuUsageHistoryCache.clear();
-            globalCycleHistoryCache.clear();
             terminatedHistory.clear(); 
-            terminatedHistoryCache.clear(); 
+            publishSnapshot();
             
             if (this.exceptionHandlerThread == null || !this.exceptionHandlerThread.isAlive()) {
                 this.exceptionHandlerThread = new ExceptionHandlerThread(this);
@@ -144,10 +202,345 @@ public class Scheduler implements Runnable { //
                 Thread.currentThread().interrupt(); 
                 break; 
             } catch (Exception e) {
-                System.err.println("Error en el bucle de simulación: " + e.getMessage());
+                EventLog.message(EventLog.Level.ERROR, globalCycle, "Error en el bucle de simulación: " + e.getMessage());
+            }
+        }
+        EventLog.message(EventLog.Level.INFO, globalCycle, "Hilo del Scheduler detenido.");
+    }
+
+    /**
+     * Ejecuta la simulación en el hilo que llama, sin GUI ni pausas entre ciclos,
+     * hasta que no quede trabajo pendiente o se alcance el límite de ciclos.
+     * En este modo no se guarda el historial de los gráficos.
+     * @param maxCycles límite de ciclos a ejecutar (0 = sin límite)
+     * @return número de ciclos ejecutados
+     */
+    public long runHeadless(long maxCycles) {
+        mutex.lock();
+        try {
+            this.headless = true;
+            this.isOperatingSystemRunning = true;
+        } finally {
+            mutex.unlock();
+        }
+
+        // Sin GUI la instantánea sólo se publica al final, así que el ciclo se
+        // lee del campo (lo escribe este mismo hilo).
+        long firstCycle = globalCycle;
+        long lastCycle = maxCycles > 0 ? firstCycle + maxCycles : Long.MAX_VALUE;
+        while (isOperatingSystemRunning && hasPendingWork() && globalCycle < lastCycle) {
+            executeCycle();
+            if (!skipUneventfulCycles(lastCycle)) {
+                EventLog.message(EventLog.Level.WARN, globalCycle,
+                        "la simulación no puede avanzar (ningún proceso cabe en memoria).");
+                break;
+            }
+        }
+        
+        this.isOperatingSystemRunning = false;
+        mutex.lock();
+        try {
+            publishSnapshot();
+            publishProfile();
+        } finally {
+            mutex.unlock();
+        }
+        return globalCycle - firstCycle;
+    }
+
+    /**
+     * Activa el motor de eventos discretos: en modo sin GUI, los ciclos en los
+     * que no ocurre ningún evento se avanzan en bloque en lugar de uno por uno.
+     */
+    public void setEventDriven(boolean eventDriven) {
+        mutex.lock();
+        try {
+            this.eventDriven = eventDriven;
+            refreshCpuEvents(globalCycle + 1);
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    /**
+     * Indica si los procesos que terminen de aquí en adelante se conservan en
+     * la cola de terminados o sólo cuentan en las métricas y liberan su fila.
+     * Los que ya están en la cola se quedan.
+     */
+    public void setRetainTerminated(boolean retainTerminated) {
+        mutex.lock();
+        try {
+            this.retainTerminated = retainTerminated;
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    /**
+     * Si el sistema está en reposo (ningún planificador puede cambiar nada),
+     * salta directamente al ciclo anterior al siguiente evento.
+     * @param lastCycle ciclo máximo de la simulación
+     * @return false si el sistema está en reposo y no hay eventos futuros
+     */
+    private boolean skipUneventfulCycles(long lastCycle) {
+        mutex.lock();
+        try {
+            if (!isQuiescent()) {
+                return true;
+            }
+            long nextEvent = nextEventCycle();
+            if (perCoreQueues && loadBalanceInterval > 0 && readyCount() > 1) {
+                long nextBalance = (globalCycle / loadBalanceInterval + 1) * loadBalanceInterval;
+                nextEvent = Math.min(nextEvent, nextBalance);
+            }
+            if (nextEvent == Long.MAX_VALUE && runningCount() == 0) {
+                return !hasPendingWork();
+            }
+            if (currentAlgorithm == SchedulingAlgorithm.MLFQ && mlfqBoostInterval > 0) {
+                long nextBoost = (globalCycle / mlfqBoostInterval + 1) * mlfqBoostInterval;
+                nextEvent = Math.min(nextEvent, nextBoost);
+            }
+            if (eventDriven) {
+                long target = Math.min(nextEvent - 1, lastCycle);
+                if (target > globalCycle) {
+                    fastForward(target - globalCycle);
+                }
+            }
+            return true;
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    /**
+     * Indica si el próximo ciclo solo avanzaría al proceso en ejecución (o a la CPU
+     * ociosa) sin admisiones, reanudaciones, suspensiones ni cambios de contexto.
+     */
+    private boolean isQuiescent() {
+        int availableMemory = totalMemory - usedMemory;
+        boolean resumeStalled = readySuspendedQueue.isEmpty()
+                || processTable.getMemorySize(readySuspendedQueue.peek()) > availableMemory;
+        boolean ltsStalled = newQueue.isEmpty() || !readySuspendedQueue.isEmpty()
+                || processTable.getMemorySize(newQueue.peek()) > availableMemory;
+        boolean mtsStalled = newQueue.isEmpty() || blockedQueue.isEmpty()
+                || processTable.getMemorySize(newQueue.peek()) <= availableMemory;
+        if (!resumeStalled || !ltsStalled || !mtsStalled) {
+            return false;
+        }
+        for (CpuCore cpu : cpus) {
+            if (cpu.getCurrentProcess() < 0 ? readyCount() > 0 : !cpu.isRunning()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ciclo del siguiente plazo vigente en la rueda de temporizadores.
+     */
+    private long nextEventCycle() {
+        long next = timers.nextDeadline();
+        if (arrivalSource != null) {
+            next = Math.min(next, arrivalBase + arrivalSource.peekArrivalCycle());
+        }
+        return next;
+    }
+
+    /**
+     * Avanza varios ciclos sin eventos de una sola vez, con el mismo efecto
+     * que ejecutarlos uno a uno. El tiempo de espera de los procesos listos
+     * se contabiliza al salir de la cola, así que no hay que recorrerla.
+     */
+    private void fastForward(long cycles) {
+        globalCycle += cycles;
+        ioSubsystem.advance(cycles);
+        
+        for (CpuCore cpu : cpus) {
+            if (cpu.getCurrentProcess() >= 0) {
+                totalCpuBusyTime += cycles;
+                executeInstructions(cpu.getCurrentProcess(), (int) cycles);
+                cpu.addBusyCycles(cycles);
+            }
+        }
+        
+    }
+
+    /**
+     * Programa el próximo evento de CPU (fin de quantum, excepción de E/S o
+     * terminación) del proceso en ejecución en cada CPU.
+     * @param cycle ciclo en que se ejecuta la próxima instrucción: globalCycle
+     *        dentro de executeCycle, globalCycle + 1 entre ciclos
+     */
+    private void refreshCpuEvents(long cycle) {
+        for (CpuCore cpu : cpus) {
+            refreshCpuEvents(cpu, cycle);
+        }
+    }
+
+    /**
+     * Programa el próximo evento de CPU del proceso en ejecución en la CPU indicada.
+     * Solo importa el más cercano: al ocurrir, el proceso se vuelve a despachar
+     * y se programa el siguiente.
+     */
+    private void refreshCpuEvents(CpuCore cpu, long cycle) {
+        if (cpu.getPendingEvent() != null) {
+            cpu.getPendingEvent().cancel();
+            cpu.setPendingEvent(null);
+        }
+        int process = cpu.getCurrentProcess();
+        if (!eventDriven || process < 0) {
+            return;
+        }
+        long remaining = processTable.getRemainingInstructions(process);
+        long eventCycle = cycle + Math.max(0, remaining - 1);
+        SimulationEventType eventType = SimulationEventType.TERMINATION;
+        
+        int cyclesToException = processTable.getCyclesToException(process);
+        if (processTable.getType(process) == ProcessType.IO_BOUND && cyclesToException > 0) {
+            int pc = processTable.getProgramCounter(process);
+            long nextMultiple = (pc / cyclesToException + 1) * (long) cyclesToException;
+            long ioCycle = cycle + nextMultiple - pc - 1;
+            if (ioCycle < eventCycle) {
+                eventCycle = ioCycle;
+                eventType = SimulationEventType.IO_REQUEST;
+            }
+        }
+        
+        int quantum = quantumFor(process);
+        if (quantum > 0) {
+            long quantumCycle = cycle - cpu.getCurrentQuantum() + quantum;
+            if (quantumCycle < eventCycle) {
+                eventCycle = quantumCycle;
+                eventType = SimulationEventType.QUANTUM_EXPIRY;
+            }
+        }
+        SimulationEvent event = new SimulationEvent(eventCycle, eventType, process, cpu.getIndex());
+        cpu.setPendingEvent(event);
+        timers.schedule(event);
+    }
+
+    /**
+     * Pasa a la cola NEW las llegadas de la traza cuyo ciclo ya se cumplió.
+     */
+    private void pullArrivals() {
+        if (arrivalSource == null) {
+            return;
+        }
+        try {
+            while (arrivalSource.hasNext() && arrivalBase + arrivalSource.peekArrivalCycle() <= globalCycle) {
+                admitNew(processTable.allocate(arrivalSource.getName(), arrivalSource.getType(),
+                        arrivalSource.getInstructions(), arrivalSource.getCyclesToException(),
+                        arrivalSource.getCyclesToCompleteException(), arrivalSource.getPriority(),
+                        arrivalSource.getMemorySize()));
+                arrivalSource.advance();
+                arrivalsConsumed++;
+            }
+            if (!arrivalSource.hasNext()) {
+                closeArrivalSource();
+            }
+        } catch (IOException e) {
+            // El resto de la traza no es confiable: se descarta
+            EventLog.message(EventLog.Level.ERROR, globalCycle, "Error leyendo la traza de llegadas: " + e.getMessage());
+            closeArrivalSource();
+        }
+    }
+    
+    private void closeArrivalSource() {
+        try {
+            arrivalSource.close();
+        } catch (IOException e) {
+            EventLog.message(EventLog.Level.ERROR, globalCycle, "Error cerrando la traza de llegadas: " + e.getMessage());
+        }
+        arrivalSource = null;
+    }
+    
+    /**
+     * Vacía la ranura vencida de la rueda y procesa los eventos externos:
+     * llegadas y fines de E/S. Los eventos de CPU solo sirven de cota al motor
+     * de eventos discretos.
+     */
+    private void processDueEvents() {
+        timers.advanceTo(globalCycle, dueEvents);
+        for (int i = 0; i < dueEvents.size(); i++) {
+            SimulationEvent event = dueEvents.get(i);
+            int process = event.getProcess();
+            switch (event.getType()) {
+                case ARRIVAL:
+                    pendingArrivals--;
+                    admitNew(process);
+                    break;
+                case IO_COMPLETION:
+                    completeIO(process);
+                    break;
+                default:
+                    break;
             }
         }
-        System.out.println("Hilo del Scheduler detenido.");
+        dueEvents.clear();
+    }
+
+    /**
+     * Un proceso llega al sistema: entra a la cola NEW en el ciclo actual.
+     */
+    private void admitNew(int slot) {
+        processTable.setArrivalCycle(slot, globalCycle);
+        newQueue.enqueue(slot);
+    }
+
+    /**
+     * Indica si queda algún proceso sin terminar en cualquiera de las colas.
+     */
+    public boolean hasPendingWork() {
+        mutex.lock();
+        try {
+            return runningCount() > 0 || pendingArrivals > 0 || arrivalSource != null
+                    || !newQueue.isEmpty() || readyCount() > 0
+                    || !blockedQueue.isEmpty() || !blockedSuspendedQueue.isEmpty()
+                    || !readySuspendedQueue.isEmpty();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public IOSubsystem getIOSubsystem() {
+        return ioSubsystem;
+    }
+
+    /**
+     * Envía la operación de E/S de un proceso a su dispositivo. Si el dispositivo
+     * está libre, la operación termina en el ciclo globalCycle + cyclesToCompleteException.
+     */
+    private void requestIO(int slot) {
+        IODevice device = ioSubsystem.deviceFor(slot);
+        if (device.submit(slot)) {
+            scheduleIOCompletion(slot);
+        }
+    }
+
+    /**
+     * Termina la operación de E/S en curso de un proceso, lo desbloquea
+     * y arranca la siguiente operación de su dispositivo.
+     */
+    private void completeIO(int slot) {
+        IODevice device = ioSubsystem.deviceFor(slot);
+        device.complete();
+        unblockProcess(slot);
+        if (device.getInService() >= 0) {
+            scheduleIOCompletion(device.getInService());
+        }
+    }
+
+    private void scheduleIOCompletion(int slot) {
+        long completionCycle = globalCycle + Math.max(1, processTable.getCyclesToCompleteException(slot));
+        timers.schedule(new SimulationEvent(completionCycle, SimulationEventType.IO_COMPLETION, slot));
     }
 
     /**
@@ -155,12 +548,20 @@ public class Scheduler implements Runnable { //
      */
     public void shutdown() {
         this.isOperatingSystemRunning = false; 
-        cpuUsageHistory.clear();
-        globalCycleHistory.clear();
-        cpuUsageHistoryCache.clear();
-        globalCycleHistoryCache.clear();
-        terminatedHistory.clear(); 
-        terminatedHistoryCache.clear(); 
+        mutex.lock();
+        try {
+            if (arrivalSource != null) {
+                closeArrivalSource();
+            }
+            cpuUsageHistory.clear();
+            terminatedHistory.clear(); 
+            publishSnapshot();
+            publishProfile();
+        } finally {
+            mutex.unlock();
+        }
+        
+        unregisterMBean();
         
         if (this.exceptionHandlerThread != null) {
             this.exceptionHandlerThread.stopHandler();
@@ -181,31 +582,94 @@ public class Scheduler implements Runnable { //
             if (!isOperatingSystemRunning) {
                 return;
             }
+            // Sin mediciones, cada fase cuesta sólo la comprobación de null
+            SchedulerProfiler profiler = this.profiler;
+            long cycleStart = profiler != null ? System.nanoTime() : 0;
+            long mark = cycleStart;
             globalCycle++;
             
-            globalCycleHistory.add((int)globalCycle);
-            cpuUsageHistory.add(this.isCpuIdle ? 0 : 1);
-            terminatedHistory.add(terminatedProcesses.size());
+            if (!headless) {
+                cpuUsageHistory.add(busyCount());
+                terminatedHistory.add(completedProcesses);
+            }
+            
+            setReadyQueueClock(globalCycle);
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.HISTORY, mark);
+            }
+            ioSubsystem.advance(1);
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.IO, mark);
+            }
+            pullArrivals();
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.ARRIVALS, mark);
+            }
+            processDueEvents();
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.EVENTS, mark);
+            }
             
             resumeSuspendedProcesses();
             longTermScheduler();
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.LONG_TERM, mark);
+            }
             mediumTermScheduler();
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.MEDIUM_TERM, mark);
+            }
+            
+            if (perCoreQueues && loadBalanceInterval > 0 && globalCycle % loadBalanceInterval == 0) {
+                balanceLoad();
+                if (profiler != null) {
+                    mark = profiler.lap(SchedulerPhase.BALANCE, mark);
+                }
+            }
             
-            this.isCpuIdle = (currentProcess == null);
+            if (currentAlgorithm == SchedulingAlgorithm.MLFQ && mlfqBoostInterval > 0
+                    && globalCycle % mlfqBoostInterval == 0) {
+                boostPriorities();
+                if (profiler != null) {
+                    mark = profiler.lap(SchedulerPhase.BOOST, mark);
+                }
+            }
             
+            for (CpuCore cpu : cpus) {
+                cpu.setIdle(cpu.getCurrentProcess() < 0);
+            }
             
-            if (currentProcess == null || currentProcess.getState() != ProcessState.RUNNING || 
-                (currentAlgorithm == SchedulingAlgorithm.RR && currentQuantum >= timeQuantum)) {
-                scheduleNextProcess();
+            for (CpuCore cpu : cpus) {
+                if (!cpu.isRunning() || isQuantumExpired(cpu)) {
+                    scheduleNextProcess(cpu);
+                }
+            }
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.SHORT_TERM, mark);
             }
             
-            if (currentProcess != null && currentProcess.getState() == ProcessState.RUNNING) {
-                executeCurrentProcess();
+            for (CpuCore cpu : cpus) {
+                if (cpu.isRunning()) {
+                    executeCurrentProcess(cpu);
+                }
+            }
+            if (profiler != null) {
+                mark = profiler.lap(SchedulerPhase.EXECUTE, mark);
             }
             
-            updateMetrics();
-            updateGUICache();
-            this.justSuspended = null;
+            if (!headless) {
+                publishSnapshot();
+                if (profiler != null) {
+                    mark = profiler.lap(SchedulerPhase.PUBLISH, mark);
+                }
+            }
+            this.justSuspended = -1;
+            if (profiler != null) {
+                profiler.record(SchedulerPhase.CYCLE, mark - cycleStart);
+                if (mark - profilePublishedAt >= PROFILE_PUBLISH_NANOS) {
+                    publishProfile();
+                }
+            }
             
         } finally {
             mutex.unlock();
@@ -218,9 +682,9 @@ public class Scheduler implements Runnable { //
     public void addProcess(PCB process) {
         mutex.lock();
         try {
-            newQueue.add(process);
+            admitNew(slotOf(process));
 
-            this.newQueueCache = createSnapshot(newQueue);
+            publishSnapshot();
             
         } finally {
             mutex.unlock();
@@ -228,34 +692,20 @@ public class Scheduler implements Runnable { //
     }
 
     /**
-     * Desbloquea un proceso 
+     * Agrega un proceso que llega a la cola NEW en un ciclo futuro.
+     * @param process proceso que llega
+     * @param arrivalCycle ciclo de llegada
      */
-    public void unblockProcess(PCB process) {
+    public void addProcessAt(PCB process, long arrivalCycle) {
         mutex.lock();
         try {
-            boolean removedFromBlocked = blockedQueue.remove(process);
-            
-            if (removedFromBlocked) {
-                process.setState(ProcessState.READY);
-                process.setLastReadyQueueTime(globalCycle);
-                readyQueue.insert(process);
-                
-                this.readyQueueCache = readyQueue.toArray();
-                this.blockedQueueCache = createSnapshot(blockedQueue);
-                
+            int slot = slotOf(process);
+            if (arrivalCycle <= globalCycle) {
+                admitNew(slot);
+                publishSnapshot();
             } else {
-                boolean removedFromSuspended = blockedSuspendedQueue.remove(process);
-                
-                if (removedFromSuspended) {
-                    process.setState(ProcessState.SUSPENDED); 
-                    readySuspendedQueue.add(process); 
-                    
-                    this.blockedSuspendedQueueCache = createSnapshot(blockedSuspendedQueue);
-                    this.readySuspendedQueueCache = createSnapshot(readySuspendedQueue);
-                    System.out.println("Kernel: E/S de " + process.getName() + " terminó (en Suspensión). Moviendo a Ready, Suspended.");
-                } else {
-                    System.err.println("WARN: unblockProcess no encontró a " + process.getName() + " ni en BLOCKED ni en BLOCKED_SUSPENDED.");
-                }
+                pendingArrivals++;
+                timers.schedule(new SimulationEvent(arrivalCycle, SimulationEventType.ARRIVAL, slot));
             }
         } finally {
             mutex.unlock();
@@ -263,201 +713,1150 @@ public class Scheduler implements Runnable { //
     }
 
     /**
-     * Cambia el algoritmo de planificación
+     * Reproduce una traza de llegadas: cada proceso entra a la cola NEW cuando
+     * se cumple su ciclo, contado desde el ciclo actual. La fuente se lee a
+     * medida que avanza la simulación y se cierra al agotarse.
+     * @param source llegadas ordenadas por ciclo
      */
-    public void setSchedulingAlgorithm(SchedulingAlgorithm algorithm) {
+    public void setArrivalSource(ArrivalSource source) {
         mutex.lock();
         try {
-            this.currentAlgorithm = algorithm;
-            ProcessHeap newReadyQueue = new ProcessHeap(100, this.currentAlgorithm);
-            
-            while (!this.readyQueue.isEmpty()) {
-                newReadyQueue.insert(this.readyQueue.extract()); 
+            if (arrivalSource != null) {
+                throw new IllegalStateException("Ya hay una traza de llegadas en reproducción");
+            }
+            arrivalSource = source;
+            arrivalBase = globalCycle;
+            arrivalsConsumed = 0;
+            arrivalsToResume = -1;
+            if (!source.hasNext()) {
+                closeArrivalSource();
             }
-            this.readyQueue = newReadyQueue;
-            
-            this.readyQueueCache = readyQueue.toArray();
-            
         } finally {
             mutex.unlock();
         }
     }
 
-    
     /**
-     * Planificador de Largo Plazo (Long-Term Scheduler).
-     * proceso de NEW a READY.
+     * Retoma la traza de llegadas que estaba activa en el checkpoint del que se
+     * restauró este planificador: descarta los registros ya consumidos y sigue
+     * con el mismo ciclo base.
+     * @param source la misma traza (o un generador con el mismo perfil), desde el inicio
      */
-    private void longTermScheduler() {
-        if (!readySuspendedQueue.isEmpty()) {
-            return; 
-        }
-        // ---
-
-        if (!newQueue.isEmpty()) {
-            PCB processToAdmit = newQueue.get(0);
-            if (usedMemory + processToAdmit.getMemorySize() <= totalMemory) {
-                // ... (el resto del método es igual)
-                PCB process = newQueue.removeAt(0);
-                process.setState(ProcessState.READY);
-                process.setLastReadyQueueTime(globalCycle); 
-                readyQueue.insert(process);
-                usedMemory += process.getMemorySize();
-                System.out.println("LTS: Proceso " + process.getName() + " admitido a READY. (Memoria: " + usedMemory + "/" + totalMemory + ")");
+    public void resumeArrivalSource(ArrivalSource source) throws IOException {
+        mutex.lock();
+        try {
+            if (arrivalsToResume < 0) {
+                throw new IllegalStateException("No hay una traza de llegadas pendiente de retomar");
+            }
+            for (long i = 0; i < arrivalsToResume; i++) {
+                if (!source.hasNext()) {
+                    throw new IOException("La traza tiene menos registros que los ya consumidos ("
+                            + arrivalsToResume + ")");
+                }
+                source.advance();
             }
+            arrivalSource = source;
+            arrivalsToResume = -1;
+            if (!source.hasNext()) {
+                closeArrivalSource();
+            }
+        } finally {
+            mutex.unlock();
         }
     }
-    
+
     /**
-    * Planificador de Mediano Plazo (Medium-Term Scheduler).
-    * suspender un proceso para liberar memoria.
-    */
-    private void mediumTermScheduler() {
-        if (newQueue.isEmpty()) {
-            return; 
+     * Indica si el planificador se restauró con una traza de llegadas que aún
+     * no se retomó con resumeArrivalSource.
+     */
+    public boolean isArrivalSourcePendingResume() {
+        mutex.lock();
+        try {
+            return arrivalsToResume >= 0;
+        } finally {
+            mutex.unlock();
         }
+    }
 
-        PCB nextNewProcess = newQueue.get(0);
-        int availableMemory = totalMemory - usedMemory;
-
-        if (nextNewProcess.getMemorySize() > availableMemory && !blockedQueue.isEmpty()) {
-
-            PCB processToSuspend = blockedQueue.removeAt(0);
-            this.blockedQueueCache = createSnapshot(blockedQueue);
+    /**
+     * Copia el estado completo del planificador. Con el mutex tomado sólo se
+     * copian arreglos (la tabla de procesos y los slots de cada cola), así que
+     * el ciclo se detiene poco; SchedulerCheckpoint.write serializa la copia
+     * sin tomar el mutex.
+     */
+    public SchedulerCheckpoint checkpoint() {
+        mutex.lock();
+        try {
+            SimulationConfig config = new SimulationConfig(totalMemory, currentAlgorithm, cycleDuration);
+            config.setCpuCount(cpus.length);
+            config.setPerCoreQueues(perCoreQueues);
+            config.setLoadBalanceInterval(loadBalanceInterval);
+            config.setIoDeviceCount(ioSubsystem.getDeviceCount());
+            config.setMlfqQuanta(mlfqQuanta);
+            config.setMlfqBoostInterval(mlfqBoostInterval);
+            config.setHistoryRetention(historyRetention);
+            config.setRetainTerminated(retainTerminated);
+            config.setTimeQuantum(timeQuantum);
+            config.setLogLevel(logLevel);
+            config.setLogFile(logFile);
 
-            processToSuspend.setState(ProcessState.SUSPENDED);
-            blockedSuspendedQueue.add(processToSuspend); 
-            this.justSuspended = processToSuspend;
-            this.justSuspended = processToSuspend;
+            SchedulerCheckpoint checkpoint = new SchedulerCheckpoint(config, eventDriven, processTable.copy());
+            checkpoint.globalCycle = globalCycle;
+            checkpoint.usedMemory = usedMemory;
+            checkpoint.migrations = migrations;
+            checkpoint.pendingArrivals = pendingArrivals;
+            checkpoint.completedProcesses = completedProcesses;
+            checkpoint.totalCpuBusyTime = totalCpuBusyTime;
+            checkpoint.totalWaitTime = totalWaitTime;
+            checkpoint.readyEntrySum = readyEntrySum;
+            checkpoint.totalResponseTime = totalResponseTime;
+            checkpoint.respondedProcesses = respondedProcesses;
+            checkpoint.totalTurnaroundTime = totalTurnaroundTime;
+            checkpoint.arrivalSourceActive = arrivalSource != null || arrivalsToResume >= 0;
+            checkpoint.arrivalBase = arrivalBase;
+            checkpoint.arrivalsConsumed = arrivalsToResume >= 0 ? arrivalsToResume : arrivalsConsumed;
 
-            usedMemory -= processToSuspend.getMemorySize();
+            checkpoint.newQueue = newQueue.toArray();
+            checkpoint.readyQueue = readyQueue.toArray();
+            checkpoint.localQueues = new int[perCoreQueues ? cpus.length : 0][];
+            for (int i = 0; i < checkpoint.localQueues.length; i++) {
+                checkpoint.localQueues[i] = cpus[i].getLocalQueue().toArray();
+            }
+            checkpoint.blockedQueue = blockedQueue.toArray();
+            checkpoint.blockedSuspendedQueue = blockedSuspendedQueue.toArray();
+            checkpoint.readySuspendedQueue = readySuspendedQueue.toArray();
+            checkpoint.terminatedProcesses = terminatedProcesses.toArray();
 
-            System.out.println("MTS: Proceso " + processToSuspend.getName() + " SUSPENDIDO (desde BLOQUEADO). (Memoria: " + usedMemory + "/" + totalMemory + ")");
+            checkpoint.cpuProcess = new int[cpus.length];
+            checkpoint.cpuQuantum = new int[cpus.length];
+            checkpoint.cpuIdle = new boolean[cpus.length];
+            checkpoint.cpuBusyCycles = new long[cpus.length];
+            for (int i = 0; i < cpus.length; i++) {
+                checkpoint.cpuProcess[i] = cpus[i].getCurrentProcess();
+                checkpoint.cpuQuantum[i] = cpus[i].getCurrentQuantum();
+                checkpoint.cpuIdle[i] = cpus[i].isIdle();
+                checkpoint.cpuBusyCycles[i] = cpus[i].getBusyCycles();
+            }
 
-            this.blockedSuspendedQueueCache = createSnapshot(blockedSuspendedQueue);
-        }
-    }
+            int deviceCount = ioSubsystem.getDeviceCount();
+            checkpoint.deviceInService = new int[deviceCount];
+            checkpoint.deviceWaiting = new int[deviceCount][];
+            checkpoint.deviceCompleted = new long[deviceCount];
+            checkpoint.deviceBusyCycles = new long[deviceCount];
+            for (int i = 0; i < deviceCount; i++) {
+                IODevice device = ioSubsystem.getDevice(i);
+                checkpoint.deviceInService[i] = device.getInService();
+                checkpoint.deviceWaiting[i] = device.waitingToArray();
+                checkpoint.deviceCompleted[i] = device.getCompletedOperations();
+                checkpoint.deviceBusyCycles[i] = device.getBusyCycles();
+            }
 
-    private void scheduleNextProcess() {
-        if (currentProcess != null && currentProcess.getState() == ProcessState.RUNNING) {
-            currentProcess.setState(ProcessState.READY);
-            currentProcess.setLastReadyQueueTime(globalCycle);
-            readyQueue.insert(currentProcess);
-        }
-        
-        if (!readyQueue.isEmpty()) {
-            currentProcess = readyQueue.extract();
-            currentProcess.setState(ProcessState.RUNNING);
-            currentQuantum = 0;
-            if (currentProcess.getResponseTime() == -1) {
-                currentProcess.setResponseTime(globalCycle);
+            // Los eventos de CPU se recalculan al restaurar; sólo se guardan
+            // llegadas y fines de E/S, en el orden en que saldrían
+            CustomList<SimulationEvent> pending = new CustomList<>();
+            timers.pending(pending);
+            int eventCount = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                if (isExternalEvent(pending.get(i))) {
+                    eventCount++;
+                }
             }
-        } else {
-            currentProcess = null;
-            this.isCpuIdle = true;
-        }
-    }
-    
-    private void executeCurrentProcess() {
-        totalCpuBusyTime++;
-        this.isCpuIdle = false;
-        currentProcess.executeInstruction(); 
-        currentQuantum++;
-        
-        if (currentProcess.getState() == ProcessState.TERMINATED) {
-            currentProcess.setTurnaroundTime(globalCycle);
-            terminatedProcesses.add(currentProcess);
-            completedProcesses++;
-            usedMemory -= currentProcess.getMemorySize(); 
-            System.out.println("Kernel: Proceso " + currentProcess.getName() + " TERMINADO. (Memoria: " + usedMemory + "/" + totalMemory + ")");
-            currentProcess = null;
-            this.isCpuIdle = true;
-        } else if (currentProcess.getState() == ProcessState.BLOCKED) {
-            blockedQueue.add(currentProcess);
-            currentProcess = null;
-            this.isCpuIdle = true;
-        }
-    }
-    
-    private void updateMetrics() {
-        Object[] readyProcesses = readyQueue.toArray(); 
-        for (Object obj : readyProcesses) {
-            if (obj instanceof PCB) {
-                ((PCB) obj).incrementWaitingTime();
-                totalWaitTime++;
+            checkpoint.eventCycles = new long[eventCount];
+            checkpoint.eventTypes = new byte[eventCount];
+            checkpoint.eventSlots = new int[eventCount];
+            int index = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                SimulationEvent event = pending.get(i);
+                if (isExternalEvent(event)) {
+                    checkpoint.eventCycles[index] = event.getCycle();
+                    checkpoint.eventTypes[index] = (byte) event.getType().ordinal();
+                    checkpoint.eventSlots[index] = event.getProcess();
+                    index++;
+                }
             }
+            return checkpoint;
+        } finally {
+            mutex.unlock();
         }
     }
-    
+
+    /**
+     * Crea un planificador con el estado de un checkpoint. Queda detenido y
+     * se reanuda con start() o runHeadless(); si había una traza de llegadas
+     * activa, hay que retomarla con resumeArrivalSource.
+     */
+    public static Scheduler restore(SchedulerCheckpoint checkpoint) {
+        Scheduler scheduler = new Scheduler(checkpoint.getConfig());
+        scheduler.restoreState(checkpoint);
+        return scheduler;
+    }
+
+    private void restoreState(SchedulerCheckpoint checkpoint) {
+        mutex.lock();
+        try {
+            if (checkpoint.localQueues.length != (perCoreQueues ? cpus.length : 0)
+                    || checkpoint.cpuProcess.length != cpus.length
+                    || checkpoint.deviceInService.length != ioSubsystem.getDeviceCount()) {
+                throw new IllegalArgumentException("El checkpoint no coincide con su configuración");
+            }
+            processTable.copyFrom(checkpoint.table);
+
+            globalCycle = checkpoint.globalCycle;
+            usedMemory = checkpoint.usedMemory;
+            migrations = checkpoint.migrations;
+            pendingArrivals = checkpoint.pendingArrivals;
+            completedProcesses = checkpoint.completedProcesses;
+            totalCpuBusyTime = checkpoint.totalCpuBusyTime;
+            totalWaitTime = checkpoint.totalWaitTime;
+            readyEntrySum = checkpoint.readyEntrySum;
+            totalResponseTime = checkpoint.totalResponseTime;
+            respondedProcesses = checkpoint.respondedProcesses;
+            totalTurnaroundTime = checkpoint.totalTurnaroundTime;
+            arrivalBase = checkpoint.arrivalBase;
+            arrivalsConsumed = checkpoint.arrivalsConsumed;
+            arrivalsToResume = checkpoint.arrivalSourceActive ? checkpoint.arrivalsConsumed : -1;
+
+            setReadyQueueClock(globalCycle);
+            enqueueAll(newQueue, checkpoint.newQueue);
+            for (int slot : checkpoint.readyQueue) {
+                readyQueue.insert(slot);
+            }
+            for (int i = 0; i < checkpoint.localQueues.length; i++) {
+                for (int slot : checkpoint.localQueues[i]) {
+                    cpus[i].getLocalQueue().insert(slot);
+                }
+            }
+            enqueueAll(blockedQueue, checkpoint.blockedQueue);
+            enqueueAll(blockedSuspendedQueue, checkpoint.blockedSuspendedQueue);
+            enqueueAll(readySuspendedQueue, checkpoint.readySuspendedQueue);
+            enqueueAll(terminatedProcesses, checkpoint.terminatedProcesses);
+
+            for (int i = 0; i < cpus.length; i++) {
+                cpus[i].setCurrentProcess(checkpoint.cpuProcess[i]);
+                cpus[i].setCurrentQuantum(checkpoint.cpuQuantum[i]);
+                cpus[i].setIdle(checkpoint.cpuIdle[i]);
+                cpus[i].setBusyCycles(checkpoint.cpuBusyCycles[i]);
+            }
+            for (int i = 0; i < checkpoint.deviceInService.length; i++) {
+                ioSubsystem.getDevice(i).restore(checkpoint.deviceInService[i], checkpoint.deviceWaiting[i],
+                        checkpoint.deviceCompleted[i], checkpoint.deviceBusyCycles[i]);
+            }
+            for (int i = 0; i < checkpoint.eventCycles.length; i++) {
+                timers.schedule(new SimulationEvent(checkpoint.eventCycles[i],
+                        SchedulerCheckpoint.eventType(checkpoint.eventTypes[i]), checkpoint.eventSlots[i]));
+            }
+
+            this.eventDriven = checkpoint.isEventDriven();
+            refreshCpuEvents(globalCycle + 1);
+            readyVersion++;
+            publishSnapshot();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    private static boolean isExternalEvent(SimulationEvent event) {
+        return event.getType() == SimulationEventType.ARRIVAL
+                || event.getType() == SimulationEventType.IO_COMPLETION;
+    }
+
+    /**
+     * Slot de un proceso creado para este planificador. Falla si el PCB es de
+     * otra tabla o si su fila ya se liberó.
+     */
+    private int slotOf(PCB process) {
+        if (process.getTable() != processTable) {
+            throw new IllegalStateException("El proceso " + process.getName()
+                    + " no pertenece a la tabla de este planificador");
+        }
+        return process.getSlot();
+    }
+
+    private static void enqueueAll(ProcessQueue queue, int[] slots) {
+        for (int slot : slots) {
+            queue.enqueue(slot);
+        }
+    }
+
+    private static void enqueueAll(LinkedProcessQueue queue, int[] slots) {
+        for (int slot : slots) {
+            queue.enqueue(slot);
+        }
+    }
+
+    /**
+     * Desbloquea un proceso 
+     */
+    public void unblockProcess(PCB process) {
+        mutex.lock();
+        try {
+            unblockProcess(slotOf(process));
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    private void unblockProcess(int slot) {
+        boolean removedFromBlocked = blockedQueue.remove(slot);
+        
+        if (removedFromBlocked) {
+            processTable.setState(slot, ProcessState.READY);
+            processTable.setLastReadyQueueTime(slot, globalCycle);
+            enqueueReady(slot, null);
+            
+        } else {
+            boolean removedFromSuspended = blockedSuspendedQueue.remove(slot);
+            
+            if (removedFromSuspended) {
+                processTable.setState(slot, ProcessState.SUSPENDED); 
+                readySuspendedQueue.enqueue(slot); 
+                
+                EventLog.record(EventLog.Level.INFO, EventLog.Kind.IO_DONE_SUSPENDED, globalCycle,
+                        processTable.getId(slot), processTable.getName(slot), 0, 0);
+            } else {
+                if (EventLog.isEnabled(EventLog.Level.WARN)) {
+                    EventLog.message(EventLog.Level.WARN, globalCycle, "unblockProcess no encontró a "
+                            + processTable.getName(slot) + " ni en BLOCKED ni en BLOCKED_SUSPENDED.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Cambia el algoritmo de planificación
+     */
+    public void setSchedulingAlgorithm(SchedulingAlgorithm algorithm) {
+        mutex.lock();
+        try {
+            this.currentAlgorithm = algorithm;
+            setReadyQueueClock(globalCycle + 1);
+            this.readyQueue = rebuildQueue(this.readyQueue);
+            if (perCoreQueues) {
+                for (CpuCore cpu : cpus) {
+                    cpu.setLocalQueue(rebuildQueue(cpu.getLocalQueue()));
+                }
+            }
+            refreshCpuEvents(globalCycle + 1);
+            readyVersion++;
+            
+            publishSnapshot();
+            
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    
+    /**
+     * Planificador de Largo Plazo (Long-Term Scheduler).
+     * proceso de NEW a READY.
+     */
+    private void longTermScheduler() {
+        if (!readySuspendedQueue.isEmpty()) {
+            return; 
+        }
+        // ---
+
+        if (!newQueue.isEmpty()) {
+            int processToAdmit = newQueue.peek();
+            if (usedMemory + processTable.getMemorySize(processToAdmit) <= totalMemory) {
+                // ... (el resto del método es igual)
+                int process = newQueue.dequeue();
+                processTable.setState(process, ProcessState.READY);
+                processTable.setLastReadyQueueTime(process, globalCycle); 
+                enqueueReady(process, null);
+                usedMemory += processTable.getMemorySize(process);
+                AdmissionEvent event = new AdmissionEvent();
+                if (event.isEnabled()) {
+                    describe(event);
+                    event.processId = processTable.getId(process);
+                    event.memorySize = processTable.getMemorySize(process);
+                    event.usedMemory = usedMemory;
+                    event.commit();
+                }
+                EventLog.record(EventLog.Level.INFO, EventLog.Kind.ADMITTED, globalCycle,
+                        processTable.getId(process), processTable.getName(process), usedMemory, totalMemory);
+            }
+        }
+    }
+    
+    /**
+    * Planificador de Mediano Plazo (Medium-Term Scheduler).
+    * suspender un proceso para liberar memoria.
+    */
+    private void mediumTermScheduler() {
+        if (newQueue.isEmpty()) {
+            return; 
+        }
+
+        int nextNewProcess = newQueue.peek();
+        int availableMemory = totalMemory - usedMemory;
+
+        if (processTable.getMemorySize(nextNewProcess) > availableMemory && !blockedQueue.isEmpty()) {
+
+            int processToSuspend = blockedQueue.dequeue();
+
+            processTable.setState(processToSuspend, ProcessState.SUSPENDED);
+            blockedSuspendedQueue.enqueue(processToSuspend); 
+            this.justSuspended = processToSuspend;
+            this.justSuspended = processToSuspend;
+
+            usedMemory -= processTable.getMemorySize(processToSuspend);
+            SuspensionEvent event = new SuspensionEvent();
+            if (event.isEnabled()) {
+                describe(event);
+                event.processId = processTable.getId(processToSuspend);
+                event.memorySize = processTable.getMemorySize(processToSuspend);
+                event.usedMemory = usedMemory;
+                event.commit();
+            }
+
+            EventLog.record(EventLog.Level.INFO, EventLog.Kind.SUSPENDED, globalCycle,
+                    processTable.getId(processToSuspend), processTable.getName(processToSuspend),
+                    usedMemory, totalMemory);
+        }
+    }
+
+    private void scheduleNextProcess(CpuCore cpu) {
+        int currentProcess = cpu.getCurrentProcess();
+        int previous = currentProcess;
+        boolean preempted = currentProcess >= 0 && processTable.getState(currentProcess) == ProcessState.RUNNING;
+        if (preempted) {
+            if (currentAlgorithm == SchedulingAlgorithm.MLFQ) {
+                // Agotó su quantum: baja un nivel
+                processTable.setMlfqLevel(currentProcess,
+                        Math.min(processTable.getMlfqLevel(currentProcess) + 1, mlfqQuanta.length - 1));
+            }
+            processTable.setState(currentProcess, ProcessState.READY);
+            processTable.setLastReadyQueueTime(currentProcess, globalCycle);
+            enqueueReady(currentProcess, cpu);
+        }
+        
+        int next = dequeueReady(cpu);
+        if (next >= 0) {
+            if (next != previous) {
+                ContextSwitchEvent event = new ContextSwitchEvent();
+                if (event.isEnabled()) {
+                    describe(event);
+                    event.cpu = cpu.getIndex();
+                    event.previousProcessId = previous >= 0 ? processTable.getId(previous) : -1;
+                    event.nextProcessId = processTable.getId(next);
+                    event.preempted = preempted;
+                    event.commit();
+                }
+            }
+            currentProcess = next;
+            processTable.setState(currentProcess, ProcessState.RUNNING);
+            cpu.setCurrentProcess(currentProcess);
+            cpu.setCurrentQuantum(0);
+            if (processTable.getResponseTime(currentProcess) == -1) {
+                long responseTime = globalCycle - processTable.getArrivalCycle(currentProcess);
+                processTable.setResponseTime(currentProcess, responseTime);
+                totalResponseTime += responseTime;
+                respondedProcesses++;
+            }
+        } else {
+            cpu.setCurrentProcess(-1);
+            cpu.setIdle(true);
+        }
+        refreshCpuEvents(cpu, globalCycle);
+    }
+    
+    private void executeCurrentProcess(CpuCore cpu) {
+        int currentProcess = cpu.getCurrentProcess();
+        totalCpuBusyTime++;
+        cpu.setIdle(false);
+        executeInstruction(currentProcess); 
+        cpu.addBusyCycles(1);
+        
+        ProcessState state = processTable.getState(currentProcess);
+        if (state == ProcessState.TERMINATED) {
+            long turnaroundTime = globalCycle - processTable.getArrivalCycle(currentProcess);
+            processTable.setTurnaroundTime(currentProcess, turnaroundTime);
+            totalTurnaroundTime += turnaroundTime;
+            completedProcesses++;
+            usedMemory -= processTable.getMemorySize(currentProcess); 
+            EventLog.record(EventLog.Level.INFO, EventLog.Kind.TERMINATED, globalCycle,
+                    processTable.getId(currentProcess), processTable.getName(currentProcess),
+                    usedMemory, totalMemory);
+            if (retainTerminated) {
+                terminatedProcesses.enqueue(currentProcess);
+            } else {
+                // Ya está contado en las métricas: se libera su fila
+                processTable.release(currentProcess);
+            }
+            cpu.setCurrentProcess(-1);
+            cpu.setIdle(true);
+            refreshCpuEvents(cpu, globalCycle);
+        } else if (state == ProcessState.BLOCKED) {
+            if (currentAlgorithm == SchedulingAlgorithm.MLFQ) {
+                // Cedió la CPU por E/S: sube un nivel
+                processTable.setMlfqLevel(currentProcess, Math.max(0, processTable.getMlfqLevel(currentProcess) - 1));
+            }
+            blockedQueue.enqueue(currentProcess);
+            cpu.setCurrentProcess(-1);
+            cpu.setIdle(true);
+            refreshCpuEvents(cpu, globalCycle);
+        }
+    }
+
+    /**
+     * Ejecuta una instrucción del proceso. Un proceso IO_BOUND genera una
+     * excepción de E/S cada cyclesToException instrucciones: se bloquea y su
+     * operación se envía al subsistema de E/S.
+     */
+    private void executeInstruction(int slot) {
+        int remainingInstructions = processTable.getRemainingInstructions(slot);
+        if (remainingInstructions <= 0) {
+            processTable.setState(slot, ProcessState.TERMINATED);
+            return;
+        }
+        
+        int programCounter = processTable.getProgramCounter(slot) + 1;
+        remainingInstructions--;
+        processTable.setProgramCounter(slot, programCounter);
+        processTable.setMAR(slot, programCounter);
+        processTable.setRemainingInstructions(slot, remainingInstructions);
+        
+        int cyclesToException = processTable.getCyclesToException(slot);
+        if (processTable.getType(slot) == ProcessType.IO_BOUND &&
+            cyclesToException > 0 && 
+            programCounter > 0 && 
+            programCounter % cyclesToException == 0 &&
+            processTable.getState(slot) == ProcessState.RUNNING) {
+            
+            EventLog.record(EventLog.Level.DEBUG, EventLog.Kind.IO_REQUEST, globalCycle,
+                    processTable.getId(slot), processTable.getName(slot), programCounter, 0);
+            processTable.setState(slot, ProcessState.BLOCKED);
+            requestIO(slot);
+            return;
+        }
+        
+        if (remainingInstructions == 0) {
+            processTable.setState(slot, ProcessState.TERMINATED);
+        }
+    }
+    
+    /**
+     * Ejecuta varias instrucciones de una vez. Solo es válido cuando ninguna
+     * de ellas produce excepción de E/S ni termina el proceso (motor de eventos).
+     * @param count número de instrucciones
+     */
+    private void executeInstructions(int slot, int count) {
+        int programCounter = processTable.getProgramCounter(slot) + count;
+        processTable.setProgramCounter(slot, programCounter);
+        processTable.setMAR(slot, programCounter);
+        processTable.setRemainingInstructions(slot, processTable.getRemainingInstructions(slot) - count);
+    }
+    
+    /**
+     * Inserta un proceso en la cola de listos. Con colas por CPU, un proceso
+     * expropiado vuelve a la cola de su CPU y el resto va a la cola menos cargada.
+     * @param slot proceso listo
+     * @param cpu CPU que lo expropió, o null
+     */
+    private void enqueueReady(int slot, CpuCore cpu) {
+        readyEntrySum += processTable.getLastReadyQueueTime(slot);
+        readyVersion++;
+        if (!perCoreQueues) {
+            readyQueue.insert(slot);
+            return;
+        }
+        CpuCore target = cpu != null ? cpu : leastLoadedCpu();
+        target.getLocalQueue().insert(slot);
+    }
+
+    /**
+     * Extrae el siguiente proceso para la CPU indicada. Con colas por CPU, si la
+     * cola local está vacía se roba trabajo de la CPU más cargada.
+     * @return el slot del proceso o -1 si no hay procesos listos
+     */
+    private int dequeueReady(CpuCore cpu) {
+        int next;
+        if (!perCoreQueues) {
+            next = readyQueue.extract();
+        } else {
+            next = cpu.getLocalQueue().extract();
+            if (next < 0) {
+                CpuCore victim = mostLoadedCpu();
+                if (victim != cpu && !victim.getLocalQueue().isEmpty()) {
+                    next = victim.getLocalQueue().extract();
+                    migrations++;
+                }
+            }
+        }
+        if (next >= 0) {
+            accountWaitingTime(next);
+            readyVersion++;
+        }
+        return next;
+    }
+
+    /**
+     * Suma al proceso (y al total) los ciclos que pasó en la cola de listos
+     * desde que entró en el ciclo lastReadyQueueTime hasta el ciclo actual.
+     */
+    private void accountWaitingTime(int slot) {
+        long waited = globalCycle - processTable.getLastReadyQueueTime(slot);
+        processTable.setWaitingTime(slot, processTable.getWaitingTime(slot) + waited);
+        totalWaitTime += waited;
+        readyEntrySum -= processTable.getLastReadyQueueTime(slot);
+    }
+
+    /**
+     * Tiempo de espera total exacto, incluido el de los procesos que siguen en
+     * la cola de listos (contados hasta el ciclo actual inclusive).
+     */
+    private long totalWaitTimeSnapshot() {
+        return totalWaitTime + (long) readyCount() * (globalCycle + 1) - readyEntrySum;
+    }
+
+    /**
+     * Fija el ciclo de referencia de las colas de listos (HRRN usa la espera
+     * acumulada hasta ese ciclo).
+     */
+    private void setReadyQueueClock(long cycle) {
+        readyQueue.setCurrentCycle(cycle);
+        if (perCoreQueues) {
+            for (CpuCore cpu : cpus) {
+                cpu.getLocalQueue().setCurrentCycle(cycle);
+            }
+        }
+    }
+
+    /**
+     * Balanceo periódico: mueve procesos de la cola más cargada a la menos
+     * cargada hasta que difieran como mucho en uno.
+     */
+    private void balanceLoad() {
+        while (true) {
+            CpuCore busiest = mostLoadedCpu();
+            CpuCore idlest = leastLoadedCpu();
+            if (busiest.getLocalQueue().size() - idlest.getLocalQueue().size() <= 1) {
+                return;
+            }
+            idlest.getLocalQueue().insert(busiest.getLocalQueue().extract());
+            migrations++;
+            readyVersion++;
+        }
+    }
+
+    private CpuCore leastLoadedCpu() {
+        CpuCore best = cpus[0];
+        for (CpuCore cpu : cpus) {
+            if (cpu.getLocalQueue().size() < best.getLocalQueue().size()) {
+                best = cpu;
+            }
+        }
+        return best;
+    }
+
+    private CpuCore mostLoadedCpu() {
+        CpuCore best = cpus[0];
+        for (CpuCore cpu : cpus) {
+            if (cpu.getLocalQueue().size() > best.getLocalQueue().size()) {
+                best = cpu;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Total de procesos listos (cola global o suma de las colas por CPU).
+     */
+    private int readyCount() {
+        if (!perCoreQueues) {
+            return readyQueue.size();
+        }
+        int count = 0;
+        for (CpuCore cpu : cpus) {
+            count += cpu.getLocalQueue().size();
+        }
+        return count;
+    }
+
+    /**
+     * Procesos listos de todas las colas.
+     */
+    private int[] readyToArray() {
+        if (!perCoreQueues) {
+            return readyQueue.toArray();
+        }
+        int[] all = new int[readyCount()];
+        int index = 0;
+        for (CpuCore cpu : cpus) {
+            int[] local = cpu.getLocalQueue().toArray();
+            System.arraycopy(local, 0, all, index, local.length);
+            index += local.length;
+        }
+        return all;
+    }
+
+    private ReadyQueue newReadyQueue(SchedulingAlgorithm algorithm) {
+        return ReadyQueue.create(algorithm, processTable, mlfqQuanta.length);
+    }
+
+    /**
+     * Quantum del proceso según el algoritmo actual (0 si no hay expropiación
+     * por tiempo).
+     */
+    private int quantumFor(int slot) {
+        switch (currentAlgorithm) {
+            case RR:
+                return timeQuantum;
+            case MLFQ:
+                return mlfqQuanta[Math.min(Math.max(0, processTable.getMlfqLevel(slot)), mlfqQuanta.length - 1)];
+            default:
+                return 0;
+        }
+    }
+
+    private boolean isQuantumExpired(CpuCore cpu) {
+        int quantum = quantumFor(cpu.getCurrentProcess());
+        return quantum > 0 && cpu.getCurrentQuantum() >= quantum;
+    }
+
+    /**
+     * Refuerzo periódico de MLFQ: todos los procesos vuelven al nivel 0 y los
+     * que están en ejecución empiezan un quantum nuevo.
+     */
+    private void boostPriorities() {
+        readyVersion++;
+        boostQueue(readyQueue);
+        if (perCoreQueues) {
+            for (CpuCore cpu : cpus) {
+                boostQueue(cpu.getLocalQueue());
+            }
+        }
+        for (CpuCore cpu : cpus) {
+            if (cpu.getCurrentProcess() >= 0) {
+                processTable.setMlfqLevel(cpu.getCurrentProcess(), 0);
+                cpu.setCurrentQuantum(0);
+            }
+        }
+        resetLevels(blockedQueue);
+        resetLevels(blockedSuspendedQueue);
+        resetLevels(readySuspendedQueue);
+        refreshCpuEvents(globalCycle);
+    }
+
+    private void boostQueue(ReadyQueue queue) {
+        if (queue instanceof MlfqQueue) {
+            ((MlfqQueue) queue).boost();
+        }
+    }
+
+    private void resetLevels(ProcessQueue processes) {
+        for (int i = 0; i < processes.size(); i++) {
+            processTable.setMlfqLevel(processes.get(i), 0);
+        }
+    }
+
+    private void resetLevels(LinkedProcessQueue processes) {
+        for (int slot = processes.peek(); slot >= 0; slot = processes.next(slot)) {
+            processTable.setMlfqLevel(slot, 0);
+        }
+    }
+
+    /**
+     * Procesos listos en cada nivel de MLFQ (vacío con otros algoritmos).
+     */
+    private int[] mlfqLevelSizes() {
+        if (currentAlgorithm != SchedulingAlgorithm.MLFQ) {
+            return new int[0];
+        }
+        int[] sizes = new int[mlfqQuanta.length];
+        addLevelSizes(readyQueue, sizes);
+        if (perCoreQueues) {
+            for (CpuCore cpu : cpus) {
+                addLevelSizes(cpu.getLocalQueue(), sizes);
+            }
+        }
+        return sizes;
+    }
+
+    private void addLevelSizes(ReadyQueue queue, int[] sizes) {
+        if (queue instanceof MlfqQueue) {
+            int[] levelSizes = ((MlfqQueue) queue).getLevelSizes();
+            for (int i = 0; i < levelSizes.length && i < sizes.length; i++) {
+                sizes[i] += levelSizes[i];
+            }
+        }
+    }
+
+    private ReadyQueue rebuildQueue(ReadyQueue queue) {
+        ReadyQueue rebuilt = newReadyQueue(this.currentAlgorithm);
+        rebuilt.setCurrentCycle(queue.getCurrentCycle());
+        while (!queue.isEmpty()) {
+            rebuilt.insert(queue.extract());
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Número de CPUs con un proceso asignado.
+     */
+    private int runningCount() {
+        int count = 0;
+        for (CpuCore cpu : cpus) {
+            if (cpu.getCurrentProcess() >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Número de CPUs que no están ociosas.
+     */
+    private int busyCount() {
+        int count = 0;
+        for (CpuCore cpu : cpus) {
+            if (!cpu.isIdle()) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
     private void resumeSuspendedProcesses() {
         if (readySuspendedQueue.isEmpty()) {
             return; 
         }
 
-        PCB processToResume = readySuspendedQueue.get(0);
+        int processToResume = readySuspendedQueue.peek();
 
-        if (usedMemory + processToResume.getMemorySize() <= totalMemory) {
-            readySuspendedQueue.removeAt(0); 
+        if (usedMemory + processTable.getMemorySize(processToResume) <= totalMemory) {
+            readySuspendedQueue.dequeue(); 
             
-            processToResume.setState(ProcessState.READY);
-            processToResume.setLastReadyQueueTime(globalCycle);
-            readyQueue.insert(processToResume);
+            processTable.setState(processToResume, ProcessState.READY);
+            processTable.setLastReadyQueueTime(processToResume, globalCycle);
+            enqueueReady(processToResume, null);
             
-            usedMemory += processToResume.getMemorySize();
+            usedMemory += processTable.getMemorySize(processToResume);
             
-            System.out.println("MTS: Proceso " + processToResume.getName() + " REANUDADO a READY. (Memoria: " + usedMemory + "/" + totalMemory + ")");
+            EventLog.record(EventLog.Level.INFO, EventLog.Kind.RESUMED, globalCycle,
+                    processTable.getId(processToResume), processTable.getName(processToResume),
+                    usedMemory, totalMemory);
+        }
+    }
+
+    /**
+     * Publica una nueva versión de la instantánea. Sólo se copian las colas que
+     * cambiaron desde la versión anterior; el resto y los historiales se comparten.
+     * Las colas de bloqueados también se copian si avanzó alguna E/S, porque
+     * cambia el MAR de sus procesos.
+     * Debe llamarse con el mutex tomado.
+     */
+    private void publishSnapshot() {
+        SchedulerSnapshot previous = this.snapshot;
+        boolean first = previous == null;
+        boolean ioChanged = ioSubsystem.getProgress() != publishedIoProgress;
+
+        ProcessRows newCopy = first || newQueue.getModCount() != publishedNewMod
+                ? rows(newQueue.toArray()) : previous.getNewQueue();
+        ProcessRows blockedCopy = first || ioChanged || blockedQueue.getModCount() != publishedBlockedMod
+                ? rows(blockedQueue.toArray()) : previous.getBlockedQueue();
+        ProcessRows blockedSuspendedCopy = first || ioChanged
+                || blockedSuspendedQueue.getModCount() != publishedBlockedSuspendedMod
+                ? rows(blockedSuspendedQueue.toArray()) : previous.getBlockedSuspendedQueue();
+        ProcessRows readySuspendedCopy = first || readySuspendedQueue.getModCount() != publishedReadySuspendedMod
+                ? rows(readySuspendedQueue.toArray()) : previous.getReadySuspendedQueue();
+        ProcessRows terminatedCopy = first || terminatedProcesses.getModCount() != publishedTerminatedMod
+                ? rows(terminatedProcesses.toArray()) : previous.getTerminatedQueue();
+        boolean readyChanged = first || readyVersion != publishedReadyVersion;
+        ProcessRows readyCopy = readyChanged ? rows(readyToArray()) : previous.getReadyQueue();
+        int[] levelSizes = readyChanged ? mlfqLevelSizes() : previous.getMlfqLevelSizes();
+
+        publishedNewMod = newQueue.getModCount();
+        publishedBlockedMod = blockedQueue.getModCount();
+        publishedBlockedSuspendedMod = blockedSuspendedQueue.getModCount();
+        publishedReadySuspendedMod = readySuspendedQueue.getModCount();
+        publishedTerminatedMod = terminatedProcesses.getModCount();
+        publishedReadyVersion = readyVersion;
+        publishedIoProgress = ioSubsystem.getProgress();
 
-            this.readySuspendedQueueCache = createSnapshot(readySuspendedQueue);
+        // La versión sólo cambia si se copió alguna cola; si no, la GUI no rehace las tablas
+        boolean queuesChanged = first || newCopy != previous.getNewQueue() || readyCopy != previous.getReadyQueue()
+                || blockedCopy != previous.getBlockedQueue()
+                || blockedSuspendedCopy != previous.getBlockedSuspendedQueue()
+                || readySuspendedCopy != previous.getReadySuspendedQueue()
+                || terminatedCopy != previous.getTerminatedQueue();
+        long version = first ? 0 : queuesChanged ? previous.getVersion() + 1 : previous.getVersion();
+        this.snapshot = new SchedulerSnapshot(version,
+                newCopy, readyCopy, levelSizes, blockedCopy, blockedSuspendedCopy,
+                readySuspendedCopy, terminatedCopy, cpuUsageHistory.snapshot(),
+                terminatedHistory.snapshot(), createStatus(first ? null : previous.getStatus()));
+    }
+
+    /**
+     * Contadores del ciclo actual. El id y el nombre de cada proceso en
+     * ejecución se copian aquí, con el mutex tomado; los arreglos de procesos
+     * en ejecución y de CPUs libres se comparten con el estado anterior si no
+     * cambiaron.
+     */
+    private SchedulerStatus createStatus(SchedulerStatus previous) {
+        int[] runningIds = previous != null ? previous.getRunningIds() : null;
+        String[] runningNames = previous != null ? previous.getRunningNames() : null;
+        boolean[] idle = previous != null ? previous.getCpuIdle() : null;
+        long[] busy = new long[cpus.length];
+        boolean runningChanged = runningIds == null;
+        boolean idleChanged = idle == null;
+        for (int i = 0; i < cpus.length; i++) {
+            busy[i] = cpus[i].getBusyCycles();
+            int current = cpus[i].getCurrentProcess();
+            if (!runningChanged && runningIds[i] != (current >= 0 ? processTable.getId(current) : -1)) {
+                runningChanged = true;
+            }
+            if (!idleChanged && idle[i] != cpus[i].isIdle()) {
+                idleChanged = true;
+            }
         }
+        if (runningChanged) {
+            runningIds = new int[cpus.length];
+            runningNames = new String[cpus.length];
+            for (int i = 0; i < cpus.length; i++) {
+                int current = cpus[i].getCurrentProcess();
+                runningIds[i] = current >= 0 ? processTable.getId(current) : -1;
+                runningNames[i] = current >= 0 ? processTable.getName(current) : null;
+            }
+        }
+        if (idleChanged) {
+            idle = new boolean[cpus.length];
+            for (int i = 0; i < cpus.length; i++) {
+                idle[i] = cpus[i].isIdle();
+            }
+        }
+        int totalProcesses = completedProcesses + readyCount() + blockedQueue.size()
+                + blockedSuspendedQueue.size() + readySuspendedQueue.size() + runningCount();
+        int[] queueDepths = {newQueue.size(), readyCount(), blockedQueue.size(), blockedSuspendedQueue.size(),
+                readySuspendedQueue.size(), terminatedProcesses.size()};
+        return new SchedulerStatus(globalCycle, currentAlgorithm, runningIds, runningNames, idle, busy,
+                completedProcesses, totalProcesses, totalCpuBusyTime, totalWaitTimeSnapshot(),
+                totalResponseTime, respondedProcesses, totalTurnaroundTime, migrations,
+                queueDepths, usedMemory, totalMemory);
     }
 
-    private void updateGUICache() {
-        this.newQueueCache = createSnapshot(newQueue);
-        this.readyQueueCache = readyQueue.toArray();
-        this.blockedQueueCache = createSnapshot(blockedQueue);
-        this.blockedSuspendedQueueCache = createSnapshot(blockedSuspendedQueue);
-        this.readySuspendedQueueCache = createSnapshot(readySuspendedQueue);
-        this.terminatedQueueCache = createSnapshot(terminatedProcesses);
-        this.cpuUsageHistoryCache = createSnapshot(cpuUsageHistory);
-        this.globalCycleHistoryCache = createSnapshot(globalCycleHistory);
-        this.terminatedHistoryCache = createSnapshot(terminatedHistory);
+    /**
+     * Llena el ciclo y la profundidad de las colas de un evento de JFR.
+     * Debe llamarse con el mutex tomado.
+     */
+    void describe(SchedulerEvent event) {
+        event.globalCycle = globalCycle;
+        event.newQueue = newQueue.size();
+        event.readyQueue = readyCount();
+        event.blockedQueue = blockedQueue.size();
+        event.blockedSuspendedQueue = blockedSuspendedQueue.size();
+        event.readySuspendedQueue = readySuspendedQueue.size();
+        event.terminatedQueue = terminatedProcesses.size();
     }
 
+    /**
+     * Contadores del ciclo actual tomados con el mutex. A diferencia de
+     * getStatusSnapshot, también sirve durante runHeadless, que sólo publica
+     * la instantánea al final; pensado para consultas poco frecuentes.
+     */
+    public SchedulerStatus getLiveStatus() {
+        mutex.lock();
+        try {
+            return createStatus(null);
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    /**
+     * Última instantánea publicada de colas e historiales. No toma el mutex.
+     */
+    public SchedulerSnapshot getSnapshot() {
+        return snapshot;
+    }
 
-    public CustomList<PCB> getNewQueueSnapshot() {
-        return newQueueCache; 
+    public ProcessRows getNewQueueSnapshot() {
+        return snapshot.getNewQueue(); 
     }
     
-    public Object[] getReadyQueueSnapshot() {
-        return readyQueueCache; 
+    public ProcessRows getReadyQueueSnapshot() {
+        return snapshot.getReadyQueue(); 
+    }
+
+    /**
+     * Procesos listos por nivel de MLFQ (arreglo vacío con otros algoritmos).
+     */
+    public int[] getMlfqLevelSizesSnapshot() {
+        return snapshot.getMlfqLevelSizes();
+    }
+
+    public ProcessRows getBlockedQueueSnapshot() {
+        return snapshot.getBlockedQueue(); 
     }
 
-    public CustomList<PCB> getBlockedQueueSnapshot() {
-        return blockedQueueCache; 
+    public ProcessRows getBlockedSuspendedQueueSnapshot() {
+        return snapshot.getBlockedSuspendedQueue();
+    }
+    
+    public ProcessRows getReadySuspendedQueueSnapshot() {
+        return snapshot.getReadySuspendedQueue();
     }
 
-    public CustomList<PCB> getBlockedSuspendedQueueSnapshot() {
-        return blockedSuspendedQueueCache;
+    /**
+     * Tabla donde viven los campos de los procesos de este planificador.
+     */
+    public ProcessTable getProcessTable() {
+        return processTable;
+    }
+    
+    /**
+     * Procesos terminados, se conserven o no en la cola de terminados.
+     */
+    public int getCompletedProcessCount() {
+        mutex.lock();
+        try {
+            return completedProcesses;
+        } finally {
+            mutex.unlock();
+        }
     }
     
-    public CustomList<PCB> getReadySuspendedQueueSnapshot() {
-        return readySuspendedQueueCache;
+    public ProcessRows getTerminatedQueueSnapshot() {
+        return snapshot.getTerminatedQueue(); 
+    }
+
+    /**
+     * Registra el MXBean de este planificador en el MBeanServer de la
+     * plataforma como simulator:type=Scheduler,id=N. start() lo hace solo;
+     * runHeadless no, porque un barrido crea muchos planificadores. Si el
+     * registro falla se avisa y la simulación sigue.
+     */
+    public synchronized void registerMBean() {
+        if (mbeanName != null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("simulator:type=Scheduler,id=" + MBEAN_IDS.incrementAndGet());
+            server.registerMBean(new SchedulerMonitor(this), name);
+            mbeanName = name;
+        } catch (JMException e) {
+            EventLog.message(EventLog.Level.WARN, -1, "no se pudo registrar el MBean del planificador: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quita el MXBean del MBeanServer; shutdown() lo hace solo.
+     */
+    public synchronized void unregisterMBean() {
+        if (mbeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+        } catch (JMException e) {
+            EventLog.message(EventLog.Level.WARN, -1, "no se pudo quitar el MBean del planificador: " + e.getMessage());
+        }
+        mbeanName = null;
+    }
+
+    /**
+     * Nombre JMX con que está registrado, o null si no lo está.
+     */
+    public synchronized ObjectName getMBeanName() {
+        return mbeanName;
     }
 
-    public CustomList<PCB> getTerminatedQueueSnapshot() {
-        return terminatedQueueCache; 
+    /**
+     * Activa o desactiva la medición de latencias de cada fase del ciclo y del
+     * mutex. Activarla empieza histogramas nuevos; al desactivarla se publica
+     * el resultado final.
+     */
+    public void setProfiling(boolean enabled) {
+        mutex.lock();
+        try {
+            if (enabled == (profiler != null)) {
+                return;
+            }
+            if (enabled) {
+                profiler = new SchedulerProfiler();
+                publishProfile();
+            } else {
+                publishProfile();
+                profiler = null;
+            }
+            mutex.setProfiler(profiler);
+        } finally {
+            mutex.unlock();
+        }
     }
 
+    public boolean isProfiling() {
+        return profiler != null;
+    }
+
+    /**
+     * Última copia publicada de las mediciones de latencia (se publica cada
+     * 250 ms mientras corre la simulación y al terminar runHeadless). No toma
+     * el mutex.
+     * @return la copia, o null si nunca se activaron las mediciones
+     */
+    public SchedulerProfiler getProfileSnapshot() {
+        return profileSnapshot;
+    }
+
+    /**
+     * Debe llamarse con el mutex tomado.
+     */
+    private void publishProfile() {
+        if (profiler != null) {
+            profileSnapshot = profiler.copy();
+            profilePublishedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ciclo, algoritmo, CPUs y contadores de la última instantánea. No toma el
+     * mutex; todos los valores corresponden al mismo ciclo.
+     */
+    public SchedulerStatus getStatusSnapshot() {
+        return snapshot.getStatus();
+    }
+
+    /**
+     * Proceso en la CPU 0 (null si está libre). Toma el mutex: el PCB lee la
+     * ProcessTable, así que para mostrarlo sin el mutex conviene
+     * getStatusSnapshot().
+     */
     public PCB getCurrentProcessSnapshot() {
         mutex.lock();
-        try { return currentProcess; }
-        finally { mutex.unlock(); }
+        try {
+            return view(cpus[0].getCurrentProcess());
+        } finally {
+            mutex.unlock();
+        }
     }
 
-    public long getGlobalCycleSnapshot() {
+    /**
+     * Procesos en ejecución, uno por CPU (null si la CPU está libre). Toma el
+     * mutex, como getCurrentProcessSnapshot.
+     */
+    public PCB[] getRunningProcessesSnapshot() {
         mutex.lock();
-        try { return globalCycle; }
-        finally { mutex.unlock(); }
+        try {
+            PCB[] running = new PCB[cpus.length];
+            for (int i = 0; i < cpus.length; i++) {
+                running[i] = view(cpus[i].getCurrentProcess());
+            }
+            return running;
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    public int getCpuCount() {
+        return cpus.length;
+    }
+
+    public long getGlobalCycleSnapshot() {
+        return snapshot.getStatus().getGlobalCycle();
     }
     
     public boolean getIsOperatingSystemRunningSnapshot() {
@@ -465,54 +1864,84 @@ public class Scheduler implements Runnable { //
     }
     
     public boolean getIsCpuIdleSnapshot() {
-        return isCpuIdle; 
+        for (boolean idle : snapshot.getStatus().getCpuIdle()) {
+            if (!idle) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean getIsCpuIdleSnapshot(int cpu) {
+        return snapshot.getStatus().getCpuIdle()[cpu];
     }
     
     public SchedulingAlgorithm getAlgorithmSnapshot() {
-        mutex.lock();
-        try { return currentAlgorithm; }
-        finally { mutex.unlock(); }
+        return snapshot.getStatus().getAlgorithm();
     }
     
     public Map<String, Double> getPerformanceMetricsSnapshot() {
-        mutex.lock();
-        try {
-            Map<String, Double> metrics = new HashMap<>();
-            long elapsedTime = (System.currentTimeMillis() - startTime) / 1000;
-            double throughput = elapsedTime > 0 ? (double) completedProcesses / elapsedTime : 0;
-            double cpuUtilization = globalCycle > 0 ? (double) totalCpuBusyTime / globalCycle : 0;
-            int totalProcesses = completedProcesses + readyQueue.size() + blockedQueue.size() + blockedSuspendedQueue.size() + readySuspendedQueue.size();
-            if (currentProcess != null) totalProcesses++;
-            double avgWaitTime = totalProcesses > 0 ? (double) totalWaitTime / totalProcesses : 0;
-            double avgResponseTime = completedProcesses > 0 ? (double) totalResponseTime / completedProcesses : 0;
-            metrics.put("Throughput", throughput);
-            metrics.put("CPU_Utilization", cpuUtilization);
-            metrics.put("Avg_Wait_Time", avgWaitTime);
-            metrics.put("Avg_Response_Time", avgResponseTime);
-            return metrics;
-        } finally {
-            mutex.unlock();
+        return getPerformanceMetrics(snapshot);
+    }
+
+    /**
+     * Métricas calculadas a partir de una instantánea, sin tomar el mutex.
+     */
+    public Map<String, Double> getPerformanceMetrics(SchedulerSnapshot source) {
+        SchedulerStatus status = source.getStatus();
+        long cycle = status.getGlobalCycle();
+        Map<String, Double> metrics = new HashMap<>();
+        metrics.put("Throughput", getThroughput(status));
+        metrics.put("CPU_Utilization", status.getCpuUtilization());
+        metrics.put("Avg_Wait_Time", status.getAvgWaitTime());
+        metrics.put("Avg_Response_Time", status.getAvgResponseTime());
+        metrics.put("Avg_Turnaround_Time", status.getAvgTurnaroundTime());
+        if (perCoreQueues) {
+            metrics.put("Migrations", (double) status.getMigrations());
+        }
+        int[] levelSizes = source.getMlfqLevelSizes();
+        for (int i = 0; i < levelSizes.length; i++) {
+            metrics.put("MLFQ_Level_" + i, (double) levelSizes[i]);
+        }
+        if (cpus.length > 1) {
+            long[] busyCycles = status.getCpuBusyCycles();
+            for (int i = 0; i < busyCycles.length; i++) {
+                metrics.put("CPU_Utilization_" + i, cycle > 0 ? (double) busyCycles[i] / cycle : 0);
+            }
         }
+        return metrics;
     }
     
-    public CustomList<Integer> getCpuUsageHistory() {
-        return cpuUsageHistoryCache; 
+    /**
+     * Procesos terminados por segundo de reloj desde que se creó el planificador.
+     */
+    public double getThroughput(SchedulerStatus status) {
+        long elapsedTime = (System.currentTimeMillis() - startTime) / 1000;
+        return elapsedTime > 0 ? (double) status.getCompletedProcesses() / elapsedTime : 0;
     }
-    
-    public CustomList<Integer> getGlobalCycleHistory() {
-        return globalCycleHistoryCache; 
+
+    public TimeSeries getCpuUsageHistory() {
+        return snapshot.getCpuUsageHistory(); 
     }
     
-    private <T> CustomList<T> createSnapshot(CustomList<T> original) {
-        CustomList<T> snapshot = new CustomList<>();
-        for (int i = 0; i < original.size(); i++) {
-            snapshot.add(original.get(i));
-        }
-        return snapshot;
+    /**
+     * Copia de las filas de los procesos de una cola, para la instantánea.
+     * Debe llamarse con el mutex tomado.
+     */
+    private ProcessRows rows(int[] slots) {
+        return slots.length == 0 ? ProcessRows.EMPTY : new ProcessRows(processTable, slots);
+    }
+
+    /**
+     * Vista de la fila de un proceso, o null si el slot es -1. Debe llamarse
+     * con el mutex tomado.
+     */
+    private PCB view(int slot) {
+        return slot >= 0 ? new PCB(processTable, slot) : null;
     }
     
-    public CustomList<Integer> getTerminatedHistory() {
-        return terminatedHistoryCache; 
+    public TimeSeries getTerminatedHistory() {
+        return snapshot.getTerminatedHistory(); 
     }
     
     
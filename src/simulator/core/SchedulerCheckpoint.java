@@ -0,0 +1,409 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.io.SimulationConfig;
+import simulator.utils.EventLog;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Estado completo de un Scheduler en un ciclo: configuración, tabla de
+ * procesos, todas las colas (por slot de la tabla), CPUs, dispositivos de E/S
+ * con su progreso, eventos pendientes, memoria usada y acumuladores de
+ * métricas. Lo crea Scheduler.checkpoint() copiando arreglos con el mutex
+ * tomado; write() lo serializa después sin bloquear al planificador.
+ *
+ * Formato: flujo GZIP con MAGIC, VERSION y los campos en orden (DataOutput).
+ * Los historiales de los gráficos no se guardan (start() los reinicia) y una
+ * traza de llegadas activa se guarda como cantidad de registros consumidos:
+ * Scheduler.resumeArrivalSource la reabre desde ese punto.
+ */
+public final class SchedulerCheckpoint {
+    public static final int MAGIC = 0x53434B50; // "SCKP"
+    public static final int VERSION = 2;
+
+    private static final SimulationEventType[] EVENT_TYPES = SimulationEventType.values();
+
+    // Configuración (el algoritmo es el vigente, no el inicial)
+    final SimulationConfig config;
+    final boolean eventDriven;
+
+    // Estado escalar y métricas
+    long globalCycle;
+    int usedMemory;
+    long migrations;
+    int pendingArrivals;
+    int completedProcesses;
+    long totalCpuBusyTime;
+    long totalWaitTime;
+    long readyEntrySum;
+    long totalResponseTime;
+    int respondedProcesses;
+    long totalTurnaroundTime;
+    boolean arrivalSourceActive;
+    long arrivalBase;
+    long arrivalsConsumed;
+
+    // Procesos y colas (slots de la tabla, en orden)
+    final ProcessTable table;
+    int[] newQueue;
+    int[] readyQueue;
+    int[][] localQueues;
+    int[] blockedQueue;
+    int[] blockedSuspendedQueue;
+    int[] readySuspendedQueue;
+    int[] terminatedProcesses;
+
+    // CPUs (slot -1 = libre)
+    int[] cpuProcess;
+    int[] cpuQuantum;
+    boolean[] cpuIdle;
+    long[] cpuBusyCycles;
+
+    // Dispositivos de E/S
+    int[] deviceInService;
+    int[][] deviceWaiting;
+    long[] deviceCompleted;
+    long[] deviceBusyCycles;
+
+    // Llegadas y fines de E/S pendientes, en el orden en que saldrían
+    long[] eventCycles;
+    byte[] eventTypes;
+    int[] eventSlots;
+
+    SchedulerCheckpoint(SimulationConfig config, boolean eventDriven, ProcessTable table) {
+        this.config = config;
+        this.eventDriven = eventDriven;
+        this.table = table;
+    }
+
+    /**
+     * Configuración con la que se reconstruye el planificador.
+     */
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    public boolean isEventDriven() {
+        return eventDriven;
+    }
+
+    public long getGlobalCycle() {
+        return globalCycle;
+    }
+
+    /**
+     * Procesos con fila en la tabla (vivos en cualquier cola).
+     */
+    public int getProcessCount() {
+        return table.size();
+    }
+
+    /**
+     * Indica si había una traza de llegadas sin terminar al tomarlo.
+     */
+    public boolean hasArrivalSource() {
+        return arrivalSourceActive;
+    }
+
+    /**
+     * Registros de la traza de llegadas ya pasados a la cola NEW.
+     */
+    public long getArrivalsConsumed() {
+        return arrivalsConsumed;
+    }
+
+    /**
+     * Guarda el checkpoint. Se escribe a un archivo temporal que luego
+     * reemplaza al destino, así que un corte a mitad de escritura deja intacto
+     * el checkpoint anterior.
+     */
+    public void write(String filePath) throws IOException {
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FastGzipOutputStream(Files.newOutputStream(temp)), 1 << 16))) {
+            write(out);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Comprime con el nivel más rápido: el checkpoint se escribe a menudo y
+     * el nivel por defecto triplica el tiempo para ahorrar poco espacio.
+     */
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 1 << 16);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    public static SchedulerCheckpoint read(String filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(Paths.get(filePath)), 1 << 16), 1 << 16))) {
+            return read(in);
+        } catch (ZipException e) {
+            throw new IOException(filePath + " no es un checkpoint del simulador", e);
+        }
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(config.getTotalMemory());
+        out.writeUTF(config.getStartAlgorithm().name());
+        out.writeInt(config.getInitialCycleDuration());
+        out.writeInt(config.getCpuCount());
+        out.writeBoolean(config.isPerCoreQueues());
+        out.writeInt(config.getLoadBalanceInterval());
+        out.writeInt(config.getIoDeviceCount());
+        writeInts(out, config.getMlfqQuanta());
+        out.writeInt(config.getMlfqBoostInterval());
+        out.writeInt(config.getHistoryRetention());
+        out.writeBoolean(config.isRetainTerminated());
+        out.writeInt(config.getTimeQuantum());
+        out.writeUTF(config.getLogLevel().name());
+        out.writeBoolean(config.getLogFile() != null);
+        if (config.getLogFile() != null) {
+            out.writeUTF(config.getLogFile());
+        }
+        out.writeBoolean(eventDriven);
+
+        out.writeLong(globalCycle);
+        out.writeInt(usedMemory);
+        out.writeLong(migrations);
+        out.writeInt(pendingArrivals);
+        out.writeInt(completedProcesses);
+        out.writeLong(totalCpuBusyTime);
+        out.writeLong(totalWaitTime);
+        out.writeLong(readyEntrySum);
+        out.writeLong(totalResponseTime);
+        out.writeInt(respondedProcesses);
+        out.writeLong(totalTurnaroundTime);
+        out.writeBoolean(arrivalSourceActive);
+        out.writeLong(arrivalBase);
+        out.writeLong(arrivalsConsumed);
+
+        table.write(out);
+        writeInts(out, newQueue);
+        writeInts(out, readyQueue);
+        out.writeInt(localQueues.length);
+        for (int[] queue : localQueues) {
+            writeInts(out, queue);
+        }
+        writeInts(out, blockedQueue);
+        writeInts(out, blockedSuspendedQueue);
+        writeInts(out, readySuspendedQueue);
+        writeInts(out, terminatedProcesses);
+
+        for (int i = 0; i < cpuProcess.length; i++) {
+            out.writeInt(cpuProcess[i]);
+            out.writeInt(cpuQuantum[i]);
+            out.writeBoolean(cpuIdle[i]);
+            out.writeLong(cpuBusyCycles[i]);
+        }
+        for (int i = 0; i < deviceInService.length; i++) {
+            out.writeInt(deviceInService[i]);
+            writeInts(out, deviceWaiting[i]);
+            out.writeLong(deviceCompleted[i]);
+            out.writeLong(deviceBusyCycles[i]);
+        }
+        out.writeInt(eventCycles.length);
+        for (int i = 0; i < eventCycles.length; i++) {
+            out.writeLong(eventCycles[i]);
+            out.writeByte(eventTypes[i]);
+            out.writeInt(eventSlots[i]);
+        }
+    }
+
+    private static SchedulerCheckpoint read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("El archivo no es un checkpoint del simulador");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de checkpoint no soportada: " + version);
+        }
+
+        int totalMemory = in.readInt();
+        SchedulingAlgorithm algorithm;
+        try {
+            algorithm = SchedulingAlgorithm.valueOf(in.readUTF());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Algoritmo desconocido en el checkpoint", e);
+        }
+        SimulationConfig config = new SimulationConfig(totalMemory, algorithm, in.readInt());
+        config.setCpuCount(in.readInt());
+        config.setPerCoreQueues(in.readBoolean());
+        config.setLoadBalanceInterval(in.readInt());
+        config.setIoDeviceCount(in.readInt());
+        config.setMlfqQuanta(readInts(in));
+        config.setMlfqBoostInterval(in.readInt());
+        config.setHistoryRetention(in.readInt());
+        config.setRetainTerminated(in.readBoolean());
+        config.setTimeQuantum(in.readInt());
+        try {
+            config.setLogLevel(EventLog.Level.valueOf(in.readUTF()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Nivel de log desconocido en el checkpoint", e);
+        }
+        if (in.readBoolean()) {
+            config.setLogFile(in.readUTF());
+        }
+        boolean eventDriven = in.readBoolean();
+
+        long globalCycle = in.readLong();
+        int usedMemory = in.readInt();
+        long migrations = in.readLong();
+        int pendingArrivals = in.readInt();
+        int completedProcesses = in.readInt();
+        long totalCpuBusyTime = in.readLong();
+        long totalWaitTime = in.readLong();
+        long readyEntrySum = in.readLong();
+        long totalResponseTime = in.readLong();
+        int respondedProcesses = in.readInt();
+        long totalTurnaroundTime = in.readLong();
+        boolean arrivalSourceActive = in.readBoolean();
+        long arrivalBase = in.readLong();
+        long arrivalsConsumed = in.readLong();
+
+        SchedulerCheckpoint checkpoint = new SchedulerCheckpoint(config, eventDriven, ProcessTable.read(in));
+        checkpoint.globalCycle = globalCycle;
+        checkpoint.usedMemory = usedMemory;
+        checkpoint.migrations = migrations;
+        checkpoint.pendingArrivals = pendingArrivals;
+        checkpoint.completedProcesses = completedProcesses;
+        checkpoint.totalCpuBusyTime = totalCpuBusyTime;
+        checkpoint.totalWaitTime = totalWaitTime;
+        checkpoint.readyEntrySum = readyEntrySum;
+        checkpoint.totalResponseTime = totalResponseTime;
+        checkpoint.respondedProcesses = respondedProcesses;
+        checkpoint.totalTurnaroundTime = totalTurnaroundTime;
+        checkpoint.arrivalSourceActive = arrivalSourceActive;
+        checkpoint.arrivalBase = arrivalBase;
+        checkpoint.arrivalsConsumed = arrivalsConsumed;
+
+        checkpoint.newQueue = checkpoint.readSlots(in);
+        checkpoint.readyQueue = checkpoint.readSlots(in);
+        int localCount = in.readInt();
+        if (localCount < 0 || localCount > config.getCpuCount()) {
+            throw new IOException("Cantidad de colas locales inválida: " + localCount);
+        }
+        checkpoint.localQueues = new int[localCount][];
+        for (int i = 0; i < localCount; i++) {
+            checkpoint.localQueues[i] = checkpoint.readSlots(in);
+        }
+        checkpoint.blockedQueue = checkpoint.readSlots(in);
+        checkpoint.blockedSuspendedQueue = checkpoint.readSlots(in);
+        checkpoint.readySuspendedQueue = checkpoint.readSlots(in);
+        checkpoint.terminatedProcesses = checkpoint.readSlots(in);
+
+        int cpuCount = config.getCpuCount();
+        checkpoint.cpuProcess = new int[cpuCount];
+        checkpoint.cpuQuantum = new int[cpuCount];
+        checkpoint.cpuIdle = new boolean[cpuCount];
+        checkpoint.cpuBusyCycles = new long[cpuCount];
+        for (int i = 0; i < cpuCount; i++) {
+            checkpoint.cpuProcess[i] = checkpoint.checkSlot(in.readInt(), true);
+            checkpoint.cpuQuantum[i] = in.readInt();
+            checkpoint.cpuIdle[i] = in.readBoolean();
+            checkpoint.cpuBusyCycles[i] = in.readLong();
+        }
+        int deviceCount = config.getIoDeviceCount();
+        checkpoint.deviceInService = new int[deviceCount];
+        checkpoint.deviceWaiting = new int[deviceCount][];
+        checkpoint.deviceCompleted = new long[deviceCount];
+        checkpoint.deviceBusyCycles = new long[deviceCount];
+        for (int i = 0; i < deviceCount; i++) {
+            checkpoint.deviceInService[i] = checkpoint.checkSlot(in.readInt(), true);
+            checkpoint.deviceWaiting[i] = checkpoint.readSlots(in);
+            checkpoint.deviceCompleted[i] = in.readLong();
+            checkpoint.deviceBusyCycles[i] = in.readLong();
+        }
+        int eventCount = in.readInt();
+        if (eventCount < 0) {
+            throw new IOException("Cantidad de eventos inválida: " + eventCount);
+        }
+        checkpoint.eventCycles = new long[eventCount];
+        checkpoint.eventTypes = new byte[eventCount];
+        checkpoint.eventSlots = new int[eventCount];
+        for (int i = 0; i < eventCount; i++) {
+            checkpoint.eventCycles[i] = in.readLong();
+            byte type = in.readByte();
+            if (type < 0 || type >= EVENT_TYPES.length) {
+                throw new IOException("Tipo de evento inválido: " + type);
+            }
+            checkpoint.eventTypes[i] = type;
+            checkpoint.eventSlots[i] = checkpoint.checkSlot(in.readInt(), false);
+        }
+        return checkpoint;
+    }
+
+    private int[] readSlots(DataInputStream in) throws IOException {
+        int[] slots = readInts(in);
+        for (int slot : slots) {
+            checkSlot(slot, false);
+        }
+        return slots;
+    }
+
+    /**
+     * Verifica que un slot leído apunte a una fila viva de la tabla.
+     * @param allowEmpty si se acepta -1 (CPU o dispositivo libre)
+     */
+    private int checkSlot(int slot, boolean allowEmpty) throws IOException {
+        if ((slot != -1 || !allowEmpty) && !table.isLive(slot)) {
+            throw new IOException("El checkpoint referencia un proceso inexistente (slot " + slot + ")");
+        }
+        return slot;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Longitud inválida en el checkpoint: " + length);
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    static SimulationEventType eventType(byte ordinal) {
+        return EVENT_TYPES[ordinal];
+    }
+}
@@ -0,0 +1,46 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base de los eventos de Java Flight Recorder del planificador: ciclo global
+ * y profundidad de las colas en el momento del evento, para cruzarlos con
+ * las pausas de GC o la contención del mutex de la misma grabación.
+ * Uso: crear el evento y, sólo si isEnabled(), llenarlo y llamar a commit().
+ * Sin una grabación activa el JIT elimina la reserva y la comprobación.
+ */
+@Category({"Simulador", "Planificador"})
+@StackTrace(false)
+abstract class SchedulerEvent extends jdk.jfr.Event {
+    @Label("Ciclo global")
+    long globalCycle;
+
+    @Label("Cola NEW")
+    int newQueue;
+
+    @Label("Cola READY")
+    int readyQueue;
+
+    @Label("Cola BLOCKED")
+    int blockedQueue;
+
+    @Label("Cola BLOCKED_SUSPENDED")
+    int blockedSuspendedQueue;
+
+    @Label("Cola READY_SUSPENDED")
+    int readySuspendedQueue;
+
+    @Label("Cola TERMINATED")
+    int terminatedQueue;
+}
@@ -0,0 +1,71 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Interface.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Vista JMX de un Scheduler en ejecución, para seguirlo con JConsole, VisualVM
+ * o JFR junto con los datos de GC y memoria de la JVM. Se registra en el
+ * MBeanServer de la plataforma con el nombre simulator:type=Scheduler,id=N.
+ */
+public interface SchedulerMXBean {
+
+    long getGlobalCycle();
+
+    /**
+     * Ciclos simulados por segundo desde la consulta anterior.
+     */
+    double getCycleRate();
+
+    /**
+     * Procesos terminados por segundo de reloj.
+     */
+    double getThroughput();
+    double getCpuUtilization();
+    double getAvgWaitTime();
+    double getAvgResponseTime();
+    double getAvgTurnaroundTime();
+    int getCompletedProcesses();
+
+    int getNewQueueDepth();
+    int getReadyQueueDepth();
+    int getBlockedQueueDepth();
+    int getBlockedSuspendedQueueDepth();
+    int getReadySuspendedQueueDepth();
+    int getTerminatedQueueDepth();
+
+    int getUsedMemory();
+    int getTotalMemory();
+
+    /**
+     * Pausa entre ciclos en milisegundos; sólo afecta a la simulación con GUI.
+     */
+    int getCycleDuration();
+    void setCycleDuration(int milliseconds);
+
+    String getSchedulingAlgorithm();
+
+    /**
+     * @param algorithm nombre de un SchedulingAlgorithm (FCFS, SJF, RR, ...)
+     */
+    void setSchedulingAlgorithm(String algorithm);
+
+    /**
+     * Activa la medición de latencias por fase (ver SchedulerPhase).
+     */
+    boolean isProfiling();
+    void setProfiling(boolean enabled);
+
+    /**
+     * Percentiles de la última copia publicada de las mediciones de latencia;
+     * vacío si nunca se activaron.
+     */
+    PhaseLatency[] getPhaseLatencies();
+}
@@ -0,0 +1,172 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Implementación del MXBean de un Scheduler. Cada atributo lee un estado
+ * nuevo con getLiveStatus: las herramientas JMX consultan cada pocos
+ * segundos, así que tomar el mutex un instante no afecta la simulación y
+ * los valores también avanzan durante runHeadless.
+ */
+final class SchedulerMonitor implements SchedulerMXBean {
+    private static final int NEW = 0;
+    private static final int READY = 1;
+    private static final int BLOCKED = 2;
+    private static final int BLOCKED_SUSPENDED = 3;
+    private static final int READY_SUSPENDED = 4;
+    private static final int TERMINATED = 5;
+
+    private final Scheduler scheduler;
+    private long lastRateCycle;
+    private long lastRateNanos;
+
+    SchedulerMonitor(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.lastRateCycle = scheduler.getLiveStatus().getGlobalCycle();
+        this.lastRateNanos = System.nanoTime();
+    }
+
+    private SchedulerStatus status() {
+        return scheduler.getLiveStatus();
+    }
+
+    @Override
+    public long getGlobalCycle() {
+        return status().getGlobalCycle();
+    }
+
+    @Override
+    public synchronized double getCycleRate() {
+        long cycle = status().getGlobalCycle();
+        long now = System.nanoTime();
+        double rate = now > lastRateNanos ? (cycle - lastRateCycle) * 1e9 / (now - lastRateNanos) : 0;
+        lastRateCycle = cycle;
+        lastRateNanos = now;
+        return rate;
+    }
+
+    @Override
+    public double getThroughput() {
+        return scheduler.getThroughput(status());
+    }
+
+    @Override
+    public double getCpuUtilization() {
+        return status().getCpuUtilization();
+    }
+
+    @Override
+    public double getAvgWaitTime() {
+        return status().getAvgWaitTime();
+    }
+
+    @Override
+    public double getAvgResponseTime() {
+        return status().getAvgResponseTime();
+    }
+
+    @Override
+    public double getAvgTurnaroundTime() {
+        return status().getAvgTurnaroundTime();
+    }
+
+    @Override
+    public int getCompletedProcesses() {
+        return status().getCompletedProcesses();
+    }
+
+    @Override
+    public int getNewQueueDepth() {
+        return status().getQueueDepths()[NEW];
+    }
+
+    @Override
+    public int getReadyQueueDepth() {
+        return status().getQueueDepths()[READY];
+    }
+
+    @Override
+    public int getBlockedQueueDepth() {
+        return status().getQueueDepths()[BLOCKED];
+    }
+
+    @Override
+    public int getBlockedSuspendedQueueDepth() {
+        return status().getQueueDepths()[BLOCKED_SUSPENDED];
+    }
+
+    @Override
+    public int getReadySuspendedQueueDepth() {
+        return status().getQueueDepths()[READY_SUSPENDED];
+    }
+
+    @Override
+    public int getTerminatedQueueDepth() {
+        return status().getQueueDepths()[TERMINATED];
+    }
+
+    @Override
+    public int getUsedMemory() {
+        return status().getUsedMemory();
+    }
+
+    @Override
+    public int getTotalMemory() {
+        return status().getTotalMemory();
+    }
+
+    @Override
+    public int getCycleDuration() {
+        return scheduler.getCycleDuration();
+    }
+
+    @Override
+    public void setCycleDuration(int milliseconds) {
+        if (milliseconds < 0) {
+            throw new IllegalArgumentException("La duración del ciclo no puede ser negativa: " + milliseconds);
+        }
+        scheduler.setCycleDuration(milliseconds);
+    }
+
+    @Override
+    public String getSchedulingAlgorithm() {
+        return status().getAlgorithm().name();
+    }
+
+    @Override
+    public void setSchedulingAlgorithm(String algorithm) {
+        scheduler.setSchedulingAlgorithm(SchedulingAlgorithm.valueOf(algorithm.trim().toUpperCase()));
+    }
+
+    @Override
+    public boolean isProfiling() {
+        return scheduler.isProfiling();
+    }
+
+    @Override
+    public void setProfiling(boolean enabled) {
+        scheduler.setProfiling(enabled);
+    }
+
+    @Override
+    public PhaseLatency[] getPhaseLatencies() {
+        SchedulerProfiler profile = scheduler.getProfileSnapshot();
+        if (profile == null) {
+            return new PhaseLatency[0];
+        }
+        SchedulerPhase[] phases = SchedulerPhase.values();
+        PhaseLatency[] latencies = new PhaseLatency[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            latencies[i] = PhaseLatency.of(phases[i], profile.getHistogram(phases[i]));
+        }
+        return latencies;
+    }
+}
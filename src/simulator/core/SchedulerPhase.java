@@ -0,0 +1,37 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+public enum SchedulerPhase {
+    LOCK_WAIT("Espera del mutex"),          // Desde pedir el mutex hasta obtenerlo (cualquier hilo)
+    LOCK_HOLD("Mutex tomado"),              // Desde obtener el mutex hasta soltarlo (cualquier hilo)
+    CYCLE("Ciclo completo"),                // executeCycle con el mutex tomado
+    HISTORY("Historial y reloj"),           // Historial de los gráficos y reloj de las colas de listos
+    IO("E/S"),                              // Avance de los dispositivos de E/S
+    ARRIVALS("Llegadas"),                   // Lectura de la traza de llegadas
+    EVENTS("Eventos"),                      // Eventos vencidos de la rueda de temporizadores
+    LONG_TERM("Largo plazo"),               // Reanudación de suspendidos y admisión desde NEW
+    MEDIUM_TERM("Mediano plazo"),           // Suspensión por falta de memoria
+    BALANCE("Balanceo"),                    // Balanceo entre colas por núcleo
+    BOOST("Boost MLFQ"),                    // Subida de prioridades de MLFQ
+    SHORT_TERM("Corto plazo"),              // Elección del proceso de cada CPU
+    EXECUTE("Ejecución"),                   // Instrucción de cada CPU
+    PUBLISH("Publicar instantánea");        // Copia de las colas para la GUI
+
+    private final String label;
+
+    SchedulerPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,112 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.LatencyHistogram;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Tiempos en nanosegundos de cada fase de executeCycle y del mutex del
+ * Scheduler, un histograma por fase. El Scheduler registra con el mutex
+ * tomado y publica copias para la GUI; una copia publicada no se modifica.
+ */
+public final class SchedulerProfiler {
+    private static final String DELIMITER = ";";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LatencyHistogram[] histograms;
+    private final long startedAt;
+    private final long capturedAt;
+
+    SchedulerProfiler() {
+        SchedulerPhase[] phases = SchedulerPhase.values();
+        this.histograms = new LatencyHistogram[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        this.startedAt = System.nanoTime();
+        this.capturedAt = startedAt;
+    }
+
+    private SchedulerProfiler(SchedulerProfiler other) {
+        this.histograms = new LatencyHistogram[other.histograms.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = other.histograms[i].copy();
+        }
+        this.startedAt = other.startedAt;
+        this.capturedAt = System.nanoTime();
+    }
+
+    void record(SchedulerPhase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde since en la fase indicada.
+     * @return el instante actual, para medir la fase siguiente
+     */
+    long lap(SchedulerPhase phase, long since) {
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - since);
+        return now;
+    }
+
+    SchedulerProfiler copy() {
+        return new SchedulerProfiler(this);
+    }
+
+    public LatencyHistogram getHistogram(SchedulerPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Instante (System.nanoTime) en que se tomó la copia; distingue una
+     * publicación de la siguiente.
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Nanosegundos entre la activación de las mediciones y la copia.
+     */
+    public long getElapsedNanos() {
+        return capturedAt - startedAt;
+    }
+
+    /**
+     * Guarda un resumen por fase, separado por ';' y en nanosegundos:
+     * phase;count;min;p50;p90;p99;p999;max;mean;total
+     */
+    public void writeCsv(String filePath) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+            writer.write(String.join(DELIMITER, "phase", "count", "min_ns", "p50_ns", "p90_ns", "p99_ns",
+                    "p999_ns", "max_ns", "mean_ns", "total_ns"));
+            writer.newLine();
+            for (SchedulerPhase phase : SchedulerPhase.values()) {
+                LatencyHistogram histogram = getHistogram(phase);
+                StringBuilder line = new StringBuilder(phase.name());
+                line.append(DELIMITER).append(histogram.getCount());
+                line.append(DELIMITER).append(histogram.getMin());
+                for (double percentile : PERCENTILES) {
+                    line.append(DELIMITER).append(histogram.getValueAtPercentile(percentile));
+                }
+                line.append(DELIMITER).append(histogram.getMax());
+                line.append(DELIMITER).append(String.format(Locale.ROOT, "%.1f", histogram.getMean()));
+                line.append(DELIMITER).append(histogram.getSum());
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+    }
+}
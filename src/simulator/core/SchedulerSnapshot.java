@@ -0,0 +1,72 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.structures.TimeSeries;
+
+/**
+ * Estado de las colas, historiales y contadores publicado por el Scheduler
+ * para la GUI.
+ * Es inmutable: el Scheduler crea una versión nueva (reutilizando las partes
+ * que no cambiaron) y la publica con una sola escritura volátil, así que los
+ * lectores no necesitan el mutex.
+ *
+ * Cada cola es una copia de los campos que se muestran de sus procesos
+ * (ProcessRows), tomada con el mutex: la GUI no lee la ProcessTable, que el
+ * hilo de simulación sigue modificando, y todo lo de una versión es del
+ * mismo ciclo.
+ */
+public final class SchedulerSnapshot {
+    private final long version;
+    private final ProcessRows newQueue;
+    private final ProcessRows readyQueue;
+    private final int[] mlfqLevelSizes;
+    private final ProcessRows blockedQueue;
+    private final ProcessRows blockedSuspendedQueue;
+    private final ProcessRows readySuspendedQueue;
+    private final ProcessRows terminatedQueue;
+    private final TimeSeries cpuUsageHistory;
+    private final TimeSeries terminatedHistory;
+    private final SchedulerStatus status;
+
+    SchedulerSnapshot(long version, ProcessRows newQueue, ProcessRows readyQueue, int[] mlfqLevelSizes,
+            ProcessRows blockedQueue, ProcessRows blockedSuspendedQueue, ProcessRows readySuspendedQueue,
+            ProcessRows terminatedQueue, TimeSeries cpuUsageHistory, TimeSeries terminatedHistory,
+            SchedulerStatus status) {
+        this.version = version;
+        this.newQueue = newQueue;
+        this.readyQueue = readyQueue;
+        this.mlfqLevelSizes = mlfqLevelSizes;
+        this.blockedQueue = blockedQueue;
+        this.blockedSuspendedQueue = blockedSuspendedQueue;
+        this.readySuspendedQueue = readySuspendedQueue;
+        this.terminatedQueue = terminatedQueue;
+        this.cpuUsageHistory = cpuUsageHistory;
+        this.terminatedHistory = terminatedHistory;
+        this.status = status;
+    }
+
+    /**
+     * Versión de las colas: aumenta sólo cuando alguna cambió desde la
+     * publicación anterior (el estado y los historiales pueden cambiar sin que
+     * cambie la versión).
+     */
+    public long getVersion() { return version; }
+    public ProcessRows getNewQueue() { return newQueue; }
+    public ProcessRows getReadyQueue() { return readyQueue; }
+    public int[] getMlfqLevelSizes() { return mlfqLevelSizes; }
+    public ProcessRows getBlockedQueue() { return blockedQueue; }
+    public ProcessRows getBlockedSuspendedQueue() { return blockedSuspendedQueue; }
+    public ProcessRows getReadySuspendedQueue() { return readySuspendedQueue; }
+    public ProcessRows getTerminatedQueue() { return terminatedQueue; }
+    public TimeSeries getCpuUsageHistory() { return cpuUsageHistory; }
+    public TimeSeries getTerminatedHistory() { return terminatedHistory; }
+    public SchedulerStatus getStatus() { return status; }
+}
@@ -0,0 +1,124 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Estado escalar del Scheduler al final de un ciclo: ciclo global, algoritmo,
+ * id y nombre del proceso en cada CPU y los contadores de las métricas. Se
+ * publica dentro de SchedulerSnapshot, así que todos los valores corresponden
+ * al mismo ciclo y se leen sin el mutex: no guarda PCBs, cuyos campos viven en
+ * la ProcessTable que el hilo de simulación sigue modificando. Los arreglos
+ * devueltos no deben modificarse.
+ */
+public final class SchedulerStatus {
+    private final long globalCycle;
+    private final SchedulingAlgorithm algorithm;
+    private final int[] runningIds;
+    private final String[] runningNames;
+    private final boolean[] cpuIdle;
+    private final long[] cpuBusyCycles;
+    private final int completedProcesses;
+    private final int totalProcesses;
+    private final long totalCpuBusyTime;
+    private final long totalWaitTime;
+    private final long totalResponseTime;
+    private final int respondedProcesses;
+    private final long totalTurnaroundTime;
+    private final long migrations;
+    private final int[] queueDepths;
+    private final int usedMemory;
+    private final int totalMemory;
+
+    SchedulerStatus(long globalCycle, SchedulingAlgorithm algorithm, int[] runningIds, String[] runningNames,
+            boolean[] cpuIdle,
+            long[] cpuBusyCycles, int completedProcesses, int totalProcesses, long totalCpuBusyTime,
+            long totalWaitTime, long totalResponseTime, int respondedProcesses, long totalTurnaroundTime,
+            long migrations, int[] queueDepths, int usedMemory, int totalMemory) {
+        this.globalCycle = globalCycle;
+        this.algorithm = algorithm;
+        this.runningIds = runningIds;
+        this.runningNames = runningNames;
+        this.cpuIdle = cpuIdle;
+        this.cpuBusyCycles = cpuBusyCycles;
+        this.completedProcesses = completedProcesses;
+        this.totalProcesses = totalProcesses;
+        this.totalCpuBusyTime = totalCpuBusyTime;
+        this.totalWaitTime = totalWaitTime;
+        this.totalResponseTime = totalResponseTime;
+        this.respondedProcesses = respondedProcesses;
+        this.totalTurnaroundTime = totalTurnaroundTime;
+        this.migrations = migrations;
+        this.queueDepths = queueDepths;
+        this.usedMemory = usedMemory;
+        this.totalMemory = totalMemory;
+    }
+
+    public long getGlobalCycle() { return globalCycle; }
+    public SchedulingAlgorithm getAlgorithm() { return algorithm; }
+
+    /**
+     * Id del proceso en cada CPU (-1 si la CPU está libre).
+     */
+    public int[] getRunningIds() { return runningIds; }
+
+    /**
+     * Nombre del proceso en cada CPU (null si la CPU está libre).
+     */
+    public String[] getRunningNames() { return runningNames; }
+    public boolean[] getCpuIdle() { return cpuIdle; }
+    public long[] getCpuBusyCycles() { return cpuBusyCycles; }
+    public int getCompletedProcesses() { return completedProcesses; }
+
+    /**
+     * Procesos terminados más los que están listos, bloqueados, suspendidos o
+     * en ejecución.
+     */
+    public int getTotalProcesses() { return totalProcesses; }
+    public long getTotalCpuBusyTime() { return totalCpuBusyTime; }
+
+    /**
+     * Espera total, incluida la de los procesos que siguen en la cola de
+     * listos hasta este ciclo.
+     */
+    public long getTotalWaitTime() { return totalWaitTime; }
+    public long getTotalResponseTime() { return totalResponseTime; }
+    public int getRespondedProcesses() { return respondedProcesses; }
+    public long getTotalTurnaroundTime() { return totalTurnaroundTime; }
+    public long getMigrations() { return migrations; }
+
+    /**
+     * Procesos en cada cola, en el orden NEW, READY (todas las colas de
+     * listos), BLOCKED, BLOCKED_SUSPENDED, READY_SUSPENDED y TERMINATED.
+     */
+    public int[] getQueueDepths() { return queueDepths; }
+    public int getUsedMemory() { return usedMemory; }
+    public int getTotalMemory() { return totalMemory; }
+
+    /**
+     * Fracción de los ciclos de todas las CPUs en que hubo un proceso en
+     * ejecución.
+     */
+    public double getCpuUtilization() {
+        return globalCycle > 0 ? (double) totalCpuBusyTime / (globalCycle * cpuBusyCycles.length) : 0;
+    }
+
+    public double getAvgWaitTime() {
+        return totalProcesses > 0 ? (double) totalWaitTime / totalProcesses : 0;
+    }
+
+    public double getAvgResponseTime() {
+        return respondedProcesses > 0 ? (double) totalResponseTime / respondedProcesses : 0;
+    }
+
+    public double getAvgTurnaroundTime() {
+        return completedProcesses > 0 ? (double) totalTurnaroundTime / completedProcesses : 0;
+    }
+}
@@ -0,0 +1,53 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Evento del motor de eventos discretos: algo ocurre en el ciclo indicado.
+ * El proceso es un slot de la ProcessTable (-1 si no hay).
+ */
+public class SimulationEvent {
+    private final long cycle;
+    private final SimulationEventType type;
+    private final int process;
+    private final int cpu;
+    private boolean cancelled;
+
+    public SimulationEvent(long cycle, SimulationEventType type, int process, int cpu) {
+        this.cycle = cycle;
+        this.type = type;
+        this.process = process;
+        this.cpu = cpu;
+        this.cancelled = false;
+    }
+
+    public SimulationEvent(long cycle, SimulationEventType type, int process) {
+        this(cycle, type, process, -1);
+    }
+
+    public long getCycle() { return cycle; }
+    public SimulationEventType getType() { return type; }
+    public int getProcess() { return process; }
+    public int getCpu() { return cpu; }
+    public boolean isCancelled() { return cancelled; }
+
+    /**
+     * Anula el evento; la rueda de temporizadores lo descarta sin entregarlo.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Event{cycle=%d, type=%s, slot=%d}", cycle, type, process);
+    }
+}
@@ -0,0 +1,18 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+public enum SimulationEventType {
+    ARRIVAL,         // Llegada de un proceso a la cola NEW
+    IO_COMPLETION,   // Fin de una operación de E/S
+    IO_REQUEST,      // El proceso en CPU genera una excepción de E/S
+    QUANTUM_EXPIRY,  // Fin del quantum (RR)
+    TERMINATION      // El proceso en CPU ejecuta su última instrucción
+}
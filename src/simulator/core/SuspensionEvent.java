@@ -0,0 +1,32 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * El planificador de mediano plazo suspende un proceso bloqueado para
+ * liberar memoria.
+ */
+@Name("simulator.Suspension")
+@Label("Suspensión (mediano plazo)")
+@Description("Un proceso bloqueado pasa a BLOCKED_SUSPENDED y libera memoria")
+final class SuspensionEvent extends SchedulerEvent {
+    @Label("ID del proceso")
+    int processId;
+
+    @Label("Memoria liberada (MB)")
+    int memorySize;
+
+    @Label("Memoria usada (MB)")
+    int usedMemory;
+}
@@ -0,0 +1,71 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Interface.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessType;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Flujo de llegadas de procesos ordenado por ciclo. El planificador lo
+ * consume a medida que avanza, así que no hace falta tener toda la carga en
+ * memoria. El registro actual ya está leído: consultar sus campos no hace E/S
+ * y advance() pasa al siguiente.
+ */
+public interface ArrivalSource extends AutoCloseable {
+
+    /**
+     * Abre una traza de texto (TraceReader) o binaria (BinaryTraceReader)
+     * según su cabecera.
+     * @param filePath ruta de la traza
+     * @return la fuente de llegadas
+     */
+    static ArrivalSource open(String filePath) throws IOException {
+        int magic;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(filePath))) {
+            magic = in.available() >= Integer.BYTES ? Integer.reverseBytes(in.readInt()) : 0;
+        }
+        return magic == BinaryTraceReader.MAGIC ? new BinaryTraceReader(filePath) : new TraceReader(filePath);
+    }
+
+    /**
+     * @return true si queda al menos una llegada
+     */
+    boolean hasNext();
+
+    /**
+     * Ciclo de llegada del registro actual, relativo al inicio de la fuente.
+     * Los campos del registro sólo son válidos si hasNext() es true.
+     */
+    long peekArrivalCycle();
+
+    String getName();
+
+    ProcessType getType();
+
+    int getInstructions();
+
+    int getCyclesToException();
+
+    int getCyclesToCompleteException();
+
+    int getPriority();
+
+    int getMemorySize();
+
+    /**
+     * Pasa al siguiente registro.
+     */
+    void advance() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,193 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessType;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lee una traza binaria de llegadas proyectada en memoria. Los registros
+ * tienen ancho fijo, así que decodificar uno es leer campos en posiciones
+ * conocidas, sin crear objetos; sólo el nombre se convierte a String cuando
+ * se pide. El archivo se proyecta por ventanas para admitir trazas de más
+ * de 2 GB.
+ *
+ * Formato (little-endian):
+ * cabecera: int MAGIC, int VERSION, long cantidadDeRegistros
+ * registro (RECORD_BYTES): long ciclo, int instrucciones, int ciclosParaExcepcion,
+ * int ciclosParaCompletarExcepcion, int prioridad, int memoria, byte tipo,
+ * byte largoDelNombre, NAME_BYTES bytes del nombre en UTF-8
+ */
+public class BinaryTraceReader implements ArrivalSource {
+
+    public static final int MAGIC = 0x52544F53; // "SOTR"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_BYTES = 64;
+    public static final int NAME_BYTES = 34;
+
+    static final int CYCLE_OFFSET = 0;
+    static final int INSTRUCTIONS_OFFSET = 8;
+    static final int EXCEPTION_OFFSET = 12;
+    static final int COMPLETION_OFFSET = 16;
+    static final int PRIORITY_OFFSET = 20;
+    static final int MEMORY_OFFSET = 24;
+    static final int TYPE_OFFSET = 28;
+    static final int NAME_LENGTH_OFFSET = 29;
+    static final int NAME_OFFSET = 30;
+
+    private static final ProcessType[] TYPES = ProcessType.values();
+    private static final long WINDOW_RECORDS = (1L << 30) / RECORD_BYTES;
+
+    private final FileChannel channel;
+    private final long recordCount;
+    private final byte[] nameBuffer = new byte[NAME_BYTES];
+    private MappedByteBuffer window;
+    private long windowFirst;
+    private long windowEnd;
+    private long current;
+    private int position;
+    private long lastCycle;
+
+    public BinaryTraceReader(String filePath) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(HEADER_BYTES, channel.size()));
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.limit() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+                throw new IOException("No es una traza binaria: " + filePath);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Versión de traza binaria no soportada: " + header.getInt(4));
+            }
+            this.recordCount = header.getLong(8);
+            if (recordCount < 0 || channel.size() != HEADER_BYTES + recordCount * RECORD_BYTES) {
+                throw new IOException("La traza binaria está truncada o dañada: " + filePath);
+            }
+            this.current = 0;
+            if (recordCount > 0) {
+                mapWindow();
+                checkRecord();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Registros totales de la traza.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current < recordCount;
+    }
+
+    @Override
+    public long peekArrivalCycle() {
+        return window.getLong(position + CYCLE_OFFSET);
+    }
+
+    @Override
+    public String getName() {
+        int length = window.get(position + NAME_LENGTH_OFFSET) & 0xFF;
+        window.get(position + NAME_OFFSET, nameBuffer, 0, length);
+        return new String(nameBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ProcessType getType() {
+        return TYPES[window.get(position + TYPE_OFFSET)];
+    }
+
+    @Override
+    public int getInstructions() {
+        return window.getInt(position + INSTRUCTIONS_OFFSET);
+    }
+
+    @Override
+    public int getCyclesToException() {
+        return window.getInt(position + EXCEPTION_OFFSET);
+    }
+
+    @Override
+    public int getCyclesToCompleteException() {
+        return window.getInt(position + COMPLETION_OFFSET);
+    }
+
+    @Override
+    public int getPriority() {
+        return window.getInt(position + PRIORITY_OFFSET);
+    }
+
+    @Override
+    public int getMemorySize() {
+        return window.getInt(position + MEMORY_OFFSET);
+    }
+
+    @Override
+    public void advance() throws IOException {
+        if (!hasNext()) {
+            throw new IllegalStateException("La traza no tiene más llegadas");
+        }
+        lastCycle = peekArrivalCycle();
+        current++;
+        if (current == recordCount) {
+            return;
+        }
+        if (current == windowEnd) {
+            mapWindow();
+        } else {
+            position += RECORD_BYTES;
+        }
+        checkRecord();
+    }
+
+    @Override
+    public void close() throws IOException {
+        current = recordCount;
+        window = null;
+        channel.close();
+    }
+
+    private void mapWindow() throws IOException {
+        windowFirst = current;
+        windowEnd = Math.min(recordCount, windowFirst + WINDOW_RECORDS);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + windowFirst * RECORD_BYTES,
+                (windowEnd - windowFirst) * RECORD_BYTES);
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        position = 0;
+    }
+
+    /**
+     * Valida los campos que podrían romper la simulación.
+     */
+    private void checkRecord() throws IOException {
+        int type = window.get(position + TYPE_OFFSET);
+        int nameLength = window.get(position + NAME_LENGTH_OFFSET) & 0xFF;
+        long cycle = peekArrivalCycle();
+        if (type < 0 || type >= TYPES.length || nameLength > NAME_BYTES || cycle < lastCycle) {
+            current = recordCount;
+            throw new IOException("Registro " + (windowFirst + position / RECORD_BYTES)
+                    + " de la traza binaria inválido");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escribe una traza binaria en el formato de BinaryTraceReader. Los
+ * registros se acumulan en un búfer y la cantidad total se escribe en la
+ * cabecera al cerrar.
+ */
+public class BinaryTraceWriter implements AutoCloseable {
+
+    private static final int BUFFER_RECORDS = 4_096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+    private long lastCycle;
+
+    public BinaryTraceWriter(String filePath) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(BUFFER_RECORDS * BinaryTraceReader.RECORD_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        // La cabecera definitiva se escribe en close()
+        channel.position(BinaryTraceReader.HEADER_BYTES);
+    }
+
+    /**
+     * Agrega el registro actual de una fuente de llegadas.
+     */
+    public void write(ArrivalSource source) throws IOException {
+        write(source.peekArrivalCycle(), source.getName(), source.getType(), source.getInstructions(),
+                source.getCyclesToException(), source.getCyclesToCompleteException(),
+                source.getPriority(), source.getMemorySize());
+    }
+
+    /**
+     * Agrega una llegada. Los ciclos deben ser no decrecientes.
+     */
+    public void write(long arrivalCycle, String name, ProcessType type, int instructions,
+            int cyclesToException, int cyclesToCompleteException, int priority, int memorySize)
+            throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > BinaryTraceReader.NAME_BYTES) {
+            throw new IOException("El nombre '" + name + "' supera los "
+                    + BinaryTraceReader.NAME_BYTES + " bytes del formato binario");
+        }
+        if (arrivalCycle < lastCycle) {
+            throw new IOException("El ciclo " + arrivalCycle + " es anterior al del registro previo ("
+                    + lastCycle + ")");
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        int start = buffer.position();
+        buffer.putLong(start + BinaryTraceReader.CYCLE_OFFSET, arrivalCycle);
+        buffer.putInt(start + BinaryTraceReader.INSTRUCTIONS_OFFSET, instructions);
+        buffer.putInt(start + BinaryTraceReader.EXCEPTION_OFFSET, cyclesToException);
+        buffer.putInt(start + BinaryTraceReader.COMPLETION_OFFSET, cyclesToCompleteException);
+        buffer.putInt(start + BinaryTraceReader.PRIORITY_OFFSET, priority);
+        buffer.putInt(start + BinaryTraceReader.MEMORY_OFFSET, memorySize);
+        buffer.put(start + BinaryTraceReader.TYPE_OFFSET, (byte) type.ordinal());
+        buffer.put(start + BinaryTraceReader.NAME_LENGTH_OFFSET, (byte) nameBytes.length);
+        for (int i = 0; i < BinaryTraceReader.NAME_BYTES; i++) {
+            buffer.put(start + BinaryTraceReader.NAME_OFFSET + i, i < nameBytes.length ? nameBytes[i] : 0);
+        }
+        buffer.position(start + BinaryTraceReader.RECORD_BYTES);
+        lastCycle = arrivalCycle;
+        recordCount++;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(BinaryTraceReader.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(BinaryTraceReader.MAGIC).putInt(BinaryTraceReader.VERSION).putLong(recordCount);
+            header.flip();
+            channel.write(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
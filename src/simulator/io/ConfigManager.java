@@ -10,6 +10,8 @@ package simulator.io;
  * @author chalo
  */
 
+import simulator.core.SchedulingAlgorithm;
+import simulator.utils.EventLog;
 import java.io.BufferedWriter;
 import java.io.BufferedReader;
 import java.io.FileReader;
@@ -26,6 +28,31 @@ public class ConfigManager {
     private static final String MEMORY_KEY = "totalMemory";
     private static final String ALGORITHM_KEY = "startAlgorithm";
     private static final String DURATION_KEY = "cycleDuration";
+    private static final String CPU_COUNT_KEY = "cpuCount";
+    private static final String PER_CORE_QUEUES_KEY = "perCoreQueues";
+    private static final String LOAD_BALANCE_KEY = "loadBalanceInterval";
+    private static final String IO_DEVICES_KEY = "ioDevices";
+    private static final String MLFQ_QUANTA_KEY = "mlfqQuanta";
+    private static final String MLFQ_BOOST_KEY = "mlfqBoostInterval";
+    private static final String HISTORY_RETENTION_KEY = "historyRetention";
+    private static final String RETAIN_TERMINATED_KEY = "retainTerminated";
+    private static final String TIME_QUANTUM_KEY = "timeQuantum";
+    private static final String LOG_LEVEL_KEY = "logLevel";
+    private static final String LOG_FILE_KEY = "logFile";
+    private static final String SEED_KEY = "seed";
+    private static final String PROCESS_COUNT_KEY = "processCount";
+    private static final String ARRIVAL_RATE_KEY = "arrivalRate";
+    private static final String INSTRUCTION_DISTRIBUTION_KEY = "instructionDistribution";
+    private static final String MEAN_INSTRUCTIONS_KEY = "meanInstructions";
+    private static final String PARETO_ALPHA_KEY = "paretoAlpha";
+    private static final String MAX_INSTRUCTIONS_KEY = "maxInstructions";
+    private static final String IO_BOUND_RATIO_KEY = "ioBoundRatio";
+    private static final String MEAN_IO_INTERVAL_KEY = "meanIoInterval";
+    private static final String MEAN_IO_DURATION_KEY = "meanIoDuration";
+    private static final String PRIORITY_RANGE_KEY = "priorityRange";
+    private static final String MEMORY_RANGE_KEY = "memoryRange";
+    private static final String NAME_PREFIX_KEY = "namePrefix";
+    private static final String LIST_DELIMITER = ",";
     private static final String DELIMITER = ";";
 
     public void saveConfig(String filePath, SimulationConfig config) throws Exception {
@@ -37,20 +64,35 @@ public class ConfigManager {
             writer.newLine();
             writer.write(DURATION_KEY + DELIMITER + config.getInitialCycleDuration());
             writer.newLine();
+            writer.write(CPU_COUNT_KEY + DELIMITER + config.getCpuCount());
+            writer.newLine();
+            writer.write(PER_CORE_QUEUES_KEY + DELIMITER + config.isPerCoreQueues());
+            writer.newLine();
+            writer.write(LOAD_BALANCE_KEY + DELIMITER + config.getLoadBalanceInterval());
+            writer.newLine();
+            writer.write(IO_DEVICES_KEY + DELIMITER + config.getIoDeviceCount());
+            writer.newLine();
+            writer.write(MLFQ_QUANTA_KEY + DELIMITER + joinQuanta(config.getMlfqQuanta()));
+            writer.newLine();
+            writer.write(MLFQ_BOOST_KEY + DELIMITER + config.getMlfqBoostInterval());
+            writer.newLine();
+            writer.write(HISTORY_RETENTION_KEY + DELIMITER + config.getHistoryRetention());
+            writer.newLine();
+            writer.write(RETAIN_TERMINATED_KEY + DELIMITER + config.isRetainTerminated());
+            writer.newLine();
+            writer.write(TIME_QUANTUM_KEY + DELIMITER + config.getTimeQuantum());
+            writer.newLine();
+            writer.write(LOG_LEVEL_KEY + DELIMITER + config.getLogLevel().name());
+            writer.newLine();
+            if (config.getLogFile() != null) {
+                writer.write(LOG_FILE_KEY + DELIMITER + config.getLogFile());
+                writer.newLine();
+            }
         }
     }
 
     public Map<String, String> loadConfig(String filePath) throws Exception {
-        Map<String, String> configMap = new HashMap<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(DELIMITER);
-                if (parts.length == 2) {
-                    configMap.put(parts[0].trim(), parts[1].trim());
-                }
-            }
-        }
+        Map<String, String> configMap = readKeyValues(filePath);
         
         if (!configMap.containsKey(MEMORY_KEY) || 
             !configMap.containsKey(ALGORITHM_KEY) || 
@@ -61,4 +103,175 @@ public class ConfigManager {
         
         return configMap;
     }
+
+    /**
+     * Carga el archivo de configuración y construye directamente la SimulationConfig.
+     * @param filePath ruta del archivo CSV
+     * @return la configuración leída
+     */
+    public SimulationConfig loadSimulationConfig(String filePath) throws Exception {
+        Map<String, String> configMap = loadConfig(filePath);
+        int memory = Integer.parseInt(configMap.get(MEMORY_KEY));
+        SchedulingAlgorithm algorithm = SchedulingAlgorithm.valueOf(configMap.get(ALGORITHM_KEY));
+        int duration = Integer.parseInt(configMap.get(DURATION_KEY));
+        SimulationConfig config = new SimulationConfig(memory, algorithm, duration);
+        if (configMap.containsKey(CPU_COUNT_KEY)) {
+            config.setCpuCount(Integer.parseInt(configMap.get(CPU_COUNT_KEY)));
+        }
+        if (configMap.containsKey(PER_CORE_QUEUES_KEY)) {
+            config.setPerCoreQueues(Boolean.parseBoolean(configMap.get(PER_CORE_QUEUES_KEY)));
+        }
+        if (configMap.containsKey(LOAD_BALANCE_KEY)) {
+            config.setLoadBalanceInterval(Integer.parseInt(configMap.get(LOAD_BALANCE_KEY)));
+        }
+        if (configMap.containsKey(IO_DEVICES_KEY)) {
+            config.setIoDeviceCount(Integer.parseInt(configMap.get(IO_DEVICES_KEY)));
+        }
+        if (configMap.containsKey(MLFQ_QUANTA_KEY)) {
+            String[] values = configMap.get(MLFQ_QUANTA_KEY).split(LIST_DELIMITER);
+            int[] quanta = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                quanta[i] = Integer.parseInt(values[i].trim());
+            }
+            config.setMlfqQuanta(quanta);
+        }
+        if (configMap.containsKey(MLFQ_BOOST_KEY)) {
+            config.setMlfqBoostInterval(Integer.parseInt(configMap.get(MLFQ_BOOST_KEY)));
+        }
+        if (configMap.containsKey(HISTORY_RETENTION_KEY)) {
+            config.setHistoryRetention(Integer.parseInt(configMap.get(HISTORY_RETENTION_KEY)));
+        }
+        if (configMap.containsKey(RETAIN_TERMINATED_KEY)) {
+            config.setRetainTerminated(Boolean.parseBoolean(configMap.get(RETAIN_TERMINATED_KEY)));
+        }
+        if (configMap.containsKey(TIME_QUANTUM_KEY)) {
+            config.setTimeQuantum(Integer.parseInt(configMap.get(TIME_QUANTUM_KEY)));
+        }
+        if (configMap.containsKey(LOG_LEVEL_KEY)) {
+            config.setLogLevel(EventLog.Level.valueOf(configMap.get(LOG_LEVEL_KEY)));
+        }
+        if (configMap.containsKey(LOG_FILE_KEY)) {
+            config.setLogFile(configMap.get(LOG_FILE_KEY));
+        }
+        return config;
+    }
+
+    /**
+     * Guarda el perfil de una carga sintética en el mismo formato clave;valor.
+     */
+    public void saveWorkloadProfile(String filePath, WorkloadProfile profile) throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+            writer.write(SEED_KEY + DELIMITER + profile.getSeed());
+            writer.newLine();
+            writer.write(PROCESS_COUNT_KEY + DELIMITER + profile.getProcessCount());
+            writer.newLine();
+            writer.write(ARRIVAL_RATE_KEY + DELIMITER + profile.getArrivalRate());
+            writer.newLine();
+            writer.write(INSTRUCTION_DISTRIBUTION_KEY + DELIMITER + profile.getInstructionDistribution().name());
+            writer.newLine();
+            writer.write(MEAN_INSTRUCTIONS_KEY + DELIMITER + profile.getMeanInstructions());
+            writer.newLine();
+            writer.write(PARETO_ALPHA_KEY + DELIMITER + profile.getParetoAlpha());
+            writer.newLine();
+            writer.write(MAX_INSTRUCTIONS_KEY + DELIMITER + profile.getMaxInstructions());
+            writer.newLine();
+            writer.write(IO_BOUND_RATIO_KEY + DELIMITER + profile.getIoBoundRatio());
+            writer.newLine();
+            writer.write(MEAN_IO_INTERVAL_KEY + DELIMITER + profile.getMeanIoInterval());
+            writer.newLine();
+            writer.write(MEAN_IO_DURATION_KEY + DELIMITER + profile.getMeanIoDuration());
+            writer.newLine();
+            writer.write(PRIORITY_RANGE_KEY + DELIMITER + profile.getMinPriority() + LIST_DELIMITER + profile.getMaxPriority());
+            writer.newLine();
+            writer.write(MEMORY_RANGE_KEY + DELIMITER + profile.getMinMemory() + LIST_DELIMITER + profile.getMaxMemory());
+            writer.newLine();
+            writer.write(NAME_PREFIX_KEY + DELIMITER + profile.getNamePrefix());
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Carga el perfil de una carga sintética. Las claves ausentes conservan
+     * su valor por defecto.
+     */
+    public WorkloadProfile loadWorkloadProfile(String filePath) throws Exception {
+        Map<String, String> map = readKeyValues(filePath);
+        WorkloadProfile profile = new WorkloadProfile();
+        if (map.containsKey(SEED_KEY)) {
+            profile.setSeed(Long.parseLong(map.get(SEED_KEY)));
+        }
+        if (map.containsKey(PROCESS_COUNT_KEY)) {
+            profile.setProcessCount(Long.parseLong(map.get(PROCESS_COUNT_KEY)));
+        }
+        if (map.containsKey(ARRIVAL_RATE_KEY)) {
+            profile.setArrivalRate(Double.parseDouble(map.get(ARRIVAL_RATE_KEY)));
+        }
+        if (map.containsKey(INSTRUCTION_DISTRIBUTION_KEY)) {
+            profile.setInstructionDistribution(
+                    WorkloadProfile.InstructionDistribution.valueOf(map.get(INSTRUCTION_DISTRIBUTION_KEY)));
+        }
+        if (map.containsKey(MEAN_INSTRUCTIONS_KEY)) {
+            profile.setMeanInstructions(Double.parseDouble(map.get(MEAN_INSTRUCTIONS_KEY)));
+        }
+        if (map.containsKey(PARETO_ALPHA_KEY)) {
+            profile.setParetoAlpha(Double.parseDouble(map.get(PARETO_ALPHA_KEY)));
+        }
+        if (map.containsKey(MAX_INSTRUCTIONS_KEY)) {
+            profile.setMaxInstructions(Integer.parseInt(map.get(MAX_INSTRUCTIONS_KEY)));
+        }
+        if (map.containsKey(IO_BOUND_RATIO_KEY)) {
+            profile.setIoBoundRatio(Double.parseDouble(map.get(IO_BOUND_RATIO_KEY)));
+        }
+        if (map.containsKey(MEAN_IO_INTERVAL_KEY)) {
+            profile.setMeanIoInterval(Double.parseDouble(map.get(MEAN_IO_INTERVAL_KEY)));
+        }
+        if (map.containsKey(MEAN_IO_DURATION_KEY)) {
+            profile.setMeanIoDuration(Double.parseDouble(map.get(MEAN_IO_DURATION_KEY)));
+        }
+        if (map.containsKey(PRIORITY_RANGE_KEY)) {
+            int[] range = parseRange(map.get(PRIORITY_RANGE_KEY));
+            profile.setPriorityRange(range[0], range[1]);
+        }
+        if (map.containsKey(MEMORY_RANGE_KEY)) {
+            int[] range = parseRange(map.get(MEMORY_RANGE_KEY));
+            profile.setMemoryRange(range[0], range[1]);
+        }
+        if (map.containsKey(NAME_PREFIX_KEY)) {
+            profile.setNamePrefix(map.get(NAME_PREFIX_KEY));
+        }
+        return profile;
+    }
+
+    private Map<String, String> readKeyValues(String filePath) throws Exception {
+        Map<String, String> map = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(DELIMITER);
+                if (parts.length == 2) {
+                    map.put(parts[0].trim(), parts[1].trim());
+                }
+            }
+        }
+        return map;
+    }
+
+    private int[] parseRange(String value) throws Exception {
+        String[] parts = value.split(LIST_DELIMITER);
+        if (parts.length != 2) {
+            throw new Exception("Rango inválido: " + value);
+        }
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+    private String joinQuanta(int[] quanta) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < quanta.length; i++) {
+            if (i > 0) {
+                sb.append(LIST_DELIMITER);
+            }
+            sb.append(quanta[i]);
+        }
+        return sb.toString();
+    }
 }
@@ -2,6 +2,7 @@ package simulator.io;
 
 
 import simulator.core.SchedulingAlgorithm;
+import simulator.utils.EventLog;
 
 /*
  * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
@@ -21,6 +22,17 @@ public class SimulationConfig {
     private final int totalMemory;
     private final SchedulingAlgorithm startAlgorithm;
     private final int initialCycleDuration;
+    private int cpuCount = 1;
+    private boolean perCoreQueues = false;
+    private int loadBalanceInterval = 10;
+    private int ioDeviceCount = 1;
+    private int[] mlfqQuanta = {4, 8, 16};
+    private int mlfqBoostInterval = 100;
+    private int historyRetention = 10_000;
+    private boolean retainTerminated = true;
+    private int timeQuantum = 4;
+    private EventLog.Level logLevel = EventLog.Level.INFO;
+    private String logFile = null;
 
     public SimulationConfig(int totalMemory, SchedulingAlgorithm startAlgorithm, int initialCycleDuration) {
         this.totalMemory = totalMemory;
@@ -39,4 +51,134 @@ public class SimulationConfig {
     public int getInitialCycleDuration() {
         return initialCycleDuration;
     }
+
+    /**
+     * Número de CPUs simuladas (1 por defecto).
+     */
+    public int getCpuCount() {
+        return cpuCount;
+    }
+
+    public void setCpuCount(int cpuCount) {
+        this.cpuCount = Math.max(1, cpuCount);
+    }
+
+    /**
+     * Si es true, cada CPU tiene su propia cola de listos y roba trabajo de
+     * la CPU más cargada cuando la suya está vacía.
+     */
+    public boolean isPerCoreQueues() {
+        return perCoreQueues;
+    }
+
+    public void setPerCoreQueues(boolean perCoreQueues) {
+        this.perCoreQueues = perCoreQueues;
+    }
+
+    /**
+     * Cada cuántos ciclos se balancean las colas por CPU (0 = solo robo de trabajo).
+     */
+    public int getLoadBalanceInterval() {
+        return loadBalanceInterval;
+    }
+
+    public void setLoadBalanceInterval(int loadBalanceInterval) {
+        this.loadBalanceInterval = Math.max(0, loadBalanceInterval);
+    }
+
+    /**
+     * Número de dispositivos de E/S simulados (1 por defecto).
+     */
+    public int getIoDeviceCount() {
+        return ioDeviceCount;
+    }
+
+    public void setIoDeviceCount(int ioDeviceCount) {
+        this.ioDeviceCount = Math.max(1, ioDeviceCount);
+    }
+
+    /**
+     * Quantum de cada nivel de MLFQ; su longitud es el número de niveles.
+     */
+    public int[] getMlfqQuanta() {
+        return mlfqQuanta.clone();
+    }
+
+    public void setMlfqQuanta(int[] mlfqQuanta) {
+        if (mlfqQuanta == null || mlfqQuanta.length == 0) {
+            throw new IllegalArgumentException("MLFQ necesita al menos un nivel");
+        }
+        int[] copy = new int[mlfqQuanta.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = Math.max(1, mlfqQuanta[i]);
+        }
+        this.mlfqQuanta = copy;
+    }
+
+    /**
+     * Cada cuántos ciclos MLFQ sube todos los procesos al primer nivel (0 = nunca).
+     */
+    public int getMlfqBoostInterval() {
+        return mlfqBoostInterval;
+    }
+
+    public void setMlfqBoostInterval(int mlfqBoostInterval) {
+        this.mlfqBoostInterval = Math.max(0, mlfqBoostInterval);
+    }
+
+    /**
+     * Puntos que conserva cada resolución de los historiales de los gráficos.
+     */
+    public int getHistoryRetention() {
+        return historyRetention;
+    }
+
+    public void setHistoryRetention(int historyRetention) {
+        this.historyRetention = Math.max(1, historyRetention);
+    }
+
+    /**
+     * Si es false, los procesos terminados sólo se cuentan en las métricas y
+     * su fila de la tabla de procesos se libera para reutilizarla.
+     */
+    public boolean isRetainTerminated() {
+        return retainTerminated;
+    }
+
+    public void setRetainTerminated(boolean retainTerminated) {
+        this.retainTerminated = retainTerminated;
+    }
+
+    /**
+     * Quantum de Round Robin, en ciclos.
+     */
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    public void setTimeQuantum(int timeQuantum) {
+        this.timeQuantum = Math.max(1, timeQuantum);
+    }
+
+    /**
+     * Nivel mínimo del log de eventos (INFO por defecto; OFF lo desactiva).
+     */
+    public EventLog.Level getLogLevel() {
+        return logLevel;
+    }
+
+    public void setLogLevel(EventLog.Level logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    /**
+     * Archivo CSV del log de eventos, o null para escribir en la consola.
+     */
+    public String getLogFile() {
+        return logFile;
+    }
+
+    public void setLogFile(String logFile) {
+        this.logFile = logFile;
+    }
 }
\ No newline at end of file
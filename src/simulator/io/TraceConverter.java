@@ -0,0 +1,49 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Main.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Convierte una traza de llegadas de texto (TraceReader) al formato binario
+ * (BinaryTraceReader), registro a registro y en memoria constante.
+ * Uso: TraceConverter <traza.txt> <traza.bin>
+ */
+public class TraceConverter {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: TraceConverter <traza.txt> <traza.bin>");
+            System.exit(1);
+        }
+        try {
+            long start = System.nanoTime();
+            long records = convert(args[0], args[1]);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Registros convertidos: " + records + " (" + elapsedMs + " ms)");
+        } catch (Exception e) {
+            System.err.println("Error al convertir la traza: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return cantidad de registros escritos
+     */
+    public static long convert(String textPath, String binaryPath) throws Exception {
+        try (TraceReader reader = new TraceReader(textPath);
+             BinaryTraceWriter writer = new BinaryTraceWriter(binaryPath)) {
+            while (reader.hasNext()) {
+                writer.write(reader);
+                reader.advance();
+            }
+            return writer.getRecordCount();
+        }
+    }
+}
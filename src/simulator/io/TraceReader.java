@@ -0,0 +1,149 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessType;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Lee una traza de llegadas en texto, línea a línea, sin cargarla entera.
+ * Formato por línea:
+ * ciclo;nombre;tipo;instrucciones;ciclosParaExcepcion;ciclosParaCompletarExcepcion;prioridad;memoria
+ * Los ciclos deben ser no decrecientes. Las líneas vacías o que empiezan con
+ * '#' se ignoran.
+ */
+public class TraceReader implements ArrivalSource {
+
+    public static final String DELIMITER = ";";
+    public static final int FIELD_COUNT = 8;
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private boolean hasNext;
+    private long arrivalCycle;
+    private String name;
+    private ProcessType type;
+    private int instructions;
+    private int cyclesToException;
+    private int cyclesToCompleteException;
+    private int priority;
+    private int memorySize;
+
+    public TraceReader(String filePath) throws IOException {
+        this.reader = new BufferedReader(new FileReader(filePath));
+        this.arrivalCycle = 0;
+        try {
+            readNext();
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public long peekArrivalCycle() {
+        return arrivalCycle;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ProcessType getType() {
+        return type;
+    }
+
+    @Override
+    public int getInstructions() {
+        return instructions;
+    }
+
+    @Override
+    public int getCyclesToException() {
+        return cyclesToException;
+    }
+
+    @Override
+    public int getCyclesToCompleteException() {
+        return cyclesToCompleteException;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    @Override
+    public void advance() throws IOException {
+        if (!hasNext) {
+            throw new IllegalStateException("La traza no tiene más llegadas");
+        }
+        hasNext = false;
+        readNext();
+    }
+
+    @Override
+    public void close() throws IOException {
+        hasNext = false;
+        reader.close();
+    }
+
+    /**
+     * Lee y valida el siguiente registro de la traza.
+     */
+    private void readNext() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split(DELIMITER);
+            if (parts.length != FIELD_COUNT) {
+                throw new IOException("Línea " + lineNumber + " de la traza inválida: " + line);
+            }
+            try {
+                long cycle = Long.parseLong(parts[0].trim());
+                if (cycle < arrivalCycle) {
+                    throw new IOException("Línea " + lineNumber + " de la traza: el ciclo " + cycle
+                            + " es anterior al de la línea previa (" + arrivalCycle + ")");
+                }
+                arrivalCycle = cycle;
+                name = parts[1].trim();
+                type = ProcessType.valueOf(parts[2].trim());
+                instructions = Integer.parseInt(parts[3].trim());
+                cyclesToException = Integer.parseInt(parts[4].trim());
+                cyclesToCompleteException = Integer.parseInt(parts[5].trim());
+                priority = Integer.parseInt(parts[6].trim());
+                memorySize = Integer.parseInt(parts[7].trim());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Línea " + lineNumber + " de la traza inválida: " + line, e);
+            }
+            hasNext = true;
+            return;
+        }
+        hasNext = false;
+    }
+}
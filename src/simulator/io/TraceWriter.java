@@ -0,0 +1,51 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Escribe una traza de llegadas en el formato de texto de TraceReader.
+ */
+public class TraceWriter implements AutoCloseable {
+
+    private final BufferedWriter writer;
+    private long recordCount;
+
+    public TraceWriter(String filePath) throws IOException {
+        this.writer = new BufferedWriter(new FileWriter(filePath));
+        writer.write("# ciclo;nombre;tipo;instrucciones;ciclosParaExcepcion;ciclosParaCompletarExcepcion;prioridad;memoria");
+        writer.newLine();
+    }
+
+    /**
+     * Agrega el registro actual de una fuente de llegadas.
+     */
+    public void write(ArrivalSource source) throws IOException {
+        String d = TraceReader.DELIMITER;
+        writer.write(source.peekArrivalCycle() + d + source.getName() + d + source.getType().name()
+                + d + source.getInstructions() + d + source.getCyclesToException()
+                + d + source.getCyclesToCompleteException() + d + source.getPriority()
+                + d + source.getMemorySize());
+        writer.newLine();
+        recordCount++;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
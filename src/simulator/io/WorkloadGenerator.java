@@ -0,0 +1,189 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessType;
+import java.util.Random;
+
+/**
+ * Genera una carga sintética a partir de un WorkloadProfile: llegadas de
+ * Poisson, instrucciones exponenciales o de Pareto, mezcla CPU_BOUND/IO_BOUND
+ * e intervalos de E/S exponenciales. Como es una ArrivalSource puede
+ * alimentar al planificador en vivo (Scheduler.setArrivalSource) o escribirse
+ * a una traza con writeTrace. Cada proceso consume siempre la misma cantidad
+ * de números aleatorios, así que la semilla fija toda la carga.
+ * Uso: WorkloadGenerator <perfil.csv> <salida.txt|salida.bin>
+ */
+public class WorkloadGenerator implements ArrivalSource {
+
+    private final WorkloadProfile profile;
+    private final Random random;
+    private long generated;
+    private double arrivalTime;
+    private long arrivalCycle;
+    private String name;
+    private ProcessType type;
+    private int instructions;
+    private int cyclesToException;
+    private int cyclesToCompleteException;
+    private int priority;
+    private int memorySize;
+
+    public WorkloadGenerator(WorkloadProfile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.getSeed());
+        this.generated = 0;
+        this.arrivalTime = 0;
+        if (profile.getProcessCount() > 0) {
+            generate();
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: WorkloadGenerator <perfil.csv> <salida.txt|salida.bin>");
+            System.exit(1);
+        }
+        try {
+            WorkloadProfile profile = new ConfigManager().loadWorkloadProfile(args[0]);
+            long records = writeTrace(profile, args[1]);
+            System.out.println("Procesos generados: " + records + " (semilla " + profile.getSeed() + ")");
+        } catch (Exception e) {
+            System.err.println("Error al generar la carga: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Escribe la carga completa a una traza: binaria si la ruta termina en
+     * ".bin", de texto en otro caso.
+     * @return cantidad de procesos escritos
+     */
+    public static long writeTrace(WorkloadProfile profile, String filePath) throws Exception {
+        WorkloadGenerator generator = new WorkloadGenerator(profile);
+        if (filePath.endsWith(".bin")) {
+            try (BinaryTraceWriter writer = new BinaryTraceWriter(filePath)) {
+                while (generator.hasNext()) {
+                    writer.write(generator);
+                    generator.advance();
+                }
+                return writer.getRecordCount();
+            }
+        }
+        try (TraceWriter writer = new TraceWriter(filePath)) {
+            while (generator.hasNext()) {
+                writer.write(generator);
+                generator.advance();
+            }
+            return writer.getRecordCount();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return generated > 0 && generated <= profile.getProcessCount();
+    }
+
+    @Override
+    public long peekArrivalCycle() {
+        return arrivalCycle;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ProcessType getType() {
+        return type;
+    }
+
+    @Override
+    public int getInstructions() {
+        return instructions;
+    }
+
+    @Override
+    public int getCyclesToException() {
+        return cyclesToException;
+    }
+
+    @Override
+    public int getCyclesToCompleteException() {
+        return cyclesToCompleteException;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    @Override
+    public void advance() {
+        if (!hasNext()) {
+            throw new IllegalStateException("La carga generada no tiene más llegadas");
+        }
+        if (generated == profile.getProcessCount()) {
+            generated++;
+            return;
+        }
+        generate();
+    }
+
+    @Override
+    public void close() {
+        generated = profile.getProcessCount() + 1;
+    }
+
+    private void generate() {
+        generated++;
+        arrivalTime += exponential(1.0 / profile.getArrivalRate());
+        arrivalCycle = (long) arrivalTime;
+        name = profile.getNamePrefix() + generated;
+        boolean ioBound = random.nextDouble() < profile.getIoBoundRatio();
+        type = ioBound ? ProcessType.IO_BOUND : ProcessType.CPU_BOUND;
+        instructions = clamp(instructionSample(), profile.getMaxInstructions());
+        int ioInterval = clamp(exponential(profile.getMeanIoInterval()), Integer.MAX_VALUE);
+        int ioDuration = clamp(exponential(profile.getMeanIoDuration()), Integer.MAX_VALUE);
+        cyclesToException = ioBound ? ioInterval : 0;
+        cyclesToCompleteException = ioBound ? ioDuration : 0;
+        priority = uniform(profile.getMinPriority(), profile.getMaxPriority());
+        memorySize = uniform(profile.getMinMemory(), profile.getMaxMemory());
+    }
+
+    private double instructionSample() {
+        double mean = profile.getMeanInstructions();
+        if (profile.getInstructionDistribution() == WorkloadProfile.InstructionDistribution.PARETO) {
+            // Mínimo elegido para que la media sea la pedida
+            double alpha = profile.getParetoAlpha();
+            double minimum = mean * (alpha - 1) / alpha;
+            return minimum / Math.pow(1 - random.nextDouble(), 1 / alpha);
+        }
+        return exponential(mean);
+    }
+
+    private double exponential(double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    private int uniform(int min, int max) {
+        return min + (int) (random.nextDouble() * ((long) max - min + 1));
+    }
+
+    private static int clamp(double value, int max) {
+        return (int) Math.max(1, Math.min(max, Math.round(value)));
+    }
+}
@@ -0,0 +1,58 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+import simulator.core.PCB;
+import simulator.core.ProcessType;
+import simulator.core.Scheduler;
+import simulator.structures.CustomList;
+import java.io.BufferedReader;
+import java.io.FileReader;
+
+/**
+ * Carga una carga de trabajo (lista de procesos) desde un archivo CSV.
+ * Formato por línea:
+ * nombre;tipo;instrucciones;ciclosParaExcepcion;ciclosParaCompletarExcepcion;prioridad;memoria
+ * Las líneas vacías o que empiezan con '#' se ignoran.
+ */
+public class WorkloadLoader {
+
+    private static final String DELIMITER = ";";
+    private static final int FIELD_COUNT = 7;
+
+    public CustomList<PCB> loadWorkload(String filePath, Scheduler scheduler) throws Exception {
+        CustomList<PCB> processes = new CustomList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(DELIMITER);
+                if (parts.length != FIELD_COUNT) {
+                    throw new Exception("Línea " + lineNumber + " de la carga de trabajo inválida: " + line);
+                }
+                processes.add(new PCB(parts[0].trim(),
+                        ProcessType.valueOf(parts[1].trim()),
+                        Integer.parseInt(parts[2].trim()),
+                        Integer.parseInt(parts[3].trim()),
+                        Integer.parseInt(parts[4].trim()),
+                        Integer.parseInt(parts[5].trim()),
+                        Integer.parseInt(parts[6].trim()),
+                        scheduler));
+            }
+        }
+        return processes;
+    }
+}
@@ -0,0 +1,190 @@
+package simulator.io;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Parámetros de una carga sintética para WorkloadGenerator. Con la misma
+ * semilla y los mismos parámetros se genera siempre la misma carga.
+ */
+public class WorkloadProfile {
+
+    /**
+     * Distribución de la cantidad de instrucciones de cada proceso.
+     */
+    public enum InstructionDistribution {
+        EXPONENTIAL,
+        PARETO      // cola pesada: pocos procesos muy largos
+    }
+
+    private long seed = 42;
+    private long processCount = 1_000;
+    private double arrivalRate = 0.1;
+    private InstructionDistribution instructionDistribution = InstructionDistribution.EXPONENTIAL;
+    private double meanInstructions = 50;
+    private double paretoAlpha = 1.5;
+    private int maxInstructions = 100_000;
+    private double ioBoundRatio = 0.3;
+    private double meanIoInterval = 5;
+    private double meanIoDuration = 3;
+    private int minPriority = 1;
+    private int maxPriority = 10;
+    private int minMemory = 1;
+    private int maxMemory = 8;
+    private String namePrefix = "G";
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    public void setProcessCount(long processCount) {
+        this.processCount = Math.max(0, processCount);
+    }
+
+    /**
+     * Llegadas promedio por ciclo (proceso de Poisson).
+     */
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public void setArrivalRate(double arrivalRate) {
+        if (!(arrivalRate > 0)) {
+            throw new IllegalArgumentException("La tasa de llegadas debe ser positiva");
+        }
+        this.arrivalRate = arrivalRate;
+    }
+
+    public InstructionDistribution getInstructionDistribution() {
+        return instructionDistribution;
+    }
+
+    public void setInstructionDistribution(InstructionDistribution instructionDistribution) {
+        this.instructionDistribution = instructionDistribution;
+    }
+
+    public double getMeanInstructions() {
+        return meanInstructions;
+    }
+
+    public void setMeanInstructions(double meanInstructions) {
+        this.meanInstructions = Math.max(1, meanInstructions);
+    }
+
+    /**
+     * Forma de la distribución de Pareto; debe ser mayor que 1 para que la
+     * media exista (cuanto más cerca de 1, más pesada la cola).
+     */
+    public double getParetoAlpha() {
+        return paretoAlpha;
+    }
+
+    public void setParetoAlpha(double paretoAlpha) {
+        if (!(paretoAlpha > 1)) {
+            throw new IllegalArgumentException("El parámetro alfa de Pareto debe ser mayor que 1");
+        }
+        this.paretoAlpha = paretoAlpha;
+    }
+
+    public int getMaxInstructions() {
+        return maxInstructions;
+    }
+
+    public void setMaxInstructions(int maxInstructions) {
+        this.maxInstructions = Math.max(1, maxInstructions);
+    }
+
+    /**
+     * Fracción de procesos IO_BOUND (el resto son CPU_BOUND).
+     */
+    public double getIoBoundRatio() {
+        return ioBoundRatio;
+    }
+
+    public void setIoBoundRatio(double ioBoundRatio) {
+        this.ioBoundRatio = Math.max(0, Math.min(1, ioBoundRatio));
+    }
+
+    /**
+     * Instrucciones promedio entre dos operaciones de E/S (exponencial).
+     */
+    public double getMeanIoInterval() {
+        return meanIoInterval;
+    }
+
+    public void setMeanIoInterval(double meanIoInterval) {
+        this.meanIoInterval = Math.max(1, meanIoInterval);
+    }
+
+    /**
+     * Ciclos promedio que tarda cada operación de E/S (exponencial).
+     */
+    public double getMeanIoDuration() {
+        return meanIoDuration;
+    }
+
+    public void setMeanIoDuration(double meanIoDuration) {
+        this.meanIoDuration = Math.max(1, meanIoDuration);
+    }
+
+    public int getMinPriority() {
+        return minPriority;
+    }
+
+    public int getMaxPriority() {
+        return maxPriority;
+    }
+
+    /**
+     * Rango de prioridades, uniforme e inclusivo.
+     */
+    public void setPriorityRange(int minPriority, int maxPriority) {
+        if (minPriority > maxPriority) {
+            throw new IllegalArgumentException("Rango de prioridades inválido: " + minPriority + "-" + maxPriority);
+        }
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+    }
+
+    public int getMinMemory() {
+        return minMemory;
+    }
+
+    public int getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Rango de memoria por proceso, uniforme e inclusivo.
+     */
+    public void setMemoryRange(int minMemory, int maxMemory) {
+        if (minMemory < 1 || minMemory > maxMemory) {
+            throw new IllegalArgumentException("Rango de memoria inválido: " + minMemory + "-" + maxMemory);
+        }
+        this.minMemory = minMemory;
+        this.maxMemory = maxMemory;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+}
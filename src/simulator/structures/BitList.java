@@ -0,0 +1,102 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+/**
+ * Lista de banderas 0/1 empaquetadas en palabras de 32 bits sobre un IntList.
+ */
+public class BitList {
+    private final IntList words;
+    private int size;
+
+    public BitList() {
+        this.words = new IntList();
+        this.size = 0;
+    }
+
+    /**
+     * @param size número inicial de bits, todos en 0
+     */
+    public BitList(int size) {
+        this.words = new IntList((size + 31) >>> 5);
+        for (int i = 0; i < (size + 31) >>> 5; i++) {
+            words.add(0);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Copia independiente de otra lista de bits.
+     */
+    public BitList(BitList other) {
+        this.words = new IntList(other.words.size());
+        this.words.addAll(other.words);
+        this.size = other.size;
+    }
+
+    public void add(boolean value) {
+        if ((size & 31) == 0) {
+            words.add(0);
+        }
+        size++;
+        set(size - 1, value);
+    }
+
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words.get(index >>> 5) & (1 << (index & 31))) != 0;
+    }
+
+    public void set(int index, boolean value) {
+        checkIndex(index);
+        int word = words.get(index >>> 5);
+        int mask = 1 << (index & 31);
+        words.set(index >>> 5, value ? word | mask : word & ~mask);
+    }
+
+    /**
+     * Pone todos los bits en el valor indicado.
+     */
+    public void setAll(boolean value) {
+        for (int i = 0; i < words.size(); i++) {
+            words.set(i, value ? -1 : 0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cantidad de bits en 1 dentro de [from, to), palabra por palabra.
+     */
+    public int cardinality(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size);
+        }
+        int count = 0;
+        int index = from;
+        while (index < to) {
+            int bit = index & 31;
+            int length = Math.min(32 - bit, to - index);
+            int mask = length == 32 ? -1 : ((1 << length) - 1) << bit;
+            count += Integer.bitCount(words.get(index >>> 5) & mask);
+            index += length;
+        }
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -15,6 +15,7 @@ package simulator.structures;
 public class CustomList<T> {
     private Object[] elements;
     private int size;
+    private int modCount;
     private static final int DEFAULT_CAPACITY = 10;
     
     public CustomList() {
@@ -34,6 +35,7 @@ public class CustomList<T> {
     public void add(T element) {
         ensureCapacity();
         elements[size++] = element;
+        modCount++;
     }
     
     @SuppressWarnings("unchecked")
@@ -71,6 +73,7 @@ public class CustomList<T> {
             System.arraycopy(elements, index + 1, elements, index, numMoved);
         }
         elements[--size] = null;
+        modCount++;
         return removedElement;
     }
     
@@ -78,6 +81,14 @@ public class CustomList<T> {
         return size;
     }
     
+    /**
+     * Contador de modificaciones: cambia cada vez que se agrega o elimina
+     * un elemento, lo que permite saber si la lista cambió desde la última vez.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+    
     public boolean isEmpty() {
         return size == 0;
     }
@@ -110,5 +121,6 @@ public class CustomList<T> {
             elements[i] = null;
         }
         size = 0;
+        modCount++;
     }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessTable;
+import simulator.core.SchedulingAlgorithm;
+import java.util.Arrays;
+
+/**
+ * Cola de listos para HRRN que sigue siendo correcta mientras crece la espera.
+ *
+ * La razón de respuesta en el ciclo T es (W + s) / s con W = T + (espera
+ * acumulada - ciclo de entrada). Entre procesos con el mismo tiempo de
+ * servicio s el orden no cambia con T, así que se agrupan en un montículo por
+ * cada s distinto. Elegir el siguiente sólo compara las cimas de los grupos:
+ * O(k + log n), con k el número de tiempos de servicio distintos en la cola.
+ */
+public class HrrnQueue implements ReadyQueue {
+    private final ProcessTable table;
+    private int[] serviceTimes;
+    private ProcessHeap[] buckets;
+    private int bucketCount;
+    private int size;
+    private long currentCycle;
+
+    public HrrnQueue(ProcessTable table) {
+        this.table = table;
+        this.serviceTimes = new int[8];
+        this.buckets = new ProcessHeap[8];
+        this.bucketCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void setCurrentCycle(long currentCycle) {
+        this.currentCycle = currentCycle;
+    }
+
+    @Override
+    public long getCurrentCycle() {
+        return currentCycle;
+    }
+
+    @Override
+    public void insert(int slot) {
+        int s = serviceTime(slot);
+        int index = findBucket(s);
+        if (index < 0) {
+            index = -index - 1;
+            addBucket(index, s);
+        }
+        ProcessHeap bucket = buckets[index];
+        bucket.setCurrentCycle(currentCycle);
+        bucket.insert(slot);
+        size++;
+    }
+
+    @Override
+    public int extract() {
+        int best = bestBucket();
+        if (best < 0) {
+            return -1;
+        }
+        ProcessHeap bucket = buckets[best];
+        bucket.setCurrentCycle(currentCycle);
+        int slot = bucket.extract();
+        size--;
+        if (bucket.isEmpty()) {
+            removeBucket(best);
+        }
+        return slot;
+    }
+
+    @Override
+    public int peek() {
+        int best = bestBucket();
+        return best < 0 ? -1 : buckets[best].peek();
+    }
+
+    @Override
+    public boolean remove(int slot) {
+        int index = findBucket(serviceTime(slot));
+        if (index < 0) {
+            return false;
+        }
+        ProcessHeap bucket = buckets[index];
+        bucket.setCurrentCycle(currentCycle);
+        if (!bucket.remove(slot)) {
+            return false;
+        }
+        size--;
+        if (bucket.isEmpty()) {
+            removeBucket(index);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(int slot) {
+        int index = findBucket(serviceTime(slot));
+        return index >= 0 && buckets[index].contains(slot);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            int[] elements = buckets[i].toArray();
+            System.arraycopy(elements, 0, result, count, elements.length);
+            count += elements.length;
+        }
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i].clear();
+            buckets[i] = null;
+        }
+        bucketCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Grupo cuya cima tiene la mayor razón de respuesta en el ciclo actual
+     * (empates por id, igual que ProcessHeap)
+     */
+    private int bestBucket() {
+        int best = -1;
+        double bestRatio = 0;
+        int bestId = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            int top = buckets[i].peek();
+            double ratio = responseRatio(top, serviceTimes[i]);
+            int topId = table.getId(top);
+            if (best < 0 || ratio > bestRatio || (ratio == bestRatio && topId < bestId)) {
+                best = i;
+                bestRatio = ratio;
+                bestId = topId;
+            }
+        }
+        return best;
+    }
+
+    private double responseRatio(int slot, int serviceTime) {
+        double s = serviceTime;
+        long waiting = table.getWaitingTime(slot) + Math.max(0, currentCycle - table.getLastReadyQueueTime(slot));
+        return (waiting + s) / s;
+    }
+
+    private int serviceTime(int slot) {
+        return Math.max(1, table.getTotalInstructions(slot));
+    }
+
+    /**
+     * Búsqueda binaria del grupo de un tiempo de servicio
+     * @return su posición, o -(punto de inserción) - 1 si no existe
+     */
+    private int findBucket(int serviceTime) {
+        return Arrays.binarySearch(serviceTimes, 0, bucketCount, serviceTime);
+    }
+
+    private void addBucket(int index, int serviceTime) {
+        if (bucketCount == buckets.length) {
+            serviceTimes = Arrays.copyOf(serviceTimes, bucketCount * 2);
+            buckets = Arrays.copyOf(buckets, bucketCount * 2);
+        }
+        System.arraycopy(serviceTimes, index, serviceTimes, index + 1, bucketCount - index);
+        System.arraycopy(buckets, index, buckets, index + 1, bucketCount - index);
+        serviceTimes[index] = serviceTime;
+        buckets[index] = new ProcessHeap(4, SchedulingAlgorithm.HRRN, table);
+        bucketCount++;
+    }
+
+    private void removeBucket(int index) {
+        System.arraycopy(serviceTimes, index + 1, serviceTimes, index, bucketCount - index - 1);
+        System.arraycopy(buckets, index + 1, buckets, index, bucketCount - index - 1);
+        bucketCount--;
+        buckets[bucketCount] = null;
+    }
+}
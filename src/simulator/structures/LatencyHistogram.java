@@ -0,0 +1,144 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Arrays;
+
+/**
+ * Histograma log-lineal de latencias (al estilo HDR). Los valores menores que
+ * 32 tienen un contador cada uno; por encima, cada potencia de dos se divide
+ * en 32 sub-rangos iguales, así que el error relativo de un percentil es
+ * menor que 1/32 (~3 %) en todo el rango de long con menos de 2000
+ * contadores. Registrar un valor es O(1) y no reserva memoria.
+ *
+ * No es seguro entre hilos: el que registra debe tener acceso exclusivo, y
+ * los lectores deben trabajar sobre una copia.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB_COUNT + (63 - SUB_BITS) * SUB_COUNT;
+
+    private final long[] counts;
+    private long totalCount;
+    private long min;
+    private long max;
+    private long sum;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKETS];
+        reset();
+    }
+
+    private LatencyHistogram(LatencyHistogram other) {
+        this.counts = other.counts.clone();
+        this.totalCount = other.totalCount;
+        this.min = other.min;
+        this.max = other.max;
+        this.sum = other.sum;
+    }
+
+    /**
+     * Registra un valor; los negativos cuentan como 0.
+     * @param value valor a registrar (por ejemplo, nanosegundos)
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[indexOf(v)]++;
+        totalCount++;
+        sum += v;
+        if (v < min) {
+            min = v;
+        }
+        if (v > max) {
+            max = v;
+        }
+    }
+
+    /**
+     * Copia independiente del estado actual.
+     */
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return el menor valor registrado, o 0 si no hay valores
+     */
+    public long getMin() {
+        return totalCount > 0 ? min : 0;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return totalCount > 0 ? (double) sum / totalCount : 0;
+    }
+
+    /**
+     * Valor bajo el cual cae el porcentaje indicado de las muestras. Devuelve
+     * el extremo superior del sub-rango (nunca más que el máximo registrado).
+     * @param percentile percentil entre 0 y 100
+     * @return el valor, o 0 si no hay valores
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.min(100, Math.max(0, percentile));
+        long target = Math.max(1, (long) Math.ceil(clamped / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, Math.max(min, highestValueAt(i)));
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (value >>> shift) & (SUB_COUNT - 1);
+        return SUB_COUNT + shift * SUB_COUNT + sub;
+    }
+
+    private static long highestValueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_COUNT) / SUB_COUNT;
+        int sub = (index - SUB_COUNT) % SUB_COUNT;
+        long lowest = (long) (SUB_COUNT + sub) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
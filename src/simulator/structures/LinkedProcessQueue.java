@@ -0,0 +1,152 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessTable;
+
+/**
+ * Cola FIFO de slots enlazada a través de la ProcessTable: la fila de cada
+ * proceso guarda el anterior, el siguiente y la cola en la que está, así que
+ * además de encolar y desencolar, contains y remove de cualquier posición son
+ * O(1). Un proceso sólo puede estar en una cola enlazada a la vez.
+ */
+public class LinkedProcessQueue {
+    private final ProcessTable table;
+    private final int tag;
+    private int head = -1;
+    private int tail = -1;
+    private int size;
+    private int modCount;
+
+    public LinkedProcessQueue(ProcessTable table) {
+        this.table = table;
+        this.tag = table.newQueueTag();
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Contador de modificaciones, para saber si la cola cambió sin copiarla.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Agrega un proceso al final de la cola
+     * @param slot slot del proceso a encolar
+     */
+    public void enqueue(int slot) {
+        if (table.getQueueTag(slot) != 0) {
+            throw new IllegalStateException("El slot " + slot + " ya está en una cola enlazada");
+        }
+        table.setQueueTag(slot, tag);
+        table.setQueuePrev(slot, tail);
+        table.setQueueNext(slot, -1);
+        if (tail >= 0) {
+            table.setQueueNext(tail, slot);
+        } else {
+            head = slot;
+        }
+        tail = slot;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Extrae el proceso del frente de la cola
+     * @return su slot o -1 si está vacía
+     */
+    public int dequeue() {
+        int slot = head;
+        if (slot >= 0) {
+            unlink(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Obtiene el proceso del frente sin extraerlo
+     * @return su slot o -1 si está vacía
+     */
+    public int peek() {
+        return head;
+    }
+
+    /**
+     * Proceso que sigue a slot en la cola, para recorrerla sin copiarla.
+     * @return su slot o -1 si slot es el último
+     */
+    public int next(int slot) {
+        return table.getQueueNext(slot);
+    }
+
+    public boolean contains(int slot) {
+        return table.getQueueTag(slot) == tag;
+    }
+
+    /**
+     * Elimina un proceso de la cola, en cualquier posición
+     * @param slot slot del proceso a eliminar
+     * @return true si se eliminó, false si no estaba en esta cola
+     */
+    public boolean remove(int slot) {
+        if (!contains(slot)) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * Slots de la cola, del frente al final.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int slot = head;
+        for (int i = 0; i < size; i++) {
+            result[i] = slot;
+            slot = table.getQueueNext(slot);
+        }
+        return result;
+    }
+
+    public void clear() {
+        while (head >= 0) {
+            unlink(head);
+        }
+    }
+
+    private void unlink(int slot) {
+        int prev = table.getQueuePrev(slot);
+        int next = table.getQueueNext(slot);
+        if (prev >= 0) {
+            table.setQueueNext(prev, next);
+        } else {
+            head = next;
+        }
+        if (next >= 0) {
+            table.setQueuePrev(next, prev);
+        } else {
+            tail = prev;
+        }
+        table.setQueueTag(slot, 0);
+        table.setQueuePrev(slot, -1);
+        table.setQueueNext(slot, -1);
+        size--;
+        modCount++;
+    }
+}
@@ -0,0 +1,143 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Arrays;
+
+/**
+ * Lista creciente de long primitivos (sin Long de por medio).
+ */
+public class LongList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongList(int initialCapacity) {
+        this.elements = new long[Math.max(1, initialCapacity)];
+        this.size = 0;
+    }
+
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Agrega un rango de un arreglo al final de la lista
+     * @param values arreglo de origen
+     * @param from inicio (incluido)
+     * @param to fin (excluido)
+     */
+    public void addAll(long[] values, int from, int to) {
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public void addAll(LongList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, long value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copia de los elementos [from, to)
+     */
+    public long[] copyRange(int from, int to) {
+        checkRange(from, to);
+        return Arrays.copyOfRange(elements, from, to);
+    }
+
+    /**
+     * Suma de los elementos [from, to)
+     */
+    public long sum(int from, int to) {
+        checkRange(from, to);
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += elements[i];
+        }
+        return total;
+    }
+
+    /**
+     * Sumas prefijas: el elemento i es la suma de [0, i), así que la suma de
+     * cualquier rango [from, to) es prefix.get(to) - prefix.get(from) en O(1).
+     * @return lista de size() + 1 elementos
+     */
+    public LongList prefixSums() {
+        LongList prefix = new LongList(size + 1);
+        long total = 0;
+        prefix.add(0);
+        for (int i = 0; i < size; i++) {
+            total += elements[i];
+            prefix.add(total);
+        }
+        return prefix;
+    }
+
+    /**
+     * Interpreta esta lista como sumas prefijas (ver prefixSums) y devuelve
+     * la suma del rango [from, to) de la serie original en O(1).
+     */
+    public long prefixRangeSum(int from, int to) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + ")");
+        }
+        return get(to) - get(from);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size);
+        }
+    }
+}
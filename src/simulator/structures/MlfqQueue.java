@@ -0,0 +1,156 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessTable;
+
+/**
+ * Cola multinivel con retroalimentación: una cola FIFO por nivel (0 es el de
+ * mayor prioridad). El nivel de cada proceso lo decide el planificador; aquí
+ * sólo se respeta al encolar y se extrae del primer nivel no vacío.
+ */
+public class MlfqQueue implements ReadyQueue {
+    public static final int DEFAULT_LEVELS = 3;
+
+    private final ProcessQueue[] levels;
+    private final ProcessTable table;
+    private int size;
+    private long currentCycle;
+
+    public MlfqQueue(ProcessTable table, int levelCount) {
+        this.table = table;
+        this.levels = new ProcessQueue[Math.max(1, levelCount)];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new ProcessQueue();
+        }
+        this.size = 0;
+    }
+
+    public MlfqQueue(ProcessTable table) {
+        this(table, DEFAULT_LEVELS);
+    }
+
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void setCurrentCycle(long currentCycle) {
+        this.currentCycle = currentCycle;
+    }
+
+    @Override
+    public long getCurrentCycle() {
+        return currentCycle;
+    }
+
+    @Override
+    public void insert(int slot) {
+        levels[levelOf(slot)].enqueue(slot);
+        size++;
+    }
+
+    @Override
+    public int extract() {
+        for (ProcessQueue level : levels) {
+            if (!level.isEmpty()) {
+                size--;
+                return level.dequeue();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int peek() {
+        for (ProcessQueue level : levels) {
+            if (!level.isEmpty()) {
+                return level.peek();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean remove(int slot) {
+        if (levels[levelOf(slot)].remove(slot)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(int slot) {
+        return levels[levelOf(slot)].contains(slot);
+    }
+
+    /**
+     * Cantidad de procesos en cada nivel
+     * @return arreglo con un tamaño por nivel
+     */
+    public int[] getLevelSizes() {
+        int[] sizes = new int[levels.length];
+        for (int i = 0; i < levels.length; i++) {
+            sizes[i] = levels[i].size();
+        }
+        return sizes;
+    }
+
+    /**
+     * Sube todos los procesos al nivel 0 conservando su orden relativo.
+     */
+    public void boost() {
+        for (ProcessQueue level : levels) {
+            for (int i = 0; i < level.size(); i++) {
+                table.setMlfqLevel(level.get(i), 0);
+            }
+        }
+        for (int i = 1; i < levels.length; i++) {
+            while (!levels[i].isEmpty()) {
+                levels[0].enqueue(levels[i].dequeue());
+            }
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size];
+        int count = 0;
+        for (ProcessQueue level : levels) {
+            for (int i = 0; i < level.size(); i++) {
+                result[count++] = level.get(i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        for (ProcessQueue level : levels) {
+            level.clear();
+        }
+        size = 0;
+    }
+
+    private int levelOf(int slot) {
+        return Math.min(Math.max(0, table.getMlfqLevel(slot)), levels.length - 1);
+    }
+}
@@ -10,27 +10,33 @@ package simulator.structures;
  * @author chalo
  */
 import simulator.core.SchedulingAlgorithm;
-import simulator.core.PCB;
+import simulator.core.ProcessTable;
 import java.util.Arrays;
 
 /**
- * Implementación de Montículo (Heap) 
+ * Implementación de Montículo (Heap) indexado de slots de la ProcessTable:
+ * la fila de cada proceso guarda su posición en el arreglo, así que
+ * contains, remove y update son O(1) / O(log n). Un proceso sólo puede estar
+ * en un montículo a la vez.
  */
-public class ProcessHeap {
-    private PCB[] heap;
+public class ProcessHeap implements ReadyQueue {
+    private int[] heap;
     private int size;
     private final boolean isMinHeap;
     private final SchedulingAlgorithm algorithm;
+    private final ProcessTable table;
+    private long currentCycle;
     
-    public ProcessHeap(int capacity, boolean isMinHeap, SchedulingAlgorithm algorithm) {
-        this.heap = new PCB[capacity];
+    public ProcessHeap(int capacity, boolean isMinHeap, SchedulingAlgorithm algorithm, ProcessTable table) {
+        this.heap = new int[Math.max(1, capacity)];
         this.size = 0;
         this.isMinHeap = isMinHeap;
         this.algorithm = algorithm;
+        this.table = table;
     }
     
-    public ProcessHeap(int capacity, SchedulingAlgorithm algorithm) {
-        this(capacity, true, algorithm);
+    public ProcessHeap(int capacity, SchedulingAlgorithm algorithm, ProcessTable table) {
+        this(capacity, true, algorithm, table);
     }
     
     public boolean isEmpty() {
@@ -41,65 +47,113 @@ public class ProcessHeap {
         return size;
     }
     
+    /**
+     * Ciclo actual de la simulación. La espera de un proceso en la cola se
+     * contabiliza al salir, así que HRRN suma la espera en curso
+     * (currentCycle - lastReadyQueueTime) a la ya acumulada.
+     * @param currentCycle ciclo de referencia
+     */
+    public void setCurrentCycle(long currentCycle) {
+        this.currentCycle = currentCycle;
+    }
+    
+    public long getCurrentCycle() {
+        return currentCycle;
+    }
+    
     /**
      * Inserta proceso en el montículo
-     * @param process proceso a insertar
+     * @param slot slot del proceso a insertar
      */
-    public void insert(PCB process) {
+    public void insert(int slot) {
         if (size == heap.length) {
             resize();
         }
         
-        heap[size] = process;
-        heapifyUp(size);
+        heap[size] = slot;
+        table.setHeapIndex(slot, size);
         size++;
+        heapifyUp(size - 1);
     }
     
     /**
      * Extrae proceso con mayor o menor prioridad según el tipo de montículo
-     * @return el proceso extraído o null si está vacío
+     * @return el slot extraído o -1 si está vacío
      */
-    public PCB extract() {
+    public int extract() {
         if (isEmpty()) {
-            return null;
+            return -1;
         }
         
-        PCB root = heap[0];
-        heap[0] = heap[size - 1];
-        heap[size - 1] = null;
-        size--;
-        heapifyDown(0);
-        
+        int root = heap[0];
+        removeAt(0);
         return root;
     }
     
     /**
      * Obtiene el proceso en la raíz sin extraerlo
-     * @return el proceso en la raíz o null si está vacío
+     * @return el slot de la raíz o -1 si está vacío
      */
-    public PCB peek() {
+    public int peek() {
         if (isEmpty()) {
-            return null;
+            return -1;
         }
         return heap[0];
     }
     
     /**
      * Elimina proceso específico del montículo
-     * @param process el proceso a eliminar
+     * @param slot slot del proceso a eliminar
      * @return true si se eliminó, false caso contrario
      */
-    public boolean remove(PCB process) {
-        for (int i = 0; i < size; i++) {
-            if (heap[i] != null && heap[i].getId() == process.getId()) {
-                heap[i] = heap[size - 1];
-                heap[size - 1] = null;
-                size--;
-                heapifyDown(i);
-                return true;
-            }
+    public boolean remove(int slot) {
+        if (!contains(slot)) {
+            return false;
+        }
+        removeAt(table.getHeapIndex(slot));
+        return true;
+    }
+    
+    /**
+     * Indica si el proceso está en este montículo
+     * @param slot slot del proceso a buscar
+     * @return true si está, false caso contrario
+     */
+    public boolean contains(int slot) {
+        int index = table.getHeapIndex(slot);
+        return index >= 0 && index < size && heap[index] == slot;
+    }
+    
+    /**
+     * Recoloca un proceso cuya prioridad cambió mientras estaba en el
+     * montículo (sirve tanto para subirla como para bajarla)
+     * @param slot slot del proceso modificado
+     * @return true si estaba en el montículo, false caso contrario
+     */
+    public boolean update(int slot) {
+        if (!contains(slot)) {
+            return false;
+        }
+        heapifyUp(table.getHeapIndex(slot));
+        heapifyDown(table.getHeapIndex(slot));
+        return true;
+    }
+    
+    /**
+     * Quita el elemento de la posición indicada. El último elemento ocupa su
+     * lugar y se mueve hacia arriba o hacia abajo según haga falta.
+     */
+    private void removeAt(int index) {
+        int removed = heap[index];
+        size--;
+        int last = heap[size];
+        table.setHeapIndex(removed, -1);
+        if (index < size) {
+            heap[index] = last;
+            table.setHeapIndex(last, index);
+            heapifyUp(index);
+            heapifyDown(table.getHeapIndex(last));
         }
-        return false;
     }
     
     /**
@@ -138,63 +192,72 @@ public class ProcessHeap {
     }
     
     /**
-     * Compara dos procesos según el algoritmo de planificación
+     * Compara dos procesos (por slot) según el algoritmo de planificación
      */
-    private int compare(PCB p1, PCB p2) {
-        if (p1 == null || p2 == null) return 0;
-        
+    private int compare(int p1, int p2) {
         int result;
         switch (algorithm) {
             case FCFS:
-                result = Long.compare(p1.getCreationTime(), p2.getCreationTime());
+                result = Long.compare(table.getCreationTime(p1), table.getCreationTime(p2));
                 break;
             case SJF:
-                result = Integer.compare(p1.getTotalInstructions(), p2.getTotalInstructions());
+                result = Integer.compare(table.getTotalInstructions(p1), table.getTotalInstructions(p2));
                 break;
             case SRTF:
-                result = Integer.compare(p1.getRemainingInstructions(), p2.getRemainingInstructions());
+                result = Integer.compare(table.getRemainingInstructions(p1), table.getRemainingInstructions(p2));
                 break;
             case RR:
-                result = Long.compare(p1.getLastReadyQueueTime(), p2.getLastReadyQueueTime());
+                result = Long.compare(table.getLastReadyQueueTime(p1), table.getLastReadyQueueTime(p2));
                 break;
             case PRIORITY:
-                result = Integer.compare(p1.getPriority(), p2.getPriority());
+                result = Integer.compare(table.getPriority(p1), table.getPriority(p2));
                 break;
             case MLFQ:
-                result = Long.compare(p1.getCreationTime(), p2.getCreationTime());
+                result = Long.compare(table.getCreationTime(p1), table.getCreationTime(p2));
                 break;
             case HRRN:
-                double s1 = Math.max(1.0, p1.getServiceTime());
-                double ratioP1 = (p1.getWaitingTime() + s1) / s1;
+                double s1 = Math.max(1.0, table.getTotalInstructions(p1));
+                double ratioP1 = (waitingTime(p1) + s1) / s1;
 
-                double s2 = Math.max(1.0, p2.getServiceTime());
-                double ratioP2 = (p2.getWaitingTime() + s2) / s2;
+                double s2 = Math.max(1.0, table.getTotalInstructions(p2));
+                double ratioP2 = (waitingTime(p2) + s2) / s2;
                 result = Double.compare(ratioP2, ratioP1); 
                 break;
             default:
                 result = 0; 
                 break;
         }
+        if (result == 0) {
+            result = Integer.compare(table.getId(p1), table.getId(p2));
+        }
         
         return isMinHeap ? result : -result;
     }
     
+    private long waitingTime(int slot) {
+        return table.getWaitingTime(slot) + Math.max(0, currentCycle - table.getLastReadyQueueTime(slot));
+    }
+    
     private void swap(int i, int j) {
-        PCB temp = heap[i];
+        int temp = heap[i];
         heap[i] = heap[j];
         heap[j] = temp;
+        table.setHeapIndex(heap[i], i);
+        table.setHeapIndex(heap[j], j);
     }
     
     private void resize() {
         heap = Arrays.copyOf(heap, heap.length * 2);
     }
     
-    public Object[] toArray() {
-        return java.util.Arrays.copyOf(heap, size);
+    public int[] toArray() {
+        return Arrays.copyOf(heap, size);
     }
     
     public void clear() {
-        Arrays.fill(heap, null);
+        for (int i = 0; i < size; i++) {
+            table.setHeapIndex(heap[i], -1);
+        }
         size = 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Arrays;
+
+/**
+ * Cola FIFO de procesos sobre un arreglo circular de slots de la
+ * ProcessTable: encolar y desencolar en O(1).
+ */
+public class ProcessQueue {
+    private int[] elements;
+    private int head;
+    private int size;
+    private int modCount;
+
+    public ProcessQueue(int capacity) {
+        this.elements = new int[Math.max(1, capacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public ProcessQueue() {
+        this(16);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Contador de modificaciones, para saber si la cola cambió sin copiarla.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Agrega un proceso al final de la cola
+     * @param slot slot del proceso a encolar
+     */
+    public void enqueue(int slot) {
+        if (size == elements.length) {
+            resize();
+        }
+        elements[(head + size) % elements.length] = slot;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Extrae el proceso del frente de la cola
+     * @return su slot o -1 si está vacía
+     */
+    public int dequeue() {
+        if (size == 0) {
+            return -1;
+        }
+        int slot = elements[head];
+        head = (head + 1) % elements.length;
+        size--;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Obtiene el proceso del frente sin extraerlo
+     * @return su slot o -1 si está vacía
+     */
+    public int peek() {
+        return size == 0 ? -1 : elements[head];
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) % elements.length];
+    }
+
+    /**
+     * Elimina un proceso específico de la cola (recorrido lineal)
+     * @param slot slot del proceso a eliminar
+     * @return true si se eliminó, false caso contrario
+     */
+    public boolean remove(int slot) {
+        for (int i = 0; i < size; i++) {
+            if (get(i) == slot) {
+                for (int j = i; j < size - 1; j++) {
+                    elements[(head + j) % elements.length] = elements[(head + j + 1) % elements.length];
+                }
+                size--;
+                modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(int slot) {
+        for (int i = 0; i < size; i++) {
+            if (get(i) == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Slots de la cola, del frente al final.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    private void resize() {
+        int[] bigger = new int[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = get(i);
+        }
+        elements = bigger;
+        head = 0;
+    }
+}
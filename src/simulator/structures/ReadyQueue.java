@@ -0,0 +1,79 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Interface.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.ProcessTable;
+import simulator.core.SchedulingAlgorithm;
+
+/**
+ * Cola de listos: devuelve siempre el siguiente proceso según el algoritmo
+ * de planificación con el que se creó. Guarda slots de una ProcessTable y
+ * lee de ella los campos que ordenan la cola.
+ */
+public interface ReadyQueue {
+
+    void insert(int slot);
+
+    /**
+     * Extrae el siguiente proceso a ejecutar
+     * @return su slot o -1 si está vacía
+     */
+    int extract();
+
+    int peek();
+
+    boolean remove(int slot);
+
+    boolean contains(int slot);
+
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     * Ciclo de referencia para los criterios que dependen del tiempo (HRRN)
+     * @param currentCycle ciclo actual de la simulación
+     */
+    void setCurrentCycle(long currentCycle);
+
+    long getCurrentCycle();
+
+    int[] toArray();
+
+    void clear();
+
+    /**
+     * Crea la cola adecuada para el algoritmo indicado
+     * @param algorithm algoritmo de planificación
+     * @param table tabla de los procesos que se encolan
+     * @return cola de listos vacía
+     */
+    static ReadyQueue create(SchedulingAlgorithm algorithm, ProcessTable table) {
+        return create(algorithm, table, MlfqQueue.DEFAULT_LEVELS);
+    }
+
+    /**
+     * Igual que create(algorithm, table), indicando los niveles de MLFQ
+     * @param algorithm algoritmo de planificación
+     * @param table tabla de los procesos que se encolan
+     * @param mlfqLevels número de niveles si el algoritmo es MLFQ
+     * @return cola de listos vacía
+     */
+    static ReadyQueue create(SchedulingAlgorithm algorithm, ProcessTable table, int mlfqLevels) {
+        switch (algorithm) {
+            case HRRN:
+                return new HrrnQueue(table);
+            case MLFQ:
+                return new MlfqQueue(table, mlfqLevels);
+            default:
+                return new ProcessHeap(100, algorithm, table);
+        }
+    }
+}
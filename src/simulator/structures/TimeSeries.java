@@ -0,0 +1,324 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Arrays;
+
+/**
+ * Serie temporal acotada con varias resoluciones. Cada nivel es un búfer
+ * circular de tamaño fijo: el nivel 0 guarda los valores crudos (uno por
+ * ciclo) y los siguientes la suma de cada bloque de 100 y 10 000 ciclos, así
+ * que la memoria no crece con la duración de la simulación.
+ *
+ * Cada ranura guarda la suma acumulada del nivel, no el valor del punto, así
+ * que la suma de cualquier rango de puntos sale de dos lecturas.
+ *
+ * Los búferes están divididos en bloques; snapshot() comparte los bloques y el
+ * escritor copia un bloque sólo antes de sobrescribir uno que ve alguna
+ * instantánea. Cada nivel tiene un bloque más que los puntos que conserva:
+ * lo que queda por sobrescribir del bloque en curso ya salió de la ventana,
+ * así que ese bloque no se marca como compartido al tomar la instantánea sino
+ * al terminar de escribirlo, y el escritor copia a lo sumo un bloque cada
+ * CHUNK_SIZE puntos aunque se tome una instantánea en cada ciclo.
+ */
+public class TimeSeries {
+    public static final int DEFAULT_RETENTION = 10_000;
+    private static final int[] DEFAULT_RESOLUTIONS = {1, 100, 10_000};
+    private static final int CHUNK_BITS = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int[] resolutions;
+    private final long[][][] levels;
+    private final BitList[] shared;
+    // El arreglo de bloques del nivel lo comparte la última instantánea
+    private final boolean[] levelShared;
+    // Se tomó una instantánea mientras se escribía el bloque en curso
+    private final boolean[] currentShared;
+    private final long[] written;
+    private final long[] cumulative;
+    private final long[] base;
+    private final long[] pendingSum;
+    private final int[] pendingCount;
+    private final int capacity;
+    private final int ringSize;
+    private long count;
+    private long last;
+    private final boolean readOnly;
+    private TimeSeries lastSnapshot;
+
+    /**
+     * @param retention puntos que conserva cada nivel
+     */
+    public TimeSeries(int retention) {
+        this.resolutions = DEFAULT_RESOLUTIONS.clone();
+        int chunks = (Math.max(1, retention) + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        this.capacity = chunks * CHUNK_SIZE;
+        this.ringSize = capacity + CHUNK_SIZE;
+        this.levels = new long[resolutions.length][chunks + 1][];
+        this.shared = new BitList[resolutions.length];
+        for (int i = 0; i < shared.length; i++) {
+            shared[i] = new BitList(chunks + 1);
+        }
+        this.levelShared = new boolean[resolutions.length];
+        this.currentShared = new boolean[resolutions.length];
+        this.written = new long[resolutions.length];
+        this.cumulative = new long[resolutions.length];
+        this.base = new long[resolutions.length];
+        this.pendingSum = new long[resolutions.length];
+        this.pendingCount = new int[resolutions.length];
+        this.readOnly = false;
+    }
+
+    public TimeSeries() {
+        this(DEFAULT_RETENTION);
+    }
+
+    private TimeSeries(TimeSeries source) {
+        this.resolutions = source.resolutions;
+        this.capacity = source.capacity;
+        this.ringSize = source.ringSize;
+        this.levels = source.levels.clone();
+        this.shared = null;
+        this.levelShared = null;
+        this.currentShared = null;
+        this.written = source.written.clone();
+        this.cumulative = source.cumulative.clone();
+        this.base = source.base.clone();
+        // Los bloques pendientes de agregar sólo los usa el escritor
+        this.pendingSum = null;
+        this.pendingCount = null;
+        this.count = source.count;
+        this.last = source.last;
+        this.readOnly = true;
+    }
+
+    /**
+     * Agrega el valor del siguiente ciclo y actualiza los niveles agregados.
+     * @param value valor a agregar
+     */
+    public void add(long value) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("La instantánea de la serie es de sólo lectura");
+        }
+        append(0, value);
+        for (int level = 1; level < resolutions.length; level++) {
+            pendingSum[level] += value;
+            pendingCount[level]++;
+            if (pendingCount[level] == resolutions[level]) {
+                append(level, pendingSum[level]);
+                pendingSum[level] = 0;
+                pendingCount[level] = 0;
+            }
+        }
+        count++;
+        last = value;
+    }
+
+    private void append(int level, long value) {
+        if (written[level] >= capacity) {
+            // El punto que sale de la ventana: su suma es la anterior al primero conservado
+            base[level] = read(level, written[level] - capacity);
+        }
+        int slot = (int) (written[level] % ringSize);
+        int chunk = slot >>> CHUNK_BITS;
+        long[] data = levels[level][chunk];
+        if (data == null) {
+            data = new long[CHUNK_SIZE];
+            setChunk(level, chunk, data);
+        } else if (shared[level].get(chunk)) {
+            // Se va a sobrescribir un valor que ve alguna instantánea
+            data = data.clone();
+            setChunk(level, chunk, data);
+            shared[level].set(chunk, false);
+        }
+        cumulative[level] += value;
+        data[slot & CHUNK_MASK] = cumulative[level];
+        written[level]++;
+        if ((slot & CHUNK_MASK) == CHUNK_MASK && currentShared[level]) {
+            // Se termina el bloque: lo escrito lo ve una instantánea hasta que se vuelva a él
+            shared[level].set(chunk, true);
+            currentShared[level] = false;
+        }
+    }
+
+    private void setChunk(int level, int chunk, long[] data) {
+        if (levelShared[level]) {
+            levels[level] = levels[level].clone();
+            levelShared[level] = false;
+        }
+        levels[level][chunk] = data;
+    }
+
+    private long read(int level, long position) {
+        int slot = (int) (position % ringSize);
+        return levels[level][slot >>> CHUNK_BITS][slot & CHUNK_MASK];
+    }
+
+    /**
+     * Vista inmutable del estado actual. Cuesta O(bloques), no O(valores), y
+     * si no se agregó nada desde la anterior devuelve la misma.
+     * @return instantánea de sólo lectura
+     */
+    public TimeSeries snapshot() {
+        if (readOnly) {
+            return this;
+        }
+        if (lastSnapshot != null && lastSnapshot.count == count) {
+            return lastSnapshot;
+        }
+        for (int level = 0; level < levels.length; level++) {
+            int current = (int) (written[level] % ringSize) >>> CHUNK_BITS;
+            boolean wasCurrent = shared[level].get(current);
+            shared[level].setAll(true);
+            shared[level].set(current, wasCurrent);
+            currentShared[level] = true;
+            levelShared[level] = true;
+        }
+        lastSnapshot = new TimeSeries(this);
+        return lastSnapshot;
+    }
+
+    /**
+     * Vacía la serie. Las instantáneas ya tomadas conservan sus datos.
+     */
+    public void clear() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("La instantánea de la serie es de sólo lectura");
+        }
+        for (int level = 0; level < levels.length; level++) {
+            // Las instantáneas pueden compartir el arreglo de bloques: se reemplaza
+            levels[level] = new long[levels[level].length][];
+            shared[level].setAll(false);
+        }
+        Arrays.fill(levelShared, false);
+        Arrays.fill(currentShared, false);
+        lastSnapshot = null;
+        Arrays.fill(written, 0);
+        Arrays.fill(cumulative, 0);
+        Arrays.fill(base, 0);
+        Arrays.fill(pendingSum, 0);
+        Arrays.fill(pendingCount, 0);
+        count = 0;
+        last = 0;
+    }
+
+    /**
+     * Total de valores agregados desde el inicio (o desde clear()).
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Suma de todos los valores agregados, incluidos los ya descartados.
+     */
+    public long getTotal() {
+        return cumulative[0];
+    }
+
+    /**
+     * Último valor agregado (0 si la serie está vacía).
+     */
+    public long getLast() {
+        return last;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getLevelCount() {
+        return resolutions.length;
+    }
+
+    /**
+     * Ciclos que representa cada punto del nivel.
+     */
+    public int getResolution(int level) {
+        return resolutions[level];
+    }
+
+    /**
+     * Puntos que conserva actualmente el nivel.
+     */
+    public int size(int level) {
+        return (int) Math.min(written[level], capacity);
+    }
+
+    /**
+     * Promedio de los valores del punto indicado del nivel (0 es el más antiguo conservado).
+     */
+    public double get(int level, int index) {
+        if (index < 0 || index >= size(level)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size(level));
+        }
+        return (double) (cumulativeAt(level, index) - cumulativeAt(level, index - 1)) / resolutions[level];
+    }
+
+    /**
+     * Suma de los valores originales de los puntos [from, to) del nivel, en O(1).
+     */
+    public long sum(int level, int from, int to) {
+        if (from < 0 || to > size(level) || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size(level));
+        }
+        return cumulativeAt(level, to - 1) - cumulativeAt(level, from - 1);
+    }
+
+    /**
+     * Copia las sumas de los puntos [from, to) del nivel.
+     * @return lista con una suma por punto
+     */
+    public LongList copyRange(int level, int from, int to) {
+        if (from < 0 || to > size(level) || from > to) {
+            throw new IndexOutOfBoundsException("Range: [" + from + ", " + to + "), Size: " + size(level));
+        }
+        long sumBefore = cumulativeAt(level, from - 1);
+        LongList values = new LongList(Math.max(1, to - from));
+        for (int i = from; i < to; i++) {
+            long sum = cumulativeAt(level, i);
+            values.add(sum - sumBefore);
+            sumBefore = sum;
+        }
+        return values;
+    }
+
+    /**
+     * Suma acumulada hasta el punto indicado (inclusive); -1 es el punto
+     * anterior al primero conservado.
+     */
+    private long cumulativeAt(int level, int index) {
+        if (index < 0) {
+            return base[level];
+        }
+        return read(level, written[level] - size(level) + index);
+    }
+
+    /**
+     * Ciclo (contando desde 0) en el que empieza el punto indicado del nivel.
+     */
+    public long getStartCycle(int level, int index) {
+        return (written[level] - size(level) + index) * resolutions[level];
+    }
+
+    /**
+     * Nivel más fino que todavía conserva la serie completa; si ninguno, el
+     * más grueso. Es el que conviene dibujar para mostrar toda la historia.
+     */
+    public int getCoveringLevel() {
+        for (int level = 0; level < resolutions.length; level++) {
+            if (written[level] <= capacity) {
+                return level;
+            }
+        }
+        return resolutions.length - 1;
+    }
+}
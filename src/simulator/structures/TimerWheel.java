@@ -0,0 +1,295 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import simulator.core.SimulationEvent;
+
+/**
+ * Rueda de temporizadores jerárquica indexada por ciclo global.
+ * Cuatro niveles de 64 ranuras cubren 2^24 ciclos; los plazos más lejanos
+ * esperan en una lista de desborde. Avanzar un ciclo solo vacía la ranura
+ * vencida (O(1)); las entradas de niveles superiores bajan de nivel al
+ * empezar su bloque. Los ciclos sin entradas se saltan de golpe.
+ */
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final CustomList<?>[][] wheels;
+    private final int[] levelCounts;
+    private final CustomList<SimulationEvent> overflow;
+    private final CustomList<SimulationEvent> due;
+    private long currentTime;
+    private int size;
+
+    public TimerWheel(long startTime) {
+        this.wheels = new CustomList<?>[LEVELS][SLOTS];
+        this.levelCounts = new int[LEVELS];
+        this.overflow = new CustomList<>();
+        this.due = new CustomList<>();
+        this.currentTime = startTime;
+        this.size = 0;
+    }
+
+    public TimerWheel() {
+        this(0);
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Número de entradas, incluidas las canceladas que aún no se han purgado.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Programa un evento en el ciclo event.getCycle(). Si ese ciclo ya pasó,
+     * el evento sale en el próximo avance.
+     * @param event evento a programar
+     */
+    public void schedule(SimulationEvent event) {
+        size++;
+        place(event);
+    }
+
+    /**
+     * Avanza la rueda hasta el ciclo indicado y agrega a out, en orden, los
+     * eventos vencidos que no estén cancelados.
+     * @param time ciclo destino
+     * @param out lista donde se agregan los eventos vencidos
+     */
+    public void advanceTo(long time, CustomList<SimulationEvent> out) {
+        drainDue(out);
+        while (currentTime < time) {
+            if (levelCounts[0] == 0) {
+                int level = 1;
+                while (level < LEVELS && levelCounts[level] == 0) {
+                    level++;
+                }
+                if (level == LEVELS && overflow.isEmpty()) {
+                    currentTime = time;
+                    break;
+                }
+                long span = 1L << (SLOT_BITS * level);
+                long boundary = (currentTime / span + 1) * span;
+                if (boundary > time) {
+                    currentTime = time;
+                    break;
+                }
+                currentTime = boundary - 1;
+            }
+            tick(out);
+        }
+    }
+
+    /**
+     * Ciclo del próximo evento no cancelado.
+     * @return el ciclo, o Long.MAX_VALUE si no hay eventos
+     */
+    public long nextDeadline() {
+        long best = Long.MAX_VALUE;
+        purge(due, -1);
+        for (int i = 0; i < due.size(); i++) {
+            best = Math.min(best, due.get(i).getCycle());
+        }
+        if (best != Long.MAX_VALUE) {
+            return best;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelCounts[level] == 0) {
+                continue;
+            }
+            int current = (int) ((currentTime >>> (SLOT_BITS * level)) & SLOT_MASK);
+            for (int slot = current + 1; slot < SLOTS; slot++) {
+                CustomList<SimulationEvent> entries = slot(level, slot, false);
+                if (entries == null || purge(entries, level) == 0) {
+                    continue;
+                }
+                for (int i = 0; i < entries.size(); i++) {
+                    best = Math.min(best, entries.get(i).getCycle());
+                }
+                return best;
+            }
+        }
+        purge(overflow, -1);
+        for (int i = 0; i < overflow.size(); i++) {
+            best = Math.min(best, overflow.get(i).getCycle());
+        }
+        return best;
+    }
+
+    /**
+     * Agrega a out los eventos pendientes no cancelados en el mismo orden en
+     * que saldrían, sin modificar la rueda: vacía una copia hasta el último
+     * plazo. Volver a programarlos en ese orden en una rueda nueva conserva el
+     * orden de los eventos de un mismo ciclo.
+     * @param out lista donde se agregan los eventos
+     */
+    public void pending(CustomList<SimulationEvent> out) {
+        TimerWheel copy = new TimerWheel(currentTime);
+        long last = currentTime;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                CustomList<SimulationEvent> entries = slot(level, slot, false);
+                if (entries != null && !entries.isEmpty()) {
+                    last = Math.max(last, copyEntries(entries, copy.slot(level, slot, true)));
+                }
+            }
+            copy.levelCounts[level] = levelCounts[level];
+        }
+        last = Math.max(last, copyEntries(overflow, copy.overflow));
+        copyEntries(due, copy.due);
+        copy.size = size;
+        copy.advanceTo(last, out);
+    }
+
+    /**
+     * @return el mayor plazo copiado
+     */
+    private static long copyEntries(CustomList<SimulationEvent> from, CustomList<SimulationEvent> to) {
+        long last = Long.MIN_VALUE;
+        for (int i = 0; i < from.size(); i++) {
+            to.add(from.get(i));
+            last = Math.max(last, from.get(i).getCycle());
+        }
+        return last;
+    }
+
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                CustomList<SimulationEvent> entries = slot(level, slot, false);
+                if (entries != null) {
+                    entries.clear();
+                }
+            }
+            levelCounts[level] = 0;
+        }
+        overflow.clear();
+        due.clear();
+        size = 0;
+    }
+
+    private void tick(CustomList<SimulationEvent> out) {
+        currentTime++;
+        if ((currentTime & SLOT_MASK) == 0) {
+            cascade();
+        }
+        drainDue(out);
+        CustomList<SimulationEvent> entries = slot(0, (int) (currentTime & SLOT_MASK), false);
+        if (entries != null && !entries.isEmpty()) {
+            levelCounts[0] -= entries.size();
+            size -= entries.size();
+            for (int i = 0; i < entries.size(); i++) {
+                SimulationEvent event = entries.get(i);
+                if (!event.isCancelled()) {
+                    out.add(event);
+                }
+            }
+            entries.clear();
+        }
+    }
+
+    /**
+     * Baja de nivel las entradas cuyo bloque empieza en el ciclo actual,
+     * empezando por el nivel más alto.
+     */
+    private void cascade() {
+        if ((currentTime & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0 && !overflow.isEmpty()) {
+            Object[] pending = overflow.toArray();
+            overflow.clear();
+            for (Object event : pending) {
+                place((SimulationEvent) event);
+            }
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((currentTime & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            CustomList<SimulationEvent> entries = slot(level, (int) ((currentTime >>> (SLOT_BITS * level)) & SLOT_MASK), false);
+            if (entries == null || entries.isEmpty()) {
+                continue;
+            }
+            Object[] pending = entries.toArray();
+            entries.clear();
+            levelCounts[level] -= pending.length;
+            for (Object event : pending) {
+                place((SimulationEvent) event);
+            }
+        }
+    }
+
+    private void place(SimulationEvent event) {
+        long cycle = event.getCycle();
+        if (cycle <= currentTime) {
+            due.add(event);
+            return;
+        }
+        int level = (63 - Long.numberOfLeadingZeros(cycle ^ currentTime)) / SLOT_BITS;
+        if (level >= LEVELS) {
+            overflow.add(event);
+            return;
+        }
+        slot(level, (int) ((cycle >>> (SLOT_BITS * level)) & SLOT_MASK), true).add(event);
+        levelCounts[level]++;
+    }
+
+    private void drainDue(CustomList<SimulationEvent> out) {
+        if (due.isEmpty()) {
+            return;
+        }
+        size -= due.size();
+        for (int i = 0; i < due.size(); i++) {
+            SimulationEvent event = due.get(i);
+            if (!event.isCancelled()) {
+                out.add(event);
+            }
+        }
+        due.clear();
+    }
+
+    /**
+     * Elimina las entradas canceladas de una lista.
+     * @param level nivel al que pertenece la lista, o -1 si no es una ranura
+     * @return número de entradas que quedan
+     */
+    private int purge(CustomList<SimulationEvent> entries, int level) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).isCancelled()) {
+                entries.removeAt(i);
+                size--;
+                if (level >= 0) {
+                    levelCounts[level]--;
+                }
+            }
+        }
+        return entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CustomList<SimulationEvent> slot(int level, int slot, boolean create) {
+        CustomList<SimulationEvent> entries = (CustomList<SimulationEvent>) wheels[level][slot];
+        if (entries == null && create) {
+            entries = new CustomList<>();
+            wheels[level][slot] = entries;
+        }
+        return entries;
+    }
+}
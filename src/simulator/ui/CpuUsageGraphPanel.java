@@ -10,7 +10,8 @@ package simulator.ui;
  * @author chalo
  */
 
-import simulator.structures.CustomList;
+import simulator.structures.IntList;
+import simulator.structures.TimeSeries;
 import javax.swing.JPanel;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -24,36 +25,35 @@ import java.awt.BasicStroke;
  */
 public class CpuUsageGraphPanel extends JPanel {
 
-    private CustomList<Integer> cpuHistory;
+    private TimeSeries cpuHistory;
     private double currentUtilization = 0.0;
-    private int totalBusyCycles = 0;
-    private int totalCycles = 0;
+    private long totalBusyCycles = 0;
+    private long totalCycles = 0;
+    private int cpuCount = 1;
     
-    private CustomList<Point> graphPoints; 
-    
-    private static class Point {
-        int x, y;
-        Point(int x, int y) { this.x = x; this.y = y; }
-    }
+    // Coordenadas de los puntos del gráfico
+    private final IntList pointsX;
+    private final IntList pointsY;
 
     public CpuUsageGraphPanel() {
-        this.cpuHistory = new CustomList<>();
-        this.graphPoints = new CustomList<>();
+        this.cpuHistory = new TimeSeries(1);
+        this.pointsX = new IntList();
+        this.pointsY = new IntList();
         setBackground(Color.DARK_GRAY);
     }
 
-    public void updateData(CustomList<Integer> data) {
+    /**
+     * @param data CPUs ocupadas en cada ciclo
+     * @param cpuCount número de CPUs simuladas
+     */
+    public void updateData(TimeSeries data, int cpuCount) {
         this.cpuHistory = data;
-        totalCycles = cpuHistory.size();
+        this.cpuCount = Math.max(1, cpuCount);
+        totalCycles = cpuHistory.getCount();
         
         if (totalCycles > 0) {
-            totalBusyCycles = 0;
-            for (int i = 0; i < totalCycles; i++) {
-                if (cpuHistory.get(i) == 1) {
-                    totalBusyCycles++;
-                }
-            }
-            this.currentUtilization = (double) totalBusyCycles / totalCycles;
+            totalBusyCycles = cpuHistory.getTotal();
+            this.currentUtilization = (double) totalBusyCycles / (totalCycles * this.cpuCount);
         } else {
             this.currentUtilization = 0.0;
         }
@@ -64,8 +64,12 @@ public class CpuUsageGraphPanel extends JPanel {
     }
 
     private void calculateGraphPoints() {
-        graphPoints.clear();
-        if (totalCycles == 0) return;
+        pointsX.clear();
+        pointsY.clear();
+        // Se dibuja la resolución más fina que aún abarca toda la simulación
+        int level = cpuHistory.getCoveringLevel();
+        int totalPoints = cpuHistory.size(level);
+        if (totalPoints == 0) return;
 
         int width = getWidth();
         int height = getHeight();
@@ -74,33 +78,29 @@ public class CpuUsageGraphPanel extends JPanel {
         int graphHeight = height - p*2;
         if (graphWidth <= 0 || graphHeight <= 0) return;
 
-        int numBuckets = Math.min(totalCycles, graphWidth / 5);
+        int numBuckets = Math.min(totalPoints, graphWidth / 5);
         if (numBuckets == 0) numBuckets = 1;
         
-        int bucketSize = totalCycles / numBuckets;
+        int bucketSize = totalPoints / numBuckets;
         if (bucketSize == 0) bucketSize = 1;
 
         for (int i = 0; i < numBuckets; i++) {
             int start = i * bucketSize;
-            int end = Math.min((i + 1) * bucketSize, totalCycles);
-            if (i == numBuckets - 1) end = totalCycles; 
+            int end = Math.min((i + 1) * bucketSize, totalPoints);
+            if (i == numBuckets - 1) end = totalPoints; 
 
-            int busyInBucket = 0;
-            int totalInBucket = end - start;
-            
-            for (int j = start; j < end; j++) {
-                if (cpuHistory.get(j) == 1) {
-                    busyInBucket++;
-                }
-            }
+            // Suma del bloque en O(1) gracias a las sumas acumuladas de la serie
+            long busyInBucket = cpuHistory.sum(level, start, end);
+            long cyclesInBucket = (long) (end - start) * cpuHistory.getResolution(level);
             
-            double bucketUtil = (totalInBucket > 0) ? (double) busyInBucket / totalInBucket : 0.0;
+            double bucketUtil = (cyclesInBucket > 0) ? (double) busyInBucket / (cyclesInBucket * cpuCount) : 0.0;
             
             // Mapear al gráfico
             int x = p + (int) (i * (double) graphWidth / (numBuckets - 1));
             int y = (height - p) - (int) (bucketUtil * graphHeight);
             
-            graphPoints.add(new Point(x, y));
+            pointsX.add(x);
+            pointsY.add(y);
         }
     }
 
@@ -135,18 +135,16 @@ public class CpuUsageGraphPanel extends JPanel {
         g2d.drawString("0%", p - 30, height - p + 5);
         g2d.drawString("Tiempo (Ciclos)", (width / 2) - 40, height - (p/2) + 10);
 
-        if (graphPoints.size() > 1) {
+        if (pointsX.size() > 1) {
             g2d.setColor(new Color(60, 180, 255)); 
             g2d.setStroke(new BasicStroke(3)); 
 
-            for (int i = 0; i < graphPoints.size() - 1; i++) {
-                Point p1 = graphPoints.get(i);
-                Point p2 = graphPoints.get(i + 1);
-                g2d.drawLine(p1.x, p1.y, p2.x, p2.y);
+            for (int i = 0; i < pointsX.size() - 1; i++) {
+                g2d.drawLine(pointsX.get(i), pointsY.get(i), pointsX.get(i + 1), pointsY.get(i + 1));
             }
             
-            Point lastPoint = graphPoints.get(graphPoints.size() - 1);
-            g2d.fillOval(lastPoint.x - 5, lastPoint.y - 5, 10, 10);
+            int last = pointsX.size() - 1;
+            g2d.fillOval(pointsX.get(last) - 5, pointsY.get(last) - 5, 10, 10);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package simulator.ui;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+
+import simulator.core.Scheduler;
+import simulator.core.SchedulerPhase;
+import simulator.core.SchedulerProfiler;
+import simulator.structures.LatencyHistogram;
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+
+/**
+ * Percentiles de latencia de cada fase del ciclo y del mutex del Scheduler,
+ * tomados de la última copia publicada de sus mediciones.
+ */
+public class LatencyPanel extends JPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Scheduler scheduler;
+    private final JCheckBox enabledCheckBox;
+    private final JLabel summaryLabel;
+    private final DefaultTableModel tableModel;
+    private long lastCapturedAt = -1;
+
+    public LatencyPanel(Scheduler scheduler) {
+        super(new BorderLayout());
+        this.scheduler = scheduler;
+
+        JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        enabledCheckBox = new JCheckBox("Medir latencias", scheduler.isProfiling());
+        enabledCheckBox.addActionListener(e -> scheduler.setProfiling(enabledCheckBox.isSelected()));
+        JButton exportButton = new JButton("Exportar CSV");
+        exportButton.addActionListener(e -> exportDialog());
+        summaryLabel = new JLabel();
+        controlPanel.add(enabledCheckBox);
+        controlPanel.add(exportButton);
+        controlPanel.add(summaryLabel);
+        add(controlPanel, BorderLayout.NORTH);
+
+        String[] columnNames = {"Fase", "Muestras", "p50 (µs)", "p99 (µs)", "p99.9 (µs)", "Máx (µs)", "Media (µs)"};
+        tableModel = new DefaultTableModel(columnNames, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        add(new JScrollPane(new JTable(tableModel)), BorderLayout.CENTER);
+        updateData();
+    }
+
+    /**
+     * Rehace la tabla sólo si el Scheduler publicó mediciones nuevas.
+     */
+    public void updateData() {
+        SchedulerProfiler profile = scheduler.getProfileSnapshot();
+        if (profile == null) {
+            summaryLabel.setText("Sin mediciones");
+            return;
+        }
+        if (profile.getCapturedAt() == lastCapturedAt) {
+            return;
+        }
+        lastCapturedAt = profile.getCapturedAt();
+        summaryLabel.setText(String.format("Medido durante %.1f s", profile.getElapsedNanos() / 1e9));
+        tableModel.setRowCount(0);
+        for (SchedulerPhase phase : SchedulerPhase.values()) {
+            LatencyHistogram histogram = profile.getHistogram(phase);
+            tableModel.addRow(new Object[]{
+                phase.getLabel(),
+                histogram.getCount(),
+                micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMax()),
+                micros(histogram.getMean())
+            });
+        }
+    }
+
+    private static String micros(double nanos) {
+        return String.format("%.2f", nanos / 1e3);
+    }
+
+    private void exportDialog() {
+        SchedulerProfiler profile = scheduler.getProfileSnapshot();
+        if (profile == null) {
+            JOptionPane.showMessageDialog(this, "Active primero la medición de latencias.");
+            return;
+        }
+        JFileChooser fileChooser = new JFileChooser("src/archivos/");
+        fileChooser.setDialogTitle("Exportar Latencias");
+        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            try {
+                String filePath = fileChooser.getSelectedFile().getPath();
+                if (!filePath.endsWith(".csv")) {
+                    filePath += ".csv";
+                }
+                profile.writeCsv(filePath);
+                JOptionPane.showMessageDialog(this, "Latencias exportadas exitosamente.");
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this,
+                    "Error al exportar: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+}
@@ -11,8 +11,8 @@ package simulator.ui;
  */
 
 
-import simulator.structures.CustomList;
-import simulator.core.PCB;
+import simulator.structures.TimeSeries;
+import simulator.core.ProcessRows;
 import simulator.core.Scheduler;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -30,6 +30,7 @@ public class MetricsDisplayGUI extends JFrame {
     private JTable detailedReadyTable;        
     private DefaultTableModel readyTableModel;  
     private TerminatedGraphPanel termGraphPanel;
+    private LatencyPanel latencyPanel;
 
     public MetricsDisplayGUI(String title, String type, SimulationGUI mainGUI) {
         super(title);
@@ -63,6 +64,9 @@ public class MetricsDisplayGUI extends JFrame {
             termGraphPanel = new TerminatedGraphPanel(); 
             tabbedPane.addTab("Procesos Terminados", termGraphPanel);
             
+            latencyPanel = new LatencyPanel(mainGUI.getScheduler());
+            tabbedPane.addTab("Latencias", latencyPanel);
+            
         } else if ("Colas Extendidas".equals(windowType)) {
 
             String[] columnNames = {"ID", "Nombre", "Estado", "PC", "Prioridad", "Memoria", "Inst. Restantes"};
@@ -85,7 +89,8 @@ public class MetricsDisplayGUI extends JFrame {
      */
     public void updateDisplay(Scheduler scheduler) {
         if ("Gráficos".equals(windowType)) {
-            updateCpuUsageGraph(scheduler.getCpuUsageHistory());
+            updateCpuUsageGraph(scheduler.getCpuUsageHistory(), scheduler.getCpuCount());
+            latencyPanel.updateData();
         
         } else if ("Colas Extendidas".equals(windowType)) {
             updateDetailedReadyQueueTable(scheduler.getReadyQueueSnapshot());
@@ -93,35 +98,32 @@ public class MetricsDisplayGUI extends JFrame {
         }
     }
 
-    private void updateCpuUsageGraph(CustomList<Integer> data) {
+    private void updateCpuUsageGraph(TimeSeries data, int cpuCount) {
         if (cpuGraphPanel != null) {
-            cpuGraphPanel.updateData(data); 
+            cpuGraphPanel.updateData(data, cpuCount); 
         }
     }
     
-    private void updateTerminatedGraph(CustomList<Integer> data) {
+    private void updateTerminatedGraph(TimeSeries data) {
         if (termGraphPanel != null) {
             termGraphPanel.updateData(data); 
         }
     }
 
-    private void updateDetailedReadyQueueTable(Object[] data) {
+    private void updateDetailedReadyQueueTable(ProcessRows data) {
         if (readyTableModel != null) {
             readyTableModel.setRowCount(0); 
             
-            for (Object obj : data) {
-                if (obj instanceof PCB) {
-                    PCB p = (PCB) obj;
-                    readyTableModel.addRow(new Object[]{
-                        p.getId(),
-                        p.getName(),
-                        p.getState(),
-                        p.getProgramCounter(),
-                        p.getPriority(),
-                        p.getMemorySize() + " MB",
-                        p.getRemainingInstructions()
-                    });
-                }
+            for (int i = 0; i < data.size(); i++) {
+                readyTableModel.addRow(new Object[]{
+                    data.getId(i),
+                    data.getName(i),
+                    data.getState(i),
+                    data.getProgramCounter(i),
+                    data.getPriority(i),
+                    data.getMemorySize(i) + " MB",
+                    data.getRemainingInstructions(i)
+                });
             }
         }
     }
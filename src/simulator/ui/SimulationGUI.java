@@ -10,17 +10,24 @@ package simulator.ui;
  * @author chalo
  */
 import simulator.io.SimulationConfig;
+import simulator.io.ArrivalSource;
 import simulator.structures.CustomList;
 import simulator.core.SchedulingAlgorithm;
 import simulator.core.ProcessType;
 import simulator.core.PCB;
+import simulator.core.ProcessRows;
 import simulator.core.Scheduler;
+import simulator.core.SchedulerCheckpoint;
+import simulator.core.SchedulerSnapshot;
+import simulator.core.SchedulerStatus;
+import simulator.utils.EventLog;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
 import java.util.Map; 
 
 
@@ -38,6 +45,8 @@ public class SimulationGUI extends JFrame {
     private JLabel algorithmLabel;
     private JTable newQueueTable;
     private JTable readyQueueTable;
+    private JScrollPane readyQueueScroll;
+    private long lastSnapshotVersion = -1;
     private JTable blockedQueueTable;
     private JTable blockedSuspendedQueueTable; 
     private JTable readySuspendedQueueTable;   
@@ -50,6 +59,8 @@ public class SimulationGUI extends JFrame {
     private JButton startButton;
     private JButton stopButton;
     private JButton addProcessButton;
+    private JButton loadTraceButton;
+    private JButton saveCheckpointButton;
     private JButton openGraphsButton;
     private JButton openExtendedQueuesButton;
     private int processCounter = 1;
@@ -78,6 +89,14 @@ public class SimulationGUI extends JFrame {
 
         // Aplicar algoritmo
         algorithmComboBox.setSelectedItem(config.getStartAlgorithm());
+
+        try {
+            EventLog.configure(config.getLogLevel(), config.getLogFile());
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this,
+                "No se pudo abrir el log de eventos; se usará la consola.\n" + e.getMessage(),
+                "Aviso", JOptionPane.WARNING_MESSAGE);
+        }
     }
     
     private void initializeGUI() {
@@ -141,9 +160,9 @@ public class SimulationGUI extends JFrame {
         panel.add(newScroll); // Fila 1, Col 1
 
         readyQueueTable = createProcessTable();
-        JScrollPane readyScroll = new JScrollPane(readyQueueTable);
-        readyScroll.setBorder(BorderFactory.createTitledBorder("Cola de Listos (READY)"));
-        panel.add(readyScroll); // Fila 1, Col 2
+        readyQueueScroll = new JScrollPane(readyQueueTable);
+        readyQueueScroll.setBorder(BorderFactory.createTitledBorder("Cola de Listos (READY)"));
+        panel.add(readyQueueScroll); // Fila 1, Col 2
         
         blockedQueueTable = createProcessTable();
         JScrollPane blockedScroll = new JScrollPane(blockedQueueTable);
@@ -189,10 +208,14 @@ public class SimulationGUI extends JFrame {
         startButton = new JButton("Iniciar");
         stopButton = new JButton("Detener");
         addProcessButton = new JButton("Agregar Proceso");
+        loadTraceButton = new JButton("Cargar Traza");
+        saveCheckpointButton = new JButton("Guardar Checkpoint");
         
         controlPanel.add(startButton);
         controlPanel.add(stopButton);
         controlPanel.add(addProcessButton);
+        controlPanel.add(loadTraceButton);
+        controlPanel.add(saveCheckpointButton);
         openGraphsButton = new JButton("Abrir Gráficos");
         controlPanel.add(openGraphsButton);
 
@@ -290,6 +313,8 @@ public class SimulationGUI extends JFrame {
         });
 
         addProcessButton.addActionListener(e -> addProcessDialog());
+        loadTraceButton.addActionListener(e -> loadTraceDialog());
+        saveCheckpointButton.addActionListener(e -> saveCheckpointDialog());
 
         algorithmComboBox.addActionListener((e) -> {
             SchedulingAlgorithm selected = (SchedulingAlgorithm) algorithmComboBox.getSelectedItem();
@@ -437,28 +462,112 @@ public class SimulationGUI extends JFrame {
         }
     }
     
+    /**
+     * Reproduce una traza de llegadas; sus ciclos cuentan desde el ciclo actual.
+     * Tras restaurar un checkpoint con traza en curso, la continúa donde quedó.
+     */
+    private void loadTraceDialog() {
+        JFileChooser fileChooser = new JFileChooser("src/archivos/");
+        fileChooser.setDialogTitle("Cargar Traza de Llegadas");
+        if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            String filePath = fileChooser.getSelectedFile().getPath();
+            try {
+                ArrivalSource reader = ArrivalSource.open(filePath);
+                boolean resume = scheduler.isArrivalSourcePendingResume();
+                try {
+                    if (resume) {
+                        scheduler.resumeArrivalSource(reader);
+                    } else {
+                        scheduler.setArrivalSource(reader);
+                    }
+                } catch (Exception ex) {
+                    reader.close();
+                    throw ex;
+                }
+                log((resume ? "Traza de llegadas reanudada: " : "Traza de llegadas cargada: ")
+                        + fileChooser.getSelectedFile().getName());
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this,
+                    "Error al cargar la traza: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+    
+    /**
+     * Copia el estado en el ciclo actual (la simulación sigue corriendo) y lo
+     * escribe en un hilo aparte para no congelar la interfaz.
+     */
+    private void saveCheckpointDialog() {
+        JFileChooser fileChooser = new JFileChooser("src/archivos/");
+        fileChooser.setDialogTitle("Guardar Checkpoint");
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        String path = fileChooser.getSelectedFile().getPath();
+        String filePath = path.endsWith(".ckpt") ? path : path + ".ckpt";
+        SchedulerCheckpoint checkpoint = scheduler.checkpoint();
+        saveCheckpointButton.setEnabled(false);
+        Thread writer = new Thread(() -> {
+            try {
+                checkpoint.write(filePath);
+                log("Checkpoint del ciclo " + checkpoint.getGlobalCycle() + " guardado en " + filePath);
+            } catch (Exception ex) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this,
+                    "Error al guardar el checkpoint: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            } finally {
+                SwingUtilities.invokeLater(() -> saveCheckpointButton.setEnabled(true));
+            }
+        }, "Checkpoint-Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
     private void updateGUI() {
         SwingUtilities.invokeLater(() -> {
             
-            long cycle = scheduler.getGlobalCycleSnapshot();
-            PCB p = scheduler.getCurrentProcessSnapshot();
+            // Una sola lectura de la instantánea: todo lo que se muestra es
+            // del mismo ciclo y no se toma el mutex del Scheduler.
+            SchedulerSnapshot snapshot = scheduler.getSnapshot();
+            SchedulerStatus status = snapshot.getStatus();
+            long cycle = status.getGlobalCycle();
+            int[] runningIds = status.getRunningIds();
+            String[] runningNames = status.getRunningNames();
+            boolean[] idle = status.getCpuIdle();
             boolean osRunning = scheduler.getIsOperatingSystemRunningSnapshot();
-            SchedulingAlgorithm alg = scheduler.getAlgorithmSnapshot();
-            Map<String, Double> metrics = scheduler.getPerformanceMetricsSnapshot();
-            
-            boolean cpuIdle = scheduler.getIsCpuIdleSnapshot();
+            SchedulingAlgorithm alg = status.getAlgorithm();
+            Map<String, Double> metrics = scheduler.getPerformanceMetrics(snapshot);
             
             currentCycleLabel.setText(String.valueOf(cycle));
-            currentProcessLabel.setText(p != null ? p.getName() + " (ID: " + p.getId() + ")" : "Ninguno");
-            cpuStateLabel.setText(cpuIdle ? "Modo Kernel" : "Modo Usuario");
+            StringBuilder processText = new StringBuilder();
+            StringBuilder cpuText = new StringBuilder();
+            for (int i = 0; i < runningIds.length; i++) {
+                if (i > 0) {
+                    processText.append(" | ");
+                    cpuText.append(" | ");
+                }
+                if (runningIds.length > 1) {
+                    processText.append("CPU").append(i).append(": ");
+                    cpuText.append("CPU").append(i).append(": ");
+                }
+                processText.append(runningIds[i] >= 0
+                        ? runningNames[i] + " (ID: " + runningIds[i] + ")" : "Ninguno");
+                cpuText.append(idle[i] ? "Modo Kernel" : "Modo Usuario");
+            }
+            currentProcessLabel.setText(processText.toString());
+            cpuStateLabel.setText(cpuText.toString());
             algorithmLabel.setText(alg.toString());
           
-            updateTableFromCustomList(newQueueTable, scheduler.getNewQueueSnapshot());
-            updateTable(readyQueueTable, scheduler.getReadyQueueSnapshot());
-            updateTableFromCustomList(blockedQueueTable, scheduler.getBlockedQueueSnapshot());
-            updateTableFromCustomList(blockedSuspendedQueueTable, scheduler.getBlockedSuspendedQueueSnapshot());
-            updateTableFromCustomList(readySuspendedQueueTable, scheduler.getReadySuspendedQueueSnapshot());
-            updateTableFromCustomList(terminatedTable, scheduler.getTerminatedQueueSnapshot());
+            // Las tablas sólo se rehacen si se publicó una versión nueva
+            if (snapshot.getVersion() != lastSnapshotVersion) {
+                lastSnapshotVersion = snapshot.getVersion();
+                updateTable(newQueueTable, snapshot.getNewQueue());
+                updateTable(readyQueueTable, snapshot.getReadyQueue());
+                updateReadyQueueTitle(snapshot.getMlfqLevelSizes());
+                updateTable(blockedQueueTable, snapshot.getBlockedQueue());
+                updateTable(blockedSuspendedQueueTable, snapshot.getBlockedSuspendedQueue());
+                updateTable(readySuspendedQueueTable, snapshot.getReadySuspendedQueue());
+                updateTable(terminatedTable, snapshot.getTerminatedQueue());
+            }
             
             if (osRunning) {
                 for (int i = 0; i < activeMetricsWindows.size(); i++) {
@@ -476,33 +585,31 @@ public class SimulationGUI extends JFrame {
         });
     }
     
-    private void updateTableFromCustomList(JTable table, CustomList<PCB> processList) {
-        DefaultTableModel model = (DefaultTableModel) table.getModel();
-        model.setRowCount(0);
-        
-        for (int i = 0; i < processList.size(); i++) {
-        PCB p = processList.get(i);
-        model.addRow(new Object[]{
-            p.getId(), p.getName(), p.getState(), p.getProgramCounter(),
-            p.getMAR(), p.getRemainingInstructions(), p.getType(),
-            p.getPriority(), p.getMemorySize()
-        });
-    }
+    /**
+     * Con MLFQ el título de la cola de listos muestra cuántos procesos hay en cada nivel.
+     */
+    private void updateReadyQueueTitle(int[] levelSizes) {
+        StringBuilder title = new StringBuilder("Cola de Listos (READY)");
+        if (levelSizes.length > 0) {
+            title.append(" - Niveles:");
+            for (int i = 0; i < levelSizes.length; i++) {
+                title.append(" N").append(i).append("=").append(levelSizes[i]);
+            }
+        }
+        ((javax.swing.border.TitledBorder) readyQueueScroll.getBorder()).setTitle(title.toString());
+        readyQueueScroll.repaint();
     }
     
-    private void updateTable(JTable table, Object[] processes) {
+    private void updateTable(JTable table, ProcessRows processes) {
         DefaultTableModel model = (DefaultTableModel) table.getModel();
         model.setRowCount(0);
 
-        for (Object obj : processes) {
-            if (obj instanceof PCB) {
-                PCB p = (PCB) obj;
-                model.addRow(new Object[]{
-                    p.getId(), p.getName(), p.getState(), p.getProgramCounter(),
-                    p.getMAR(), p.getRemainingInstructions(), p.getType(),
-                    p.getPriority(), p.getMemorySize()
-                });
-            }
+        for (int i = 0; i < processes.size(); i++) {
+            model.addRow(new Object[]{
+                processes.getId(i), processes.getName(i), processes.getState(i), processes.getProgramCounter(i),
+                processes.getMAR(i), processes.getRemainingInstructions(i), processes.getType(i),
+                processes.getPriority(i), processes.getMemorySize(i)
+            });
         }
     }
     
@@ -553,6 +660,10 @@ public class SimulationGUI extends JFrame {
         });
     }
     
+    Scheduler getScheduler() {
+        return scheduler;
+    }
+    
     public void removeMetricsWindow(MetricsDisplayGUI window) {
         activeMetricsWindows.remove(window);
     }
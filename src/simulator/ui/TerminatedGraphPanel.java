@@ -11,7 +11,7 @@ package simulator.ui;
  */
 
 
-import simulator.structures.CustomList;
+import simulator.structures.TimeSeries;
 import javax.swing.JPanel;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -21,23 +21,19 @@ import java.awt.RenderingHints;
 
 public class TerminatedGraphPanel extends JPanel {
 
-    private CustomList<Integer> terminatedHistory;
-    private int totalTerminated = 0;
-    private int totalCycles = 0;
+    private TimeSeries terminatedHistory;
+    private long totalTerminated = 0;
+    private long totalCycles = 0;
 
     public TerminatedGraphPanel() {
-        this.terminatedHistory = new CustomList<>();
+        this.terminatedHistory = new TimeSeries(1);
         setBackground(Color.DARK_GRAY);
     }
 
-    public void updateData(CustomList<Integer> data) {
+    public void updateData(TimeSeries data) {
         this.terminatedHistory = data;
-        this.totalCycles = data.size();
-        if (totalCycles > 0) {
-            this.totalTerminated = data.get(totalCycles - 1);
-        } else {
-            this.totalTerminated = 0;
-        }
+        this.totalCycles = data.getCount();
+        this.totalTerminated = data.getLast();
         this.repaint();
     }
 
@@ -68,17 +64,23 @@ public class TerminatedGraphPanel extends JPanel {
         g2d.drawLine(p, height - p, width - p, height - p); 
 
         // el gráfico
-        if (totalCycles > 0) {
+        int level = terminatedHistory.getCoveringLevel();
+        int totalPoints = terminatedHistory.size(level);
+        if (totalPoints > 0) {
             g2d.setColor(Color.CYAN);
 
-            int yMax = Math.max(5, totalTerminated); 
+            long yMax = Math.max(5, totalTerminated); 
 
             int lastX = p;
             int lastY = height - p;
 
-            for (int i = 0; i < totalCycles; i++) {
-                int x = p + (int) (i * (double) (width - p*2) / totalCycles);
-                int y = (height - p) - (int) (terminatedHistory.get(i) * (double) (height - p*2) / yMax);
+            // Como mucho un punto por píxel, aunque la serie tenga más
+            int graphWidth = Math.max(1, width - p*2);
+            int steps = Math.min(totalPoints, graphWidth);
+            for (int step = 0; step < steps; step++) {
+                int i = (int) ((long) step * totalPoints / steps);
+                int x = p + (int) (i * (double) (width - p*2) / totalPoints);
+                int y = (height - p) - (int) (terminatedHistory.get(level, i) * (height - p*2) / yMax);
 
                 g2d.drawLine(lastX, lastY, x, lastY); 
                 g2d.drawLine(x, lastY, x, y);
@@ -0,0 +1,371 @@
+package simulator.utils;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registro de eventos del simulador. Cada registro tiene formato fijo (ciclo,
+ * nivel, tipo, id y nombre del proceso y dos argumentos enteros) y se guarda
+ * en un búfer circular reservado de antemano, sin armar cadenas ni escribir
+ * en la consola desde el hilo que lo emite. Un hilo aparte vacía el búfer en
+ * la consola o en un archivo CSV separado por ';'.
+ *
+ * Un registro por debajo del nivel configurado sólo cuesta una lectura
+ * volátil; con Level.OFF no se registra nada. Si el búfer se llena, los
+ * registros nuevos se descartan (y se cuentan) en lugar de frenar la
+ * simulación.
+ */
+public final class EventLog {
+
+    public enum Level {
+        OFF,    // No registra nada
+        ERROR,  // Errores
+        WARN,   // Situaciones anómalas que no detienen la simulación
+        INFO,   // Decisiones de los planificadores (admisión, suspensión, fin)
+        DEBUG   // Detalle por instrucción (excepciones de E/S)
+    }
+
+    /**
+     * Tipo de registro. Los argumentos enteros dependen del tipo.
+     */
+    public enum Kind {
+        MESSAGE,            // Texto libre (sin proceso ni argumentos)
+        ADMITTED,           // LTS: NEW a READY; memoria usada, memoria total
+        SUSPENDED,          // MTS: BLOCKED a BLOCKED_SUSPENDED; memoria usada, memoria total
+        RESUMED,            // MTS: READY_SUSPENDED a READY; memoria usada, memoria total
+        TERMINATED,         // Fin de un proceso; memoria usada, memoria total
+        IO_REQUEST,         // Un proceso IO_BOUND genera una excepción de E/S; PC
+        IO_DONE_SUSPENDED   // Termina la E/S de un proceso suspendido
+    }
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int MASK = CAPACITY - 1;
+    private static final long FLUSH_MILLIS = 100;
+    private static final String DELIMITER = ";";
+    private static final Level[] LEVELS = Level.values();
+    private static final Kind[] KINDS = Kind.values();
+
+    // Búfer circular: los registros [tail, head) están pendientes
+    private static final long[] cycles = new long[CAPACITY];
+    private static final byte[] levels = new byte[CAPACITY];
+    private static final byte[] kinds = new byte[CAPACITY];
+    private static final int[] processIds = new int[CAPACITY];
+    private static final int[] args1 = new int[CAPACITY];
+    private static final int[] args2 = new int[CAPACITY];
+    private static final String[] texts = new String[CAPACITY];
+    private static long head;
+    private static long tail;
+    private static long written;
+    private static long dropped;
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Condition pending = lock.newCondition();
+    private static final Condition drained = lock.newCondition();
+    private static volatile int threshold = Level.INFO.ordinal();
+
+    // Destino; sólo lo usa el hilo escritor mientras tiene sinkMonitor
+    private static final Object sinkMonitor = new Object();
+    private static BufferedWriter file;
+    private static String filePath;
+    private static Thread writer;
+
+    private EventLog() {
+    }
+
+    /**
+     * Cambia el nivel y el destino. Los registros pendientes se escriben antes
+     * en el destino anterior.
+     * @param level nivel mínimo que se registra
+     * @param path archivo CSV, o null para la consola
+     */
+    public static void configure(Level level, String path) throws IOException {
+        flush();
+        synchronized (sinkMonitor) {
+            BufferedWriter opened = null;
+            if (path != null) {
+                opened = new BufferedWriter(new FileWriter(path));
+                opened.write(String.join(DELIMITER, "cycle", "level", "event", "processId", "process",
+                        "arg1", "arg2", "message"));
+                opened.newLine();
+            }
+            closeFile();
+            file = opened;
+            filePath = path;
+        }
+        threshold = level.ordinal();
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    public static Level getLevel() {
+        return LEVELS[threshold];
+    }
+
+    /**
+     * Archivo de destino, o null si se escribe en la consola.
+     */
+    public static String getFilePath() {
+        synchronized (sinkMonitor) {
+            return filePath;
+        }
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() <= threshold;
+    }
+
+    /**
+     * Registra un evento de un proceso. No reserva memoria: el nombre es la
+     * misma cadena que guarda la tabla de procesos.
+     */
+    public static void record(Level level, Kind kind, long cycle, int processId, String processName,
+            int arg1, int arg2) {
+        if (level == Level.OFF || level.ordinal() > threshold) {
+            return;
+        }
+        append(level, kind, cycle, processId, processName, arg1, arg2);
+    }
+
+    /**
+     * Registra un mensaje de texto libre. Para mensajes que se arman con
+     * concatenación, conviene comprobar antes isEnabled.
+     * @param cycle ciclo global, o -1 si no aplica
+     */
+    public static void message(Level level, long cycle, String text) {
+        if (level == Level.OFF || level.ordinal() > threshold) {
+            return;
+        }
+        append(level, Kind.MESSAGE, cycle, -1, text, 0, 0);
+    }
+
+    private static void append(Level level, Kind kind, long cycle, int processId, String text,
+            int arg1, int arg2) {
+        lock.lock();
+        try {
+            if (writer == null) {
+                startWriter();
+            }
+            if (head - tail == CAPACITY) {
+                dropped++;
+                return;
+            }
+            int i = (int) (head & MASK);
+            cycles[i] = cycle;
+            levels[i] = (byte) level.ordinal();
+            kinds[i] = (byte) kind.ordinal();
+            processIds[i] = processId;
+            args1[i] = arg1;
+            args2[i] = arg2;
+            texts[i] = text;
+            head++;
+            if (head - tail == CAPACITY / 2) {
+                pending.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera a que todo lo registrado hasta ahora esté escrito.
+     */
+    public static void flush() {
+        lock.lock();
+        try {
+            long target = head;
+            while (written < target && writer != null && writer.isAlive()) {
+                pending.signal();
+                drained.await(FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Escribe lo pendiente y cierra el archivo; los registros siguientes van a
+     * la consola.
+     */
+    public static void close() {
+        flush();
+        synchronized (sinkMonitor) {
+            closeFile();
+            filePath = null;
+        }
+    }
+
+    private static void closeFile() {
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                System.err.println("Error cerrando el log de eventos: " + e.getMessage());
+            }
+            file = null;
+        }
+    }
+
+    /**
+     * Debe llamarse con lock tomado.
+     */
+    private static void startWriter() {
+        writer = new Thread(EventLog::drainLoop, "EventLog-Writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(EventLog::close, "EventLog-Shutdown"));
+    }
+
+    /**
+     * Hilo escritor: cada FLUSH_MILLIS (o antes si el búfer llega a la mitad)
+     * copia los registros pendientes y los escribe sin tomar lock, así que
+     * quien registra sólo espera mientras se copian los arreglos.
+     */
+    private static void drainLoop() {
+        long[] batchCycles = new long[CAPACITY];
+        byte[] batchLevels = new byte[CAPACITY];
+        byte[] batchKinds = new byte[CAPACITY];
+        int[] batchIds = new int[CAPACITY];
+        int[] batchArgs1 = new int[CAPACITY];
+        int[] batchArgs2 = new int[CAPACITY];
+        String[] batchTexts = new String[CAPACITY];
+        StringBuilder line = new StringBuilder(128);
+        while (true) {
+            int count;
+            long end;
+            long lost;
+            lock.lock();
+            try {
+                while (head == tail && dropped == 0) {
+                    pending.await(FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                count = (int) (head - tail);
+                for (int n = 0; n < count; n++) {
+                    int i = (int) ((tail + n) & MASK);
+                    batchCycles[n] = cycles[i];
+                    batchLevels[n] = levels[i];
+                    batchKinds[n] = kinds[i];
+                    batchIds[n] = processIds[i];
+                    batchArgs1[n] = args1[i];
+                    batchArgs2[n] = args2[i];
+                    batchTexts[n] = texts[i];
+                    texts[i] = null;
+                }
+                tail = head;
+                end = head;
+                lost = dropped;
+                dropped = 0;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            synchronized (sinkMonitor) {
+                try {
+                    for (int n = 0; n < count; n++) {
+                        write(line, batchCycles[n], LEVELS[batchLevels[n]], KINDS[batchKinds[n]], batchIds[n],
+                                batchTexts[n], batchArgs1[n], batchArgs2[n]);
+                        batchTexts[n] = null;
+                    }
+                    if (lost > 0) {
+                        write(line, -1, Level.WARN, Kind.MESSAGE, -1,
+                                lost + " registros del log descartados (búfer lleno)", 0, 0);
+                    }
+                    if (file != null) {
+                        file.flush();
+                    }
+                } catch (IOException e) {
+                    System.err.println("Error escribiendo el log de eventos: " + e.getMessage());
+                    closeFile();
+                    filePath = null;
+                }
+            }
+
+            lock.lock();
+            try {
+                written = end;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static void write(StringBuilder line, long cycle, Level level, Kind kind, int processId,
+            String text, int arg1, int arg2) throws IOException {
+        line.setLength(0);
+        if (file != null) {
+            line.append(cycle).append(DELIMITER).append(level.name()).append(DELIMITER).append(kind.name())
+                    .append(DELIMITER);
+            if (kind == Kind.MESSAGE) {
+                line.append(DELIMITER).append(DELIMITER).append(DELIMITER).append(DELIMITER)
+                        .append(sanitize(text));
+            } else {
+                line.append(processId).append(DELIMITER).append(sanitize(text)).append(DELIMITER).append(arg1)
+                        .append(DELIMITER).append(arg2).append(DELIMITER);
+            }
+            file.write(line.toString());
+            file.newLine();
+            return;
+        }
+        if (level == Level.ERROR || level == Level.WARN) {
+            line.append(level.name()).append(": ");
+        }
+        switch (kind) {
+            case ADMITTED:
+                line.append("LTS: Proceso ").append(text).append(" admitido a READY. (Memoria: ")
+                        .append(arg1).append('/').append(arg2).append(')');
+                break;
+            case SUSPENDED:
+                line.append("MTS: Proceso ").append(text).append(" SUSPENDIDO (desde BLOQUEADO). (Memoria: ")
+                        .append(arg1).append('/').append(arg2).append(')');
+                break;
+            case RESUMED:
+                line.append("MTS: Proceso ").append(text).append(" REANUDADO a READY. (Memoria: ")
+                        .append(arg1).append('/').append(arg2).append(')');
+                break;
+            case TERMINATED:
+                line.append("Kernel: Proceso ").append(text).append(" TERMINADO. (Memoria: ")
+                        .append(arg1).append('/').append(arg2).append(')');
+                break;
+            case IO_REQUEST:
+                line.append("Generando excepción para: ").append(text).append(" (IO_BOUND) en PC: ").append(arg1);
+                break;
+            case IO_DONE_SUSPENDED:
+                line.append("Kernel: E/S de ").append(text)
+                        .append(" terminó (en Suspensión). Moviendo a Ready, Suspended.");
+                break;
+            default:
+                line.append(text);
+                break;
+        }
+        PrintStream console = level == Level.ERROR || level == Level.WARN ? System.err : System.out;
+        console.println(line);
+    }
+
+    /**
+     * Quita del texto (mensaje o nombre ingresado desde la GUI) el separador y
+     * los saltos de línea, que romperían la fila del CSV.
+     */
+    private static String sanitize(String text) {
+        return text.replace(DELIMITER, ",").replace('\n', ' ').replace('\r', ' ');
+    }
+}
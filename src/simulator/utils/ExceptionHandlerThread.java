@@ -29,7 +29,7 @@ public class ExceptionHandlerThread extends Thread {
     
     @Override
     public void run() {
-        System.out.println("Hilo de manejo de excepciones iniciado");
+        EventLog.message(EventLog.Level.INFO, -1, "Hilo de manejo de excepciones iniciado");
         
         while (running && !Thread.currentThread().isInterrupted()) {
             try {
@@ -38,23 +38,24 @@ public class ExceptionHandlerThread extends Thread {
                 Thread.sleep(100); 
             
             } catch (InterruptedException e) {
-                System.out.println("Hilo de excepciones interrumpido");
+                EventLog.message(EventLog.Level.INFO, -1, "Hilo de excepciones interrumpido");
                 Thread.currentThread().interrupt();
                 break;
             } catch (Exception e) {
-                System.err.println("Error en hilo de excepciones: " + e.getMessage());
+                EventLog.message(EventLog.Level.ERROR, -1, "Error en hilo de excepciones: " + e.getMessage());
             }
         }
         
-        System.out.println("Hilo de manejo de excepciones terminado");
+        EventLog.message(EventLog.Level.INFO, -1, "Hilo de manejo de excepciones terminado");
     }
     
     private void monitorBlockedProcesses() {
-        if (scheduler != null) {
+        if (scheduler != null && EventLog.isEnabled(EventLog.Level.WARN)) {
             int blockedCount = scheduler.getBlockedQueueSnapshot().size();
             
             if (blockedCount > 5) {
-                System.out.println("Advertencia: " + blockedCount + " procesos en cola de bloqueados");
+                EventLog.message(EventLog.Level.WARN, scheduler.getGlobalCycleSnapshot(),
+                        blockedCount + " procesos en cola de bloqueados");
             }
         }
     }
@@ -0,0 +1,99 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/UnitTest.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import simulator.io.SimulationConfig;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * El modo por eventos debe dar los mismos resultados que el modo por ticks:
+ * mismos ciclos, mismos tiempos por proceso y mismas métricas, para cada
+ * algoritmo, varias semillas y con una o varias CPU.
+ */
+public class EventDrivenEquivalenceTest {
+    private static final int PROCESS_COUNT = 60;
+    private static final long[] SEEDS = {1, 2, 3};
+
+    @Test
+    public void singleCpuMatchesTickMode() {
+        checkAllAlgorithms(1, false);
+    }
+
+    @Test
+    public void sharedQueueMultiCpuMatchesTickMode() {
+        checkAllAlgorithms(4, false);
+    }
+
+    @Test
+    public void perCoreQueuesMatchTickMode() {
+        checkAllAlgorithms(4, true);
+    }
+
+    private void checkAllAlgorithms(int cpuCount, boolean perCoreQueues) {
+        for (SchedulingAlgorithm algorithm : SchedulingAlgorithm.values()) {
+            for (long seed : SEEDS) {
+                String tick = run(algorithm, seed, cpuCount, perCoreQueues, false);
+                String events = run(algorithm, seed, cpuCount, perCoreQueues, true);
+                assertEquals(algorithm + " semilla " + seed + " con " + cpuCount + " CPU", tick, events);
+            }
+        }
+    }
+
+    /**
+     * Corre una carga aleatoria hasta que terminan todos los procesos.
+     * @return resumen comparable de la corrida
+     */
+    private static String run(SchedulingAlgorithm algorithm, long seed, int cpuCount,
+            boolean perCoreQueues, boolean eventDriven) {
+        SimulationConfig config = new SimulationConfig(1024, algorithm, 0);
+        config.setCpuCount(cpuCount);
+        config.setPerCoreQueues(perCoreQueues);
+        Scheduler scheduler = new Scheduler(config);
+        scheduler.setEventDriven(eventDriven);
+
+        Random random = new Random(seed);
+        List<PCB> processes = new ArrayList<>();
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            boolean ioBound = random.nextBoolean();
+            PCB process = new PCB("P" + i,
+                    ioBound ? ProcessType.IO_BOUND : ProcessType.CPU_BOUND,
+                    5 + random.nextInt(300),
+                    ioBound ? 2 + random.nextInt(20) : 0,
+                    ioBound ? 1 + random.nextInt(50) : 0,
+                    1 + random.nextInt(3),
+                    16 * (1 + random.nextInt(16)),
+                    scheduler);
+            processes.add(process);
+            scheduler.addProcessAt(process, random.nextInt(2000));
+        }
+
+        long cycles = scheduler.runHeadless(0);
+        StringBuilder summary = new StringBuilder("ciclos=").append(cycles).append('\n');
+        for (PCB process : processes) {
+            summary.append(process.getName())
+                    .append(" espera=").append(process.getWaitingTime())
+                    .append(" respuesta=").append(process.getResponseTime())
+                    .append(" retorno=").append(process.getTurnaroundTime())
+                    .append(" estado=").append(process.getState())
+                    .append('\n');
+        }
+        // Throughput depende del reloj de pared, no de la simulación
+        Map<String, Double> metrics = new TreeMap<>(scheduler.getPerformanceMetricsSnapshot());
+        metrics.remove("Throughput");
+        summary.append(metrics);
+        return summary.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package simulator.core;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/UnitTest.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.Test;
+import simulator.io.SimulationConfig;
+import simulator.io.WorkloadGenerator;
+import simulator.io.WorkloadProfile;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Guardar un checkpoint, leerlo de disco, restaurarlo y seguir debe terminar
+ * igual que la corrida sin interrumpir, y el planificador original debe poder
+ * seguir como si no se hubiera guardado nada.
+ */
+public class SchedulerCheckpointTest {
+    private static final long[] SPLIT_CYCLES = {1, 37, 400, 1200, 2100};
+
+    @Test
+    public void tickModeResumesLikeUninterruptedRun() throws IOException {
+        checkAllAlgorithms(1, false, false);
+    }
+
+    @Test
+    public void eventDrivenModeResumesLikeUninterruptedRun() throws IOException {
+        checkAllAlgorithms(1, false, true);
+    }
+
+    @Test
+    public void perCoreQueuesResumeLikeUninterruptedRun() throws IOException {
+        checkAllAlgorithms(4, true, true);
+    }
+
+    private void checkAllAlgorithms(int cpuCount, boolean perCoreQueues, boolean eventDriven) throws IOException {
+        File file = File.createTempFile("scheduler", ".ckpt");
+        try {
+            for (SchedulingAlgorithm algorithm : SchedulingAlgorithm.values()) {
+                Scheduler uninterrupted = build(algorithm, cpuCount, perCoreQueues, eventDriven);
+                uninterrupted.runHeadless(0);
+                String expected = summarize(uninterrupted);
+
+                for (long split : SPLIT_CYCLES) {
+                    String context = algorithm + " con " + cpuCount + " CPU, checkpoint en el ciclo " + split;
+                    Scheduler original = build(algorithm, cpuCount, perCoreQueues, eventDriven);
+                    original.runHeadless(split);
+                    original.checkpoint().write(file.getPath());
+                    original.runHeadless(0);
+                    assertEquals(context + " (original)", expected, summarize(original));
+
+                    Scheduler restored = Scheduler.restore(SchedulerCheckpoint.read(file.getPath()));
+                    if (restored.isArrivalSourcePendingResume()) {
+                        restored.resumeArrivalSource(new WorkloadGenerator(profile()));
+                    }
+                    restored.runHeadless(0);
+                    assertEquals(context + " (restaurado)", expected, summarize(restored));
+                }
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Procesos fijos más llegadas de un generador, con E/S en dos dispositivos.
+     */
+    private static Scheduler build(SchedulingAlgorithm algorithm, int cpuCount,
+            boolean perCoreQueues, boolean eventDriven) {
+        SimulationConfig config = new SimulationConfig(1024, algorithm, 0);
+        config.setCpuCount(cpuCount);
+        config.setPerCoreQueues(perCoreQueues);
+        config.setIoDeviceCount(2);
+        config.setTimeQuantum(3);
+        Scheduler scheduler = new Scheduler(config);
+        scheduler.setEventDriven(eventDriven);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 60; i++) {
+            boolean ioBound = random.nextBoolean();
+            PCB process = new PCB("P" + i,
+                    ioBound ? ProcessType.IO_BOUND : ProcessType.CPU_BOUND,
+                    5 + random.nextInt(300),
+                    ioBound ? 2 + random.nextInt(20) : 0,
+                    ioBound ? 1 + random.nextInt(50) : 0,
+                    1 + random.nextInt(3),
+                    16 * (1 + random.nextInt(16)),
+                    scheduler);
+            scheduler.addProcessAt(process, random.nextInt(2000));
+        }
+        scheduler.setArrivalSource(new WorkloadGenerator(profile()));
+        return scheduler;
+    }
+
+    private static WorkloadProfile profile() {
+        WorkloadProfile profile = new WorkloadProfile();
+        profile.setSeed(5);
+        profile.setProcessCount(300);
+        profile.setArrivalRate(0.15);
+        profile.setMemoryRange(16, 256);
+        return profile;
+    }
+
+    /**
+     * Estado final comparable: cada proceso de la tabla, métricas y
+     * dispositivos de E/S.
+     */
+    private static String summarize(Scheduler scheduler) {
+        StringBuilder summary = new StringBuilder("fin=").append(scheduler.getGlobalCycleSnapshot()).append('\n');
+        ProcessTable table = scheduler.getProcessTable();
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            if (table.isLive(slot)) {
+                summary.append(table.getId(slot)).append(' ').append(table.getName(slot))
+                        .append(' ').append(table.getState(slot))
+                        .append(" espera=").append(table.getWaitingTime(slot))
+                        .append(" respuesta=").append(table.getResponseTime(slot))
+                        .append(" retorno=").append(table.getTurnaroundTime(slot))
+                        .append(" pc=").append(table.getProgramCounter(slot))
+                        .append('\n');
+            }
+        }
+        // Throughput depende del reloj de pared, no de la simulación
+        Map<String, Double> metrics = new TreeMap<>(scheduler.getPerformanceMetricsSnapshot());
+        metrics.remove("Throughput");
+        summary.append(metrics).append(" terminados=").append(scheduler.getCompletedProcessCount());
+        for (int i = 0; i < scheduler.getIOSubsystem().getDeviceCount(); i++) {
+            IODevice device = scheduler.getIOSubsystem().getDevice(i);
+            summary.append(" d").append(i).append('=').append(device.getCompletedOperations())
+                    .append('/').append(device.getBusyCycles());
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/UnitTest.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.Random;
+import org.junit.Test;
+import simulator.core.ProcessTable;
+import simulator.core.ProcessType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * HrrnQueue debe devolver siempre el proceso con mayor razón de respuesta
+ * aunque el tiempo de espera crezca con cada ciclo; se compara con un
+ * recorrido completo de la cola.
+ */
+public class HrrnQueueTest {
+    private static final int PROCESSES = 500;
+    private static final int CYCLES = 5_000;
+
+    @Test
+    public void extractMatchesFullScanAsWaitingTimeGrows() {
+        for (int distinct : new int[]{1, 8, 64}) {
+            ProcessTable table = new ProcessTable(PROCESSES);
+            int[] workload = createWorkload(table, distinct);
+            HrrnQueue queue = new HrrnQueue(table);
+            for (int process : workload) {
+                queue.insert(process);
+            }
+            for (long cycle = 1; cycle <= CYCLES; cycle++) {
+                queue.setCurrentCycle(cycle);
+                int expected = workload[bestByScan(table, workload, workload.length, cycle)];
+                int actual = queue.extract();
+                assertEquals("ciclo " + cycle + " con " + distinct + " tiempos distintos",
+                        table.getName(expected), table.getName(actual));
+                requeue(table, actual, cycle);
+                queue.insert(actual);
+            }
+        }
+    }
+
+    @Test
+    public void removeKeepsTheRestInOrder() {
+        ProcessTable table = new ProcessTable(PROCESSES);
+        int[] workload = createWorkload(table, 64);
+        HrrnQueue queue = new HrrnQueue(table);
+        for (int process : workload) {
+            queue.insert(process);
+        }
+        Random random = new Random(7);
+        int[] remaining = workload.clone();
+        int size = remaining.length;
+        for (long cycle = 1; size > 0; cycle++) {
+            queue.setCurrentCycle(cycle);
+            int victim = random.nextInt(size);
+            int removed = remaining[victim];
+            assertTrue(queue.remove(removed));
+            assertFalse(queue.contains(removed));
+            remaining[victim] = remaining[--size];
+            if (size == 0) {
+                break;
+            }
+            int expected = remaining[bestByScan(table, remaining, size, cycle)];
+            assertEquals("ciclo " + cycle, table.getName(expected), table.getName(queue.peek()));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * @return slots de los procesos creados en la tabla
+     */
+    private static int[] createWorkload(ProcessTable table, int distinct) {
+        Random random = new Random(42);
+        int[] workload = new int[PROCESSES];
+        for (int i = 0; i < PROCESSES; i++) {
+            int serviceTime = 1 + random.nextInt(distinct) * 1000 / distinct;
+            workload[i] = table.allocate("P" + i, ProcessType.CPU_BOUND, serviceTime, 0, 0, 1, 1);
+            table.setWaitingTime(workload[i], random.nextInt(100));
+            table.setLastReadyQueueTime(workload[i], 0);
+        }
+        return workload;
+    }
+
+    /**
+     * Simula que el proceso se ejecutó y vuelve a la cola en este ciclo.
+     */
+    private static void requeue(ProcessTable table, int process, long cycle) {
+        table.setWaitingTime(process, table.getWaitingTime(process) + cycle - table.getLastReadyQueueTime(process));
+        table.setLastReadyQueueTime(process, cycle);
+    }
+
+    /**
+     * Mayor razón de respuesta por recorrido completo; empata el id menor.
+     * @return índice en processes
+     */
+    private static int bestByScan(ProcessTable table, int[] processes, int size, long cycle) {
+        int best = -1;
+        double bestRatio = 0;
+        for (int i = 0; i < size; i++) {
+            int p = processes[i];
+            double s = Math.max(1, table.getTotalInstructions(p));
+            double ratio = (table.getWaitingTime(p) + Math.max(0, cycle - table.getLastReadyQueueTime(p)) + s) / s;
+            if (best < 0 || ratio > bestRatio
+                    || (ratio == bestRatio && table.getId(p) < table.getId(processes[best]))) {
+                best = i;
+                bestRatio = ratio;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,134 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/UnitTest.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compara cada nivel de la TimeSeries con las sumas calculadas a mano sobre
+ * todos los valores agregados, también en instantáneas tomadas antes de que
+ * el escritor siguiera agregando y reciclando bloques.
+ */
+public class TimeSeriesTest {
+    private static final int CHUNK_SIZE = 256;
+
+    @Test
+    public void heldSnapshotsKeepTheirValues() {
+        Random random = new Random(1);
+        for (int retention : new int[]{1, 300, 1000}) {
+            int total = 60_000;
+            long[] values = new long[total];
+            TimeSeries series = new TimeSeries(retention);
+            List<TimeSeries> held = new ArrayList<>();
+            List<Integer> heldCounts = new ArrayList<>();
+            for (int n = 0; n < total; n++) {
+                values[n] = random.nextInt(10);
+                series.add(values[n]);
+                if (random.nextInt(3) == 0) {
+                    held.add(series.snapshot());
+                    heldCounts.add(n + 1);
+                }
+                if (held.size() > 50) {
+                    int victim = random.nextInt(held.size());
+                    held.remove(victim);
+                    heldCounts.remove(victim);
+                }
+                if (random.nextInt(2000) == 0) {
+                    for (int i = 0; i < held.size(); i++) {
+                        check(held.get(i), values, heldCounts.get(i), retention);
+                    }
+                }
+            }
+            for (int i = 0; i < held.size(); i++) {
+                check(held.get(i), values, heldCounts.get(i), retention);
+            }
+            check(series, values, total, retention);
+            assertEquals(values[total - 1], series.getLast());
+        }
+    }
+
+    @Test
+    public void snapshotWithoutNewValuesIsReused() {
+        TimeSeries series = new TimeSeries(100);
+        series.add(3);
+        TimeSeries first = series.snapshot();
+        assertSame(first, series.snapshot());
+        series.add(4);
+        TimeSeries second = series.snapshot();
+        assertEquals(1, first.getCount());
+        assertEquals(2, second.getCount());
+        assertEquals(7, second.getTotal());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotIsReadOnly() {
+        TimeSeries series = new TimeSeries(100);
+        series.add(1);
+        series.snapshot().add(2);
+    }
+
+    @Test
+    public void clearKeepsTakenSnapshots() {
+        TimeSeries series = new TimeSeries(100);
+        for (int i = 0; i < 1000; i++) {
+            series.add(i);
+        }
+        TimeSeries before = series.snapshot();
+        series.clear();
+        assertTrue(series.isEmpty());
+        assertEquals(0, series.size(0));
+        series.add(5);
+        assertEquals(5, series.sum(0, 0, 1));
+        assertEquals(999 * 1000 / 2, before.getTotal());
+        assertEquals(999, before.sum(0, before.size(0) - 1, before.size(0)));
+    }
+
+    @Test
+    public void coveringLevelHoldsTheWholeHistory() {
+        TimeSeries series = new TimeSeries(300);
+        for (int i = 0; i < 512; i++) {
+            series.add(1);
+        }
+        assertEquals(0, series.getCoveringLevel());
+        series.add(1);
+        assertEquals(1, series.getCoveringLevel());
+        assertEquals(0, series.getStartCycle(1, 0));
+        assertEquals(1.0, series.get(1, 4), 0.0);
+    }
+
+    /**
+     * Comprueba tamaño y suma de cada punto de los tres niveles (1, 100 y
+     * 10 000 ciclos por punto) tras agregar count valores.
+     */
+    private static void check(TimeSeries series, long[] values, int count, int retention) {
+        long capacity = (long) (retention + CHUNK_SIZE - 1) / CHUNK_SIZE * CHUNK_SIZE;
+        for (int level = 0; level < series.getLevelCount(); level++) {
+            int resolution = series.getResolution(level);
+            long points = count / resolution;
+            int size = series.size(level);
+            assertEquals("tamaño del nivel " + level, Math.min(points, capacity), size);
+            long first = points - size;
+            for (int i = 0; i < size; i++) {
+                long sum = 0;
+                for (long k = (first + i) * resolution; k < (first + i + 1) * resolution; k++) {
+                    sum += values[(int) k];
+                }
+                assertEquals("nivel " + level + " punto " + i + " tras " + count + " valores",
+                        sum, series.sum(level, i, i + 1));
+            }
+        }
+    }
+}
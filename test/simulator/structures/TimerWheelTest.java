@@ -0,0 +1,210 @@
+package simulator.structures;
+
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/UnitTest.java to edit this template
+ */
+
+/**
+ *
+ * @author chalo
+ */
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import simulator.core.SimulationEvent;
+import simulator.core.SimulationEventType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compara la TimerWheel con una lista ordenada ingenua: los eventos salen por
+ * ciclo y, dentro de un mismo ciclo, en el orden en que se programaron; los
+ * programados en un ciclo ya pasado salen en el próximo avance.
+ */
+public class TimerWheelTest {
+
+    /**
+     * Evento del modelo: sale en el ciclo efectivo (el suyo, o el actual si
+     * ya pasó) y los empates se resuelven por orden de programación.
+     */
+    private static final class Entry {
+        final SimulationEvent event;
+        final long effectiveCycle;
+        final long sequence;
+
+        Entry(SimulationEvent event, long effectiveCycle, long sequence) {
+            this.event = event;
+            this.effectiveCycle = effectiveCycle;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class NaiveTimers {
+        final List<Entry> entries = new ArrayList<>();
+        long currentTime;
+        long sequence;
+
+        void schedule(SimulationEvent event) {
+            Entry entry = new Entry(event, Math.max(event.getCycle(), currentTime), sequence++);
+            int index = entries.size();
+            while (index > 0 && entries.get(index - 1).effectiveCycle > entry.effectiveCycle) {
+                index--;
+            }
+            entries.add(index, entry);
+        }
+
+        List<SimulationEvent> advanceTo(long time) {
+            List<SimulationEvent> out = new ArrayList<>();
+            while (!entries.isEmpty() && entries.get(0).effectiveCycle <= time) {
+                SimulationEvent event = entries.remove(0).event;
+                if (!event.isCancelled()) {
+                    out.add(event);
+                }
+            }
+            currentTime = Math.max(currentTime, time);
+            return out;
+        }
+
+        List<SimulationEvent> pending() {
+            List<SimulationEvent> out = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (!entry.event.isCancelled()) {
+                    out.add(entry.event);
+                }
+            }
+            return out;
+        }
+
+        long nextDeadline() {
+            long best = Long.MAX_VALUE;
+            for (Entry entry : entries) {
+                if (!entry.event.isCancelled()) {
+                    best = Math.min(best, entry.event.getCycle());
+                }
+            }
+            return best;
+        }
+    }
+
+    @Test
+    public void sameCycleKeepsInsertionOrder() {
+        TimerWheel wheel = new TimerWheel();
+        SimulationEvent first = event(5000);
+        wheel.schedule(first);
+        CustomList<SimulationEvent> out = new CustomList<>();
+        wheel.advanceTo(4990, out);
+        SimulationEvent second = event(5000);
+        wheel.schedule(second);
+        wheel.advanceTo(5000, out);
+        assertEquals(2, out.size());
+        assertSame(first, out.get(0));
+        assertSame(second, out.get(1));
+    }
+
+    @Test
+    public void cancelledEventsAreSkipped() {
+        TimerWheel wheel = new TimerWheel();
+        SimulationEvent cancelled = event(10);
+        SimulationEvent kept = event(20);
+        wheel.schedule(cancelled);
+        wheel.schedule(kept);
+        cancelled.cancel();
+        assertEquals(20, wheel.nextDeadline());
+        CustomList<SimulationEvent> out = new CustomList<>();
+        wheel.advanceTo(100, out);
+        assertEquals(1, out.size());
+        assertSame(kept, out.get(0));
+        assertEquals(Long.MAX_VALUE, wheel.nextDeadline());
+    }
+
+    @Test
+    public void farDeadlinesWaitInOverflow() {
+        TimerWheel wheel = new TimerWheel(3);
+        long far = (1L << 26) + 17;
+        SimulationEvent event = event(far);
+        wheel.schedule(event);
+        assertEquals(far, wheel.nextDeadline());
+        CustomList<SimulationEvent> out = new CustomList<>();
+        wheel.advanceTo(far - 1, out);
+        assertTrue(out.isEmpty());
+        wheel.advanceTo(far, out);
+        assertEquals(1, out.size());
+        assertSame(event, out.get(0));
+    }
+
+    @Test
+    public void matchesNaiveSortedListOnRandomOperations() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            long start = random.nextInt(1000);
+            TimerWheel wheel = new TimerWheel(start);
+            NaiveTimers naive = new NaiveTimers();
+            naive.currentTime = start;
+            List<SimulationEvent> live = new ArrayList<>();
+            CustomList<SimulationEvent> out = new CustomList<>();
+
+            for (int step = 0; step < 3000; step++) {
+                int operation = random.nextInt(10);
+                if (operation < 5) {
+                    SimulationEvent event = event(naive.currentTime + randomDelay(random));
+                    wheel.schedule(event);
+                    naive.schedule(event);
+                    live.add(event);
+                } else if (operation < 6 && !live.isEmpty()) {
+                    live.remove(random.nextInt(live.size())).cancel();
+                } else if (operation < 9) {
+                    long target;
+                    if (random.nextBoolean() && naive.nextDeadline() != Long.MAX_VALUE) {
+                        target = Math.max(naive.currentTime, naive.nextDeadline());
+                    } else {
+                        target = naive.currentTime + randomDelay(random);
+                    }
+                    target = Math.max(target, naive.currentTime);
+                    out.clear();
+                    wheel.advanceTo(target, out);
+                    List<SimulationEvent> expected = naive.advanceTo(target);
+                    assertSameEvents("semilla " + seed + " paso " + step, expected, out);
+                    assertEquals(target, wheel.getCurrentTime());
+                    live.removeAll(expected);
+                } else {
+                    out.clear();
+                    wheel.pending(out);
+                    assertSameEvents("pendientes semilla " + seed + " paso " + step, naive.pending(), out);
+                }
+                assertEquals("plazo semilla " + seed + " paso " + step, naive.nextDeadline(), wheel.nextDeadline());
+            }
+        }
+    }
+
+    /**
+     * Retardo desde el ciclo actual: a veces en el pasado, casi siempre cerca
+     * y a veces más allá de los cuatro niveles de la rueda.
+     */
+    private static long randomDelay(Random random) {
+        int kind = random.nextInt(20);
+        if (kind == 0) {
+            return -random.nextInt(5);
+        } else if (kind < 12) {
+            return random.nextInt(100);
+        } else if (kind < 18) {
+            return random.nextInt(10_000);
+        } else if (kind < 19) {
+            return random.nextInt(1 << 20);
+        }
+        return random.nextInt(1 << 26);
+    }
+
+    private static SimulationEvent event(long cycle) {
+        return new SimulationEvent(cycle, SimulationEventType.IO_COMPLETION, 0);
+    }
+
+    private static void assertSameEvents(String message, List<SimulationEvent> expected, CustomList<SimulationEvent> actual) {
+        assertEquals(message + " (cantidad)", expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(message + " (posición " + i + ")", expected.get(i), actual.get(i));
+        }
+    }
+}